@@ -2,7 +2,6 @@ package com.dabom.boardcomment.model.dto;
 
 import com.dabom.boardcomment.model.entity.BoardComment;
 import com.dabom.member.security.dto.MemberDetailsDto;
-import com.dabom.member.service.MemberService;
 import lombok.Builder;
 import lombok.Getter;
 
@@ -21,12 +20,12 @@ public class BoardCommentResponseDto {
     private String name;
     private String profileImg;
 
-    public static BoardCommentResponseDto from(BoardComment entity, MemberDetailsDto memberDetailsDto, MemberService memberService) {
+    // profileImgUrl 은 서비스에서 MemberProfileResolver 로 미리 조회해 넘긴다
+    public static BoardCommentResponseDto from(BoardComment entity, MemberDetailsDto memberDetailsDto, String profileImgUrl) {
         DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
 
-        String profileImgUrl = "https://via.placeholder.com/32";
-        if (memberService != null) {
-            profileImgUrl = memberService.getProfileImg(entity.getChannel().getIdx());
+        if (profileImgUrl == null) {
+            profileImgUrl = "https://via.placeholder.com/32";
         }
 
         return BoardCommentResponseDto.builder()
@@ -44,12 +43,12 @@ public class BoardCommentResponseDto {
 
     @Deprecated
     public static BoardCommentResponseDto from(BoardComment entity, MemberDetailsDto memberDetailsDto) {
-        return from(entity, memberDetailsDto, null); // memberService를 null로 전달
+        return from(entity, memberDetailsDto, (String) null); // 프로필 이미지 없이 생성
     }
 
     @Deprecated
     public static BoardCommentResponseDto from(BoardComment entity) {
-        return from(entity, null, null); // 모든 파라미터를 null로 전달
+        return from(entity, null, (String) null); // 모든 파라미터를 null로 전달
     }
 
     private static Boolean checkUserLikes(BoardComment entity, MemberDetailsDto memberDetailsDto) {
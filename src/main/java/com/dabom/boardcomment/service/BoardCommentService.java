@@ -12,7 +12,7 @@ import com.dabom.common.SliceBaseResponse;
 import com.dabom.member.model.entity.Member;
 import com.dabom.member.repository.MemberRepository;
 import com.dabom.member.security.dto.MemberDetailsDto;
-import com.dabom.member.service.MemberService;
+import com.dabom.member.service.MemberProfileResolver;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -20,6 +20,7 @@ import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
+import java.util.Map;
 
 @Service
 @RequiredArgsConstructor
@@ -28,7 +29,7 @@ public class BoardCommentService {
     private final BoardCommentRepository boardCommentRepository;
     private final ChannelBoardRepository channelBoardRepository;
     private final MemberRepository memberRepository;
-    private final MemberService memberService; // 추가된 의존성
+    private final MemberProfileResolver memberProfileResolver;
 
     public Integer create(BoardCommentCreateRequestDto dto, Integer boardIdx, MemberDetailsDto memberDetailsDto) {
         ChannelBoard board = channelBoardRepository.findById(boardIdx)
@@ -74,9 +75,7 @@ public class BoardCommentService {
                         .findByChannelBoard_IdxAndIsDeletedFalseOrderByIdxAsc(boardIdx);
         }
 
-        return comments.stream()
-                .map(comment -> BoardCommentResponseDto.from(comment, memberDetailsDto, memberService))
-                .toList();
+        return toResponses(comments, memberDetailsDto);
     }
 
     public BoardCommentResponseDto update(Integer boardCommentIdx, BoardCommentCreateRequestDto dto, MemberDetailsDto memberDetailsDto) {
@@ -85,7 +84,8 @@ public class BoardCommentService {
 
         comment.updateContent(dto.getContent());
         BoardComment updatedComment = boardCommentRepository.save(comment);
-        return BoardCommentResponseDto.from(updatedComment, memberDetailsDto, memberService);
+        return BoardCommentResponseDto.from(updatedComment, memberDetailsDto,
+                memberProfileResolver.resolve(updatedComment.getChannel().getIdx()));
     }
 
     public SliceBaseResponse<BoardCommentResponseDto> getPagedComments(
@@ -106,12 +106,20 @@ public class BoardCommentService {
                 break;
         }
 
-        List<BoardCommentResponseDto> content = commentSlice.getContent()
-                .stream()
-                .map(comment -> BoardCommentResponseDto.from(comment, memberDetailsDto, memberService))
-                .toList();
+        List<BoardCommentResponseDto> content = toResponses(commentSlice.getContent(), memberDetailsDto);
 
         long totalCount = boardCommentRepository.countByChannelBoard_IdxAndIsDeletedFalse(boardIdx);
         return new SliceBaseResponse<BoardCommentResponseDto>(content, commentSlice.hasNext(), totalCount);
     }
-}
\ No newline at end of file
+
+    // 작성자 프로필은 목록 단위로 한 번에 조회한다
+    private List<BoardCommentResponseDto> toResponses(List<BoardComment> comments, MemberDetailsDto memberDetailsDto) {
+        Map<Integer, String> profiles = memberProfileResolver.resolveAll(comments.stream()
+                .map(comment -> comment.getChannel().getIdx())
+                .toList());
+        return comments.stream()
+                .map(comment -> BoardCommentResponseDto.from(comment, memberDetailsDto,
+                        profiles.get(comment.getChannel().getIdx())))
+                .toList();
+    }
+}
@@ -73,7 +73,9 @@ public class ChatController {
         return ResponseEntity.ok(BaseResponse.of(response, HttpStatus.OK));
     }
 
-    @Operation(summary = "채팅 내용 조회", description = "특정 채팅방의 메시지 목록을 조회합니다.")
+    @Operation(summary = "채팅 내용 조회", description = "특정 채팅방의 메시지 목록을 조회합니다. " +
+            "before 를 주면 그 메시지보다 이전, after 를 주면 그 이후 메시지를 오래된 순으로 반환합니다. " +
+            "더 이전 메시지는 응답의 nextCursor 를 before 로 넘겨 이어서 조회합니다.")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "메시지 조회 성공",
                     content = @Content(mediaType = "application/json",
@@ -83,12 +85,12 @@ public class ChatController {
     @GetMapping("/read/{room_idx}")
     public ResponseEntity<BaseResponse<SliceBaseResponse<ChatRoomReadResponseDto>>> readRoom(
             @PathVariable("room_idx") Long roomIdx,
-            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(required = false) Long before,
+            @RequestParam(required = false) Long after,
             @RequestParam(defaultValue = "20") int size,
             Principal principal) {
         Integer memberIdx = chatService.getMember(principal);
-        System.out.println(memberIdx);
-        SliceBaseResponse<ChatRoomReadResponseDto> result = chatService.readRoom(roomIdx, memberIdx, page, size);
+        SliceBaseResponse<ChatRoomReadResponseDto> result = chatService.readRoom(roomIdx, memberIdx, before, after, size);
         return ResponseEntity.ok(BaseResponse.of(result, HttpStatus.OK));
     }
 
@@ -1,6 +1,8 @@
 package com.dabom.chat.controller;
 
 import com.dabom.chat.model.dto.ChatMessageDto;
+import com.dabom.chat.model.dto.ChatReadRequestDto;
+import com.dabom.chat.serivce.AsyncChatSender;
 import com.dabom.chat.serivce.ChatService;
 import com.dabom.member.security.dto.MemberDetailsDto;
 import lombok.RequiredArgsConstructor;
@@ -20,6 +22,7 @@ public class StompChatController {
 
     private final SimpMessagingTemplate template;
     private final ChatService chatService;
+    private final AsyncChatSender asyncChatSender;
 
     @MessageMapping(value = "/chat/send")
     public void message(@Payload ChatMessageDto message,
@@ -31,6 +34,12 @@ public class StompChatController {
         Authentication authentication = (Authentication) principal;
         MemberDetailsDto memberDetailsDto = (MemberDetailsDto) authentication.getPrincipal();
 
+        // 비동기 저장 모드: idx 만 받아 바로 전송하고 저장은 나중에 묶어서 한다
+        if (asyncChatSender.isEnabled()) {
+            asyncChatSender.send(message, memberDetailsDto);
+            return;
+        }
+
         ChatMessageDto savedMessage = chatService.sendMessage(message, memberDetailsDto);
 
         System.out.println(message.getRecipientIdx());
@@ -50,4 +59,14 @@ public class StompChatController {
                 savedMessage
         );
     }
+
+    // 상대방에게는 /user/queue/read-receipts 로 읽음 알림이 간다
+    @MessageMapping(value = "/chat/read")
+    public void read(@Payload ChatReadRequestDto request,
+                     Principal principal) {
+        Authentication authentication = (Authentication) principal;
+        MemberDetailsDto memberDetailsDto = (MemberDetailsDto) authentication.getPrincipal();
+
+        chatService.markRead(request.getRoomIdx(), memberDetailsDto.getIdx(), request.getChatIdx());
+    }
 }
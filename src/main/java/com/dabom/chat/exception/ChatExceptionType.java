@@ -9,7 +9,8 @@ public enum ChatExceptionType implements ExceptionType {
     UNAUTHORIZED_ACCESS(HttpStatus.FORBIDDEN, "해당 채팅방에 대한 권한이 없습니다."),
     SENDER_NOT_FOUND(HttpStatus.NOT_FOUND, "메시지 발신자 정보를 찾을 수 없습니다."),
     MEMBER_NOT_FOUND(HttpStatus.NOT_FOUND, "해당 멤버를 찾을 수 없습니다."),
-    CANNOT_CHAT_WITH_SELF(HttpStatus.BAD_REQUEST, "자기 자신과 채팅할 수 없습니다.");
+    CANNOT_CHAT_WITH_SELF(HttpStatus.BAD_REQUEST, "자기 자신과 채팅할 수 없습니다."),
+    CHAT_BACKLOG_FULL(HttpStatus.SERVICE_UNAVAILABLE, "메시지가 많아 저장이 밀리고 있습니다. 잠시 후 다시 보내 주세요.");
 
     private final HttpStatus httpStatus;
     private final String message;
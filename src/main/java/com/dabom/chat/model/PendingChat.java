@@ -0,0 +1,8 @@
+package com.dabom.chat.model;
+
+import java.time.LocalDateTime;
+
+// 비동기 저장 모드에서 idx 를 먼저 받고 아직 DB 에 쓰지 않은 메시지 (AsyncChatWriter)
+public record PendingChat(Long idx, Long roomIdx, Integer senderIdx, Integer recipientIdx,
+                          String message, LocalDateTime createdAt) {
+}
@@ -1,5 +1,6 @@
 package com.dabom.chat.model.dto;
 
+import com.dabom.chat.model.PendingChat;
 import com.dabom.chat.model.entity.Chat;
 import com.dabom.common.BaseEntity;
 import lombok.Builder;
@@ -12,6 +13,7 @@ import java.time.LocalDateTime;
 @Builder
 @ToString // Add this line
 public class ChatMessageDto extends BaseEntity {
+    private Long idx;           // chat idx (읽음 위치/이어 읽기 기준)
     private Long roomIdx;
     private Integer senderIdx;
     private String senderName;
@@ -22,15 +24,36 @@ public class ChatMessageDto extends BaseEntity {
     private LocalDateTime createdAt;
 
 
+    // 방금 보낸 메시지 (아직 안 읽음)
     public static ChatMessageDto fromEntity(Chat entity) {
+        return fromEntity(entity, false);
+    }
+
+    // 비동기 저장 모드에서 DB 에 쓰기 전에 보내는 메시지
+    public static ChatMessageDto fromPending(PendingChat chat, String senderName) {
+        return ChatMessageDto.builder()
+                .idx(chat.idx())
+                .roomIdx(chat.roomIdx())
+                .senderIdx(chat.senderIdx())
+                .senderName(senderName)
+                .recipientIdx(chat.recipientIdx())
+                .message(chat.message())
+                .isRead(false)
+                .createdAt(chat.createdAt())
+                .build();
+    }
+
+    // isRead 는 받는 사람의 읽음 위치(ChatRoom.lastReadChatIdxOf)로 정한다
+    public static ChatMessageDto fromEntity(Chat entity, boolean isRead) {
         return ChatMessageDto.builder()
+                .idx(entity.getIdx())
                 .roomIdx(entity.getRoom().getIdx())
                 .senderIdx(entity.getSender().getIdx())
                 .senderName(entity.getSender().getName())
                 .recipientIdx(entity.getRecipient().getIdx())
                 
                 .message(entity.getMessage())
-                .isRead(entity.getIsRead())
+                .isRead(isRead)
                 .createdAt(entity.getCreatedAt())
                 .build();
     }
@@ -0,0 +1,13 @@
+package com.dabom.chat.model.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+// 상대방에게 보내는 읽음 알림. lastReadChatIdx 이하의 내 메시지는 모두 읽힌 것
+@Getter
+@Builder
+public class ChatReadReceiptDto {
+    private Long roomIdx;
+    private Integer readerIdx;
+    private Long lastReadChatIdx;
+}
@@ -0,0 +1,14 @@
+package com.dabom.chat.model.dto;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+// STOMP /chat/read. 화면에 표시한 마지막 메시지까지 읽음 처리한다
+@Getter
+@ToString
+@NoArgsConstructor
+public class ChatReadRequestDto {
+    private Long roomIdx;
+    private Long chatIdx;
+}
@@ -1,6 +1,5 @@
 package com.dabom.chat.model.dto;
 
-import com.dabom.chat.model.entity.Chat;
 import com.dabom.chat.model.entity.ChatRoom;
 import com.dabom.common.BaseEntity;
 import lombok.Builder;
@@ -23,7 +22,9 @@ public class ChatRoomListResponseDto extends BaseEntity {
     private long unreadCount; // 안 읽은 메시지 수
     private Boolean isDeleted;
 
-    public static ChatRoomListResponseDto fromEntity(ChatRoom chatRoom, Chat lastChat, long unreadCount, String opponentProfileImg) {
+    // 요약 컬럼(ChatRoom.last*, member*UnreadCount)만 쓴다. 메시지 테이블은 읽지 않는다
+    public static ChatRoomListResponseDto fromEntity(ChatRoom chatRoom, Integer memberIdx, String opponentProfileImg) {
+        boolean hasMessage = chatRoom.getLastChatIdx() != null;
         return ChatRoomListResponseDto.builder()
                 .idx(chatRoom.getIdx())
                 .member1Idx(chatRoom.getMember1().getIdx())
@@ -31,10 +32,10 @@ public class ChatRoomListResponseDto extends BaseEntity {
                 .member2Idx(chatRoom.getMember2().getIdx())
                 .member2Name(chatRoom.getMember2().getName())
                 .opponentProfileImg(opponentProfileImg)
-                .lastMessage(lastChat != null ? lastChat.getMessage() : null)
-                .isLastMessageRead(lastChat != null ? lastChat.getIsRead() : null)
-                .lastMessageTime(lastChat != null ? lastChat.getCreatedAt() : null)
-                .unreadCount(unreadCount)
+                .lastMessage(chatRoom.getLastMessage())
+                .isLastMessageRead(chatRoom.isLastMessageRead())
+                .lastMessageTime(hasMessage ? chatRoom.getLastActivityAt() : null)
+                .unreadCount(chatRoom.unreadCountOf(memberIdx))
                 .isDeleted(chatRoom.getIsDeleted())
                 .build();
     }
@@ -12,6 +12,10 @@ import lombok.NoArgsConstructor;
 
 @Entity
 @Getter
+@Table(indexes = {
+        @Index(name = "idx_chat_room_deleted_idx", columnList = "room_idx, is_deleted, idx"),
+        @Index(name = "idx_chat_room_recipient_idx", columnList = "room_idx, recipient_idx, idx")
+})
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Chat extends BaseEntity {
 
@@ -37,6 +41,7 @@ public class Chat extends BaseEntity {
     @Column(nullable = false)
     private Boolean isDeleted = false;
 
+    // 읽음은 ChatRoom 의 memberN_last_read_chat_idx 로 본다. 이 값은 이전 데이터 백필에만 쓴다
     @Column(nullable = false)
     private Boolean isRead = false;
 
@@ -48,10 +53,6 @@ public class Chat extends BaseEntity {
         this.recipient = recipient;
     }
 
-    public void markAsRead() {
-        this.isRead = true;
-    }
-
     public void deleteMessage() {
         this.isDeleted = true;
     }
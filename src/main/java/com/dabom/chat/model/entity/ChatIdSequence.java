@@ -0,0 +1,26 @@
+package com.dabom.chat.model.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 비동기 저장 모드의 chat idx 예약 상한 (hi/lo). ChatIdAllocator 가 블록 단위로 미리 올려 두고 그 안에서만 발급한다.
+// 재시작해도 이 값 아래로는 내려가지 않아서, 전송됐지만 저장 전에 죽은 idx 를 다시 쓰지 않는다.
+// 읽고 쓰기는 ChatBatchRepository(JdbcTemplate) 로 한다
+@Getter
+@Entity
+@Table(name = "chat_id_sequence")
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ChatIdSequence {
+
+    @Id
+    @Column(length = 32)
+    private String name;
+
+    @Column(nullable = false)
+    private Long hi;                // 지금까지 예약한 마지막 idx
+}
@@ -8,11 +8,19 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
+import java.time.LocalDateTime;
+
 @Getter
 @Entity
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(indexes = {
+        @Index(name = "idx_chat_room_member1_activity", columnList = "member1_idx, is_deleted, last_activity_at"),
+        @Index(name = "idx_chat_room_member2_activity", columnList = "member2_idx, is_deleted, last_activity_at")
+})
 public class ChatRoom extends BaseEntity {
 
+    public static final int LAST_MESSAGE_PREVIEW_LENGTH = 255;
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long idx;
@@ -28,13 +36,64 @@ public class ChatRoom extends BaseEntity {
     @Column(nullable = false)
     private Boolean isDeleted = false;
 
+    // ===== 목록용 요약. ChatRoomRepository 의 UPDATE 로만 바꾼다 (엔티티 저장 시 덮어쓰지 않게) ===== //
+    @Column(updatable = false)
+    private Long lastChatIdx;
+    @Column(updatable = false, length = LAST_MESSAGE_PREVIEW_LENGTH)
+    private String lastMessage;
+    @Column(updatable = false)
+    private Integer lastSenderIdx;
+    @Column(updatable = false)
+    private LocalDateTime lastActivityAt; // 마지막 메시지 시각 (메시지가 없으면 방 생성 시각)
+    @Column(nullable = false, updatable = false)
+    private Integer member1UnreadCount = 0;
+    @Column(nullable = false, updatable = false)
+    private Integer member2UnreadCount = 0;
+    @Column(updatable = false)
+    private Long member1LastReadChatIdx = 0L; // 여기까지(chat idx) 읽음
+    @Column(updatable = false)
+    private Long member2LastReadChatIdx = 0L;
+
     @Builder
     public ChatRoom(Member member1, Member member2) {
         this.member1 = member1;
         this.member2 = member2;
+        this.lastActivityAt = LocalDateTime.now();
     }
 
     public void deleteRoom() {
         this.isDeleted = true;
     }
-}
\ No newline at end of file
+
+    public boolean hasMember(Integer memberIdx) {
+        return member1.getIdx().equals(memberIdx) || member2.getIdx().equals(memberIdx);
+    }
+
+    public Member opponentOf(Integer memberIdx) {
+        return member1.getIdx().equals(memberIdx) ? member2 : member1;
+    }
+
+    public int unreadCountOf(Integer memberIdx) {
+        return member1.getIdx().equals(memberIdx) ? member1UnreadCount : member2UnreadCount;
+    }
+
+    public long lastReadChatIdxOf(Integer memberIdx) {
+        Long lastRead = member1.getIdx().equals(memberIdx) ? member1LastReadChatIdx : member2LastReadChatIdx;
+        return lastRead == null ? 0L : lastRead;
+    }
+
+    // 마지막 메시지를 받은 쪽의 읽음 위치가 그 메시지까지 왔으면 읽은 것
+    public Boolean isLastMessageRead() {
+        if (lastChatIdx == null) {
+            return null;
+        }
+        return lastChatIdx <= lastReadChatIdxOf(opponentOf(lastSenderIdx).getIdx());
+    }
+
+    public static String preview(String message) {
+        if (message == null || message.length() <= LAST_MESSAGE_PREVIEW_LENGTH) {
+            return message;
+        }
+        return message.substring(0, LAST_MESSAGE_PREVIEW_LENGTH);
+    }
+}
@@ -0,0 +1,114 @@
+package com.dabom.chat.repository;
+
+import com.dabom.chat.model.PendingChat;
+import com.dabom.chat.model.entity.ChatRoom;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+// 비동기 저장 모드의 채팅 메시지를 JPA 엔티티를 거치지 않고 여러 행 INSERT 한 번으로 쓴다
+@Repository
+@RequiredArgsConstructor
+public class ChatBatchRepository {
+
+    private static final String INSERT_PREFIX = "INSERT INTO chat " +
+            "(idx, room_idx, sender_idx, recipient_idx, message, is_deleted, is_read, created_at, updated_at) VALUES ";
+    private static final String INSERT_ROW = "(?, ?, ?, ?, ?, FALSE, FALSE, ?, ?)";
+    // 재시도 때 이미 들어간 행은 그대로 둔다 (idx 는 미리 정해져 있다)
+    private static final String INSERT_SUFFIX = " ON DUPLICATE KEY UPDATE idx = idx";
+
+    // 방 요약 갱신. 안 읽음 수는 읽음 위치 뒤의 받은 메시지를 (room_idx, recipient_idx, idx) 인덱스로 다시 센다.
+    // MariaDB 는 SET 을 왼쪽부터 적용하므로 last_chat_idx 는 요약 컬럼 뒤에서 바꾼다
+    private static final String UPDATE_ROOM_SUMMARY_SQL = "UPDATE chat_room cr SET " +
+            "cr.last_message = IF(? > COALESCE(cr.last_chat_idx, 0), ?, cr.last_message), " +
+            "cr.last_sender_idx = IF(? > COALESCE(cr.last_chat_idx, 0), ?, cr.last_sender_idx), " +
+            "cr.last_activity_at = IF(? > COALESCE(cr.last_chat_idx, 0), ?, cr.last_activity_at), " +
+            "cr.last_chat_idx = GREATEST(COALESCE(cr.last_chat_idx, 0), ?), " +
+            "cr.member1_unread_count = (SELECT COUNT(*) FROM chat c WHERE c.room_idx = cr.idx " +
+            "AND c.recipient_idx = cr.member1_idx AND c.idx > COALESCE(cr.member1_last_read_chat_idx, 0) " +
+            "AND c.is_deleted = FALSE), " +
+            "cr.member2_unread_count = (SELECT COUNT(*) FROM chat c WHERE c.room_idx = cr.idx " +
+            "AND c.recipient_idx = cr.member2_idx AND c.idx > COALESCE(cr.member2_last_read_chat_idx, 0) " +
+            "AND c.is_deleted = FALSE) " +
+            "WHERE cr.idx = ?";
+
+    private static final String CHAT_SEQUENCE_NAME = "chat";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public long findMaxChatIdx() {
+        Long max = jdbcTemplate.queryForObject("SELECT MAX(idx) FROM chat", Long.class);
+        return max == null ? 0L : max;
+    }
+
+    // idx 블록 예약. 예약한 블록의 시작 직전 값을 돌려주고 상한은 blockSize 만큼 올린다.
+    // 발급보다 먼저 커밋돼야 하므로 호출한 쪽 트랜잭션과 따로 커밋한다.
+    // 동기 저장 모드로 쌓인 메시지가 상한을 넘었을 수 있어 chat 최대 idx 와 비교한다
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public long reserveChatIdBlock(int blockSize) {
+        jdbcTemplate.update("INSERT IGNORE INTO chat_id_sequence (name, hi) VALUES (?, 0)", CHAT_SEQUENCE_NAME);
+        Long hi = jdbcTemplate.queryForObject(
+                "SELECT hi FROM chat_id_sequence WHERE name = ? FOR UPDATE", Long.class, CHAT_SEQUENCE_NAME);
+        long from = Math.max(hi == null ? 0L : hi, findMaxChatIdx());
+        jdbcTemplate.update("UPDATE chat_id_sequence SET hi = ? WHERE name = ?", from + blockSize, CHAT_SEQUENCE_NAME);
+        return from;
+    }
+
+    // 메시지 INSERT 와 방 요약 갱신은 한 트랜잭션
+    @Transactional
+    public void saveAll(List<PendingChat> chats) {
+        if (chats.isEmpty()) {
+            return;
+        }
+        insertAll(chats);
+        updateRoomSummaries(chats);
+    }
+
+    // ===== ===== //
+    private void insertAll(List<PendingChat> chats) {
+        StringBuilder sql = new StringBuilder(INSERT_PREFIX);
+        List<Object> args = new ArrayList<>(chats.size() * 7);
+        for (int i = 0; i < chats.size(); i++) {
+            PendingChat chat = chats.get(i);
+            sql.append(i == 0 ? "" : ", ").append(INSERT_ROW);
+            Timestamp createdAt = Timestamp.valueOf(chat.createdAt());
+            args.add(chat.idx());
+            args.add(chat.roomIdx());
+            args.add(chat.senderIdx());
+            args.add(chat.recipientIdx());
+            args.add(chat.message());
+            args.add(createdAt);
+            args.add(createdAt);
+        }
+        sql.append(INSERT_SUFFIX);
+        jdbcTemplate.update(sql.toString(), args.toArray());
+    }
+
+    // 방마다 이번 묶음의 마지막 메시지로 한 번만 갱신한다. room idx 순서로 잠가 데드락을 피한다
+    private void updateRoomSummaries(List<PendingChat> chats) {
+        Map<Long, PendingChat> lastByRoom = new TreeMap<>();
+        for (PendingChat chat : chats) {
+            lastByRoom.merge(chat.roomIdx(), chat, (a, b) -> a.idx() > b.idx() ? a : b);
+        }
+
+        List<Object[]> args = new ArrayList<>(lastByRoom.size());
+        for (PendingChat last : lastByRoom.values()) {
+            Timestamp sentAt = Timestamp.valueOf(last.createdAt());
+            args.add(new Object[]{
+                    last.idx(), ChatRoom.preview(last.message()),
+                    last.idx(), last.senderIdx(),
+                    last.idx(), sentAt,
+                    last.idx(),
+                    last.roomIdx()});
+        }
+        jdbcTemplate.batchUpdate(UPDATE_ROOM_SUMMARY_SQL, args);
+    }
+}
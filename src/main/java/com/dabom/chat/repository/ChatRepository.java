@@ -7,19 +7,13 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
-import java.util.Optional;
-
 public interface ChatRepository extends JpaRepository<Chat, Long> {
-    @Query("SELECT c FROM Chat c WHERE c.room.idx = :roomIdx AND c.isDeleted = false ORDER BY c.createdAt ASC")
-    Slice<Chat> findByRoomIdxAndIsDeleted(@Param("roomIdx") Long roomIdx, Pageable pageable);
-
-    @Query("SELECT c FROM Chat c WHERE c.room.idx = :roomIdx AND c.isDeleted = false ORDER BY c.createdAt DESC LIMIT 1")
-    Optional<Chat> findTopByRoomIdxAndIsDeletedOrderByCreatedAtDesc(@Param("roomIdx") Long roomIdx);
-
-    @Query("SELECT COUNT(c) FROM Chat c WHERE c.room.idx = :roomIdx AND c.isDeleted = false")
-    long countByRoomIdxAndIsDeleted(@Param("roomIdx") Long roomIdx);
 
-    @Query("SELECT COUNT(c) FROM Chat c WHERE c.room.idx = :roomIdx AND c.isDeleted = false AND c.isRead = false AND c.recipient.idx = :memberIdx")
-    long countUnreadByRoomIdxAndMemberIdx(@Param("roomIdx") Long roomIdx, @Param("memberIdx") Integer memberIdx);
+    // 이전 메시지 (idx < before, 최신순). (room_idx, is_deleted, idx) 인덱스를 거꾸로 읽는다
+    @Query("SELECT c FROM Chat c WHERE c.room.idx = :roomIdx AND c.isDeleted = false AND c.idx < :before ORDER BY c.idx DESC")
+    Slice<Chat> findHistoryBefore(@Param("roomIdx") Long roomIdx, @Param("before") Long before, Pageable pageable);
 
+    // 이후 메시지 (idx > after, 오래된 순). 재연결 후 빠진 메시지를 채울 때 쓴다
+    @Query("SELECT c FROM Chat c WHERE c.room.idx = :roomIdx AND c.isDeleted = false AND c.idx > :after ORDER BY c.idx ASC")
+    Slice<Chat> findHistoryAfter(@Param("roomIdx") Long roomIdx, @Param("after") Long after, Pageable pageable);
 }
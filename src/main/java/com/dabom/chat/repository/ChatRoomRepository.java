@@ -3,19 +3,87 @@ package com.dabom.chat.repository;
 import com.dabom.chat.model.entity.ChatRoom;
 import com.dabom.member.model.entity.Member;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
 public interface ChatRoomRepository extends JpaRepository<ChatRoom,Long> {
 
+    // 목록은 요약 컬럼만 읽는다. (member, is_deleted, last_activity_at) 인덱스 두 개를 쓴다
     @Query("SELECT cr FROM ChatRoom cr " +
+            "JOIN FETCH cr.member1 JOIN FETCH cr.member2 " +
             "WHERE (cr.member1.idx = :memberIdx OR cr.member2.idx = :memberIdx) " +
-            "AND cr.isDeleted = false")
+            "AND cr.isDeleted = false " +
+            "ORDER BY cr.lastActivityAt DESC, cr.idx DESC")
     List<ChatRoom> findAllByMemberIdxAndIsDeleted(@Param("memberIdx") Integer memberIdx);
     Optional<ChatRoom> findByMember1AndMember2OrMember2AndMember1(Member member1, Member member2, Member member3, Member member4);
 
+    // 새 메시지 반영. 행 잠금 안에서 받는 쪽 안 읽음 수를 더하고(이미 읽음 위치 뒤면 제외), 더 최신 메시지일 때만 요약을 바꾼다.
+    // MariaDB 는 SET 을 왼쪽부터 적용하므로 last_chat_idx 는 맨 뒤에서 바꾼다
+    @Modifying
+    @Query(value = "UPDATE chat_room SET " +
+            "last_message = IF(:chatIdx > COALESCE(last_chat_idx, 0), :message, last_message), " +
+            "last_sender_idx = IF(:chatIdx > COALESCE(last_chat_idx, 0), :senderIdx, last_sender_idx), " +
+            "last_activity_at = IF(:chatIdx > COALESCE(last_chat_idx, 0), :sentAt, last_activity_at), " +
+            "last_chat_idx = GREATEST(COALESCE(last_chat_idx, 0), :chatIdx), " +
+            "member1_unread_count = member1_unread_count + " +
+            "IF(member1_idx = :recipientIdx AND :chatIdx > COALESCE(member1_last_read_chat_idx, 0), 1, 0), " +
+            "member2_unread_count = member2_unread_count + " +
+            "IF(member2_idx = :recipientIdx AND :chatIdx > COALESCE(member2_last_read_chat_idx, 0), 1, 0) " +
+            "WHERE idx = :roomIdx",
+            nativeQuery = true)
+    int applyNewMessage(@Param("roomIdx") Long roomIdx, @Param("chatIdx") Long chatIdx,
+                        @Param("message") String message, @Param("senderIdx") Integer senderIdx,
+                        @Param("recipientIdx") Integer recipientIdx, @Param("sentAt") LocalDateTime sentAt);
 
+    // 읽음 위치를 upTo 까지 올린다. 최신 메시지까지 읽었으면 안 읽음 수는 0,
+    // 아니면 읽음 위치 뒤의 받은 메시지 수를 (room_idx, recipient_idx, idx) 인덱스 범위로 다시 센다
+    @Modifying
+    @Query(value = "UPDATE chat_room SET " +
+            "member1_unread_count = IF(member1_idx = :memberIdx, " +
+            "IF(:upTo >= COALESCE(last_chat_idx, 0), 0, (SELECT COUNT(*) FROM chat c WHERE c.room_idx = :roomIdx " +
+            "AND c.recipient_idx = :memberIdx AND c.idx > :upTo AND c.is_deleted = FALSE)), member1_unread_count), " +
+            "member1_last_read_chat_idx = IF(member1_idx = :memberIdx, " +
+            "GREATEST(COALESCE(member1_last_read_chat_idx, 0), :upTo), member1_last_read_chat_idx), " +
+            "member2_unread_count = IF(member2_idx = :memberIdx, " +
+            "IF(:upTo >= COALESCE(last_chat_idx, 0), 0, (SELECT COUNT(*) FROM chat c WHERE c.room_idx = :roomIdx " +
+            "AND c.recipient_idx = :memberIdx AND c.idx > :upTo AND c.is_deleted = FALSE)), member2_unread_count), " +
+            "member2_last_read_chat_idx = IF(member2_idx = :memberIdx, " +
+            "GREATEST(COALESCE(member2_last_read_chat_idx, 0), :upTo), member2_last_read_chat_idx) " +
+            "WHERE idx = :roomIdx",
+            nativeQuery = true)
+    int markRead(@Param("roomIdx") Long roomIdx, @Param("memberIdx") Integer memberIdx, @Param("upTo") Long upTo);
+
+    // 요약 컬럼이 새로 생긴 경우 기존 메시지로 한 번 채운다
+    @Modifying
+    @Query(value = "UPDATE chat_room cr " +
+            "LEFT JOIN (SELECT room_idx, MAX(idx) AS last_idx FROM chat WHERE is_deleted = FALSE GROUP BY room_idx) l " +
+            "ON l.room_idx = cr.idx " +
+            "LEFT JOIN chat c ON c.idx = l.last_idx " +
+            "SET cr.last_chat_idx = c.idx, " +
+            "cr.last_message = LEFT(c.message, " + ChatRoom.LAST_MESSAGE_PREVIEW_LENGTH + "), " +
+            "cr.last_sender_idx = c.sender_idx, " +
+            "cr.last_activity_at = COALESCE(c.created_at, cr.created_at), " +
+            "cr.member1_unread_count = (SELECT COUNT(*) FROM chat u WHERE u.room_idx = cr.idx " +
+            "AND u.is_deleted = FALSE AND u.is_read = FALSE AND u.recipient_idx = cr.member1_idx), " +
+            "cr.member2_unread_count = (SELECT COUNT(*) FROM chat u WHERE u.room_idx = cr.idx " +
+            "AND u.is_deleted = FALSE AND u.is_read = FALSE AND u.recipient_idx = cr.member2_idx) " +
+            "WHERE cr.last_activity_at IS NULL",
+            nativeQuery = true)
+    int backfillSummaries();
+
+    // 읽음 위치 컬럼이 새로 생긴 경우 메시지별 is_read 로 한 번 채운다
+    @Modifying
+    @Query(value = "UPDATE chat_room cr SET " +
+            "cr.member1_last_read_chat_idx = COALESCE((SELECT MAX(u.idx) FROM chat u WHERE u.room_idx = cr.idx " +
+            "AND u.recipient_idx = cr.member1_idx AND u.is_read = TRUE), 0), " +
+            "cr.member2_last_read_chat_idx = COALESCE((SELECT MAX(u.idx) FROM chat u WHERE u.room_idx = cr.idx " +
+            "AND u.recipient_idx = cr.member2_idx AND u.is_read = TRUE), 0) " +
+            "WHERE cr.member1_last_read_chat_idx IS NULL OR cr.member2_last_read_chat_idx IS NULL",
+            nativeQuery = true)
+    int backfillReadWatermarks();
 }
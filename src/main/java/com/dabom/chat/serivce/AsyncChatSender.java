@@ -0,0 +1,71 @@
+package com.dabom.chat.serivce;
+
+import com.dabom.chat.exception.ChatException;
+import com.dabom.chat.exception.ChatExceptionType;
+import com.dabom.chat.model.PendingChat;
+import com.dabom.chat.model.dto.ChatMessageDto;
+import com.dabom.member.security.dto.MemberDetailsDto;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+
+// 비동기 저장 모드 (app.chat.async-persist.enabled). STOMP 스레드에서는 DB 를 거치지 않는다.
+// idx 발급 -> 저장 버퍼에 넣기 -> 두 참여자에게 전송 순서로 처리하고, 저장은 AsyncChatWriter 가 묶어서 한다.
+// 세 단계를 방별 잠금 안에서 해서 idx 순서 = 버퍼(저장) 순서 = 전송 순서가 되게 한다.
+// 버퍼 넣기는 기다리지 않고(가득 차면 거절), 전송은 인메모리 브로커에 넘기기만 해서 잠금을 오래 잡지 않는다
+@Component
+@RequiredArgsConstructor
+public class AsyncChatSender {
+
+    private static final int ROOM_LOCK_STRIPES = 64;
+
+    private final SimpMessagingTemplate template;
+    private final ChatIdAllocator chatIdAllocator;
+    private final AsyncChatWriter asyncChatWriter;
+    private final ChatRoomParticipantsCache participantsCache;
+
+    @Value("${app.chat.async-persist.enabled}")
+    private boolean enabled;
+
+    private final Object[] roomLocks = createLocks();
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public ChatMessageDto send(ChatMessageDto messageDto, MemberDetailsDto userDetails) {
+        ChatRoomParticipantsCache.Participants participants = participantsCache.get(messageDto.getRoomIdx());
+        Integer senderIdx = userDetails.getIdx();
+        if (!participants.has(senderIdx)) {
+            throw new ChatException(ChatExceptionType.UNAUTHORIZED_ACCESS);
+        }
+        Integer recipientIdx = participants.opponentOf(senderIdx);
+
+        ChatMessageDto sent;
+        synchronized (roomLocks[Math.floorMod(messageDto.getRoomIdx().hashCode(), ROOM_LOCK_STRIPES)]) {
+            PendingChat chat = new PendingChat(chatIdAllocator.next(), messageDto.getRoomIdx(), senderIdx, recipientIdx,
+                    messageDto.getMessage(), LocalDateTime.now());
+            if (!asyncChatWriter.enqueue(chat)) {
+                throw new ChatException(ChatExceptionType.CHAT_BACKLOG_FULL);
+            }
+
+            sent = ChatMessageDto.fromPending(chat, participants.nameOf(senderIdx));
+            template.convertAndSendToUser(recipientIdx.toString(), "/queue/messages", sent);
+            // 보낸 사람에게도 메시지 전송 (UI 동기화)
+            template.convertAndSendToUser(senderIdx.toString(), "/queue/messages", sent);
+        }
+        return sent;
+    }
+
+    // ===== ===== //
+    private static Object[] createLocks() {
+        Object[] locks = new Object[ROOM_LOCK_STRIPES];
+        for (int i = 0; i < locks.length; i++) {
+            locks[i] = new Object();
+        }
+        return locks;
+    }
+}
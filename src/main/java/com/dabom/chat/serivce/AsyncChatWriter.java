@@ -0,0 +1,124 @@
+package com.dabom.chat.serivce;
+
+import com.dabom.chat.model.PendingChat;
+import com.dabom.chat.repository.ChatBatchRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+// 비동기 저장 모드의 write-behind. 보낸 순서대로 크기 제한 버퍼에 쌓고, 주기적으로 batch-size 씩 꺼내
+// 여러 행 INSERT 한 번 + 방 요약 갱신을 한 트랜잭션으로 쓴다.
+// - 같은 방의 메시지는 idx 순서로 버퍼에 들어가고(AsyncChatSender), 꺼낸 순서대로 쓰므로 방 안의 순서가 유지된다
+// - DB 오류면 같은 묶음을 다음 주기에 다시 쓴다. 재시도 중에는 뒤 메시지를 꺼내지 않는다
+// - 특정 행 때문에 실패하면(FK 등) 한 행씩 다시 써서 그 행만 버리고 로그를 남긴다
+// - 종료 시 버퍼를 모두 비운다. 버퍼가 가득 차면 기다리지 않고 바로 거절한다 (보내는 쪽이 방 잠금을 쥐고 넣는다)
+@Slf4j
+@Component
+public class AsyncChatWriter {
+
+    private static final int SHUTDOWN_RETRY_COUNT = 3;
+    private static final long RETRY_BACKOFF_MS = 1000;
+
+    private final ChatBatchRepository chatBatchRepository;
+    private final BlockingQueue<PendingChat> buffer;
+    private final int batchSize;
+
+    private final List<PendingChat> retrying = new ArrayList<>();
+    private long retryAfter;
+
+    public AsyncChatWriter(ChatBatchRepository chatBatchRepository,
+                           @Value("${app.chat.async-persist.capacity}") int capacity,
+                           @Value("${app.chat.async-persist.batch-size}") int batchSize) {
+        this.chatBatchRepository = chatBatchRepository;
+        this.buffer = new ArrayBlockingQueue<>(capacity);
+        this.batchSize = batchSize;
+    }
+
+    // 버퍼에 넣지 못하면 false (보내는 쪽에서 거절한다)
+    public boolean enqueue(PendingChat chat) {
+        return buffer.offer(chat);
+    }
+
+    // 아직 DB 에 쓰지 않은 메시지 수
+    public synchronized int backlog() {
+        return buffer.size() + retrying.size();
+    }
+
+    @Scheduled(fixedDelayString = "${app.chat.async-persist.flush-interval-ms}")
+    public synchronized void flush() {
+        // 실패 직후에는 잠시 쉬었다가 다시 쓴다
+        if (System.currentTimeMillis() < retryAfter) {
+            return;
+        }
+        drainAndWrite();
+    }
+
+    @PreDestroy
+    public synchronized void flushOnShutdown() {
+        for (int attempt = 1; attempt <= SHUTDOWN_RETRY_COUNT && backlog() > 0; attempt++) {
+            drainAndWrite();
+        }
+        int remaining = backlog();
+        if (remaining > 0) {
+            log.error("종료 전 채팅 저장 실패 - 남은 메시지: {}개", remaining);
+            return;
+        }
+        log.info("종료 전 채팅 저장 완료");
+    }
+
+    // ===== ===== //
+    private void drainAndWrite() {
+        while (true) {
+            if (retrying.isEmpty()) {
+                buffer.drainTo(retrying, batchSize);
+            }
+            if (retrying.isEmpty()) {
+                return;
+            }
+            if (!write(retrying)) {
+                retryAfter = System.currentTimeMillis() + RETRY_BACKOFF_MS;
+                return;
+            }
+            retrying.clear();
+        }
+    }
+
+    private boolean write(List<PendingChat> batch) {
+        try {
+            chatBatchRepository.saveAll(batch);
+            log.debug("채팅 저장 - 메시지: {}개", batch.size());
+            return true;
+        } catch (DataIntegrityViolationException e) {
+            log.warn("채팅 묶음 저장 실패, 한 건씩 다시 저장 - 메시지: {}개", batch.size(), e);
+            return writeOneByOne(batch);
+        } catch (Exception e) {
+            log.error("채팅 저장 실패, 다음 주기에 다시 시도 - 메시지: {}개", batch.size(), e);
+            return false;
+        }
+    }
+
+    private boolean writeOneByOne(List<PendingChat> batch) {
+        for (PendingChat chat : batch) {
+            try {
+                chatBatchRepository.saveAll(List.of(chat));
+            } catch (DataIntegrityViolationException e) {
+                // 저장할 수 없는 메시지 (삭제된 방/회원 등). 버리고 내용을 남긴다
+                log.error("채팅 저장 불가, 버림 - idx: {}, 방: {}, 보낸 사람: {}", chat.idx(), chat.roomIdx(), chat.senderIdx(), e);
+            } catch (Exception e) {
+                log.error("채팅 저장 실패, 다음 주기에 다시 시도 - idx: {}", chat.idx(), e);
+                // 이미 처리한 앞부분은 재시도 목록에서 뺀다
+                batch.subList(0, batch.indexOf(chat)).clear();
+                return false;
+            }
+        }
+        return true;
+    }
+}
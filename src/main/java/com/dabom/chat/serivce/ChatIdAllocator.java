@@ -0,0 +1,43 @@
+package com.dabom.chat.serivce;
+
+import com.dabom.chat.repository.ChatBatchRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+// 비동기 저장 모드의 chat idx 발급기 (hi/lo). chat_id_sequence 에 블록 상한을 먼저 커밋하고 그 안에서 1 씩 올린다.
+// 재시작하면 새 블록부터 발급하므로 전송만 되고 저장 전에 죽은 idx 도 다시 쓰지 않는다 (남은 블록은 건너뜀).
+// STOMP 가 인메모리 브로커(simple broker)라 채팅은 한 인스턴스에서만 돈다는 전제다
+@Component
+@RequiredArgsConstructor
+public class ChatIdAllocator {
+
+    private final ChatBatchRepository chatBatchRepository;
+
+    @Value("${app.chat.async-persist.id-block-size}")
+    private int blockSize;
+
+    private final AtomicLong lastIdx = new AtomicLong();
+    private long blockEnd;          // 예약된 마지막 idx (lastIdx 가 여기 닿으면 다음 블록을 예약)
+
+    public synchronized long next() {
+        if (lastIdx.get() >= blockEnd) {
+            reserveBlock();
+        }
+        return lastIdx.incrementAndGet();
+    }
+
+    // 이 인스턴스가 지금까지 발급한 마지막 idx (아직 DB 에 없을 수 있다)
+    public long current() {
+        return lastIdx.get();
+    }
+
+    // ===== ===== //
+    private void reserveBlock() {
+        long from = chatBatchRepository.reserveChatIdBlock(blockSize);
+        lastIdx.set(from);
+        blockEnd = from + blockSize;
+    }
+}
@@ -0,0 +1,5 @@
+package com.dabom.chat.serivce;
+
+// 읽음 위치가 올라감. 커밋 후 상대방에게 읽음 알림을 보낸다
+public record ChatReadEvent(Long roomIdx, Integer readerIdx, Integer opponentIdx, Long lastReadChatIdx) {
+}
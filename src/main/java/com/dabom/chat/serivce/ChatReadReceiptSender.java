@@ -0,0 +1,27 @@
+package com.dabom.chat.serivce;
+
+import com.dabom.chat.model.dto.ChatReadReceiptDto;
+import lombok.RequiredArgsConstructor;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+@Component
+@RequiredArgsConstructor
+public class ChatReadReceiptSender {
+
+    private final SimpMessagingTemplate template;
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onRead(ChatReadEvent event) {
+        template.convertAndSendToUser(
+                event.opponentIdx().toString(),
+                "/queue/read-receipts",
+                ChatReadReceiptDto.builder()
+                        .roomIdx(event.roomIdx())
+                        .readerIdx(event.readerIdx())
+                        .lastReadChatIdx(event.lastReadChatIdx())
+                        .build()
+        );
+    }
+}
@@ -0,0 +1,73 @@
+package com.dabom.chat.serivce;
+
+import com.dabom.chat.exception.ChatException;
+import com.dabom.chat.exception.ChatExceptionType;
+import com.dabom.chat.model.entity.ChatRoom;
+import com.dabom.chat.repository.ChatRoomRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+// 비동기 저장 모드에서 메시지마다 방/회원을 조회하지 않도록 방 참여자(idx, 이름)를 잠시 들고 있는다.
+// 참여자는 바뀌지 않고, 이름은 TTL 동안만 예전 값일 수 있다
+@Component
+@RequiredArgsConstructor
+public class ChatRoomParticipantsCache {
+
+    private final ChatRoomRepository chatRoomRepository;
+
+    @Value("${app.chat.async-persist.room-cache-ttl-seconds}")
+    private long ttlSeconds;
+    @Value("${app.chat.async-persist.room-cache-max-size}")
+    private int maxSize;
+
+    private final Map<Long, Participants> cache = new LinkedHashMap<>(256, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Long, Participants> eldest) {
+            return size() > maxSize;
+        }
+    };
+
+    public Participants get(Long roomIdx) {
+        long now = System.currentTimeMillis();
+        synchronized (cache) {
+            Participants cached = cache.get(roomIdx);
+            if (cached != null && cached.expiresAt() > now) {
+                return cached;
+            }
+        }
+
+        ChatRoom chatRoom = chatRoomRepository.findById(roomIdx)
+                .filter(room -> !room.getIsDeleted())
+                .orElseThrow(() -> new ChatException(ChatExceptionType.CHAT_ROOM_NOT_FOUND));
+        Participants loaded = new Participants(
+                chatRoom.getIdx(),
+                chatRoom.getMember1().getIdx(), chatRoom.getMember1().getName(),
+                chatRoom.getMember2().getIdx(), chatRoom.getMember2().getName(),
+                now + ttlSeconds * 1000);
+        synchronized (cache) {
+            cache.put(roomIdx, loaded);
+        }
+        return loaded;
+    }
+
+    // ===== ===== //
+    public record Participants(Long roomIdx, Integer member1Idx, String member1Name,
+                               Integer member2Idx, String member2Name, long expiresAt) {
+
+        public boolean has(Integer memberIdx) {
+            return member1Idx.equals(memberIdx) || member2Idx.equals(memberIdx);
+        }
+
+        public Integer opponentOf(Integer memberIdx) {
+            return member1Idx.equals(memberIdx) ? member2Idx : member1Idx;
+        }
+
+        public String nameOf(Integer memberIdx) {
+            return member1Idx.equals(memberIdx) ? member1Name : member2Name;
+        }
+    }
+}
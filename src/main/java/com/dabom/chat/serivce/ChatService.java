@@ -14,30 +14,45 @@ import com.dabom.common.SliceBaseResponse;
 import com.dabom.member.model.entity.Member;
 import com.dabom.member.repository.MemberRepository;
 import com.dabom.member.security.dto.MemberDetailsDto;
+import com.dabom.member.service.MemberProfileResolver;
 import com.dabom.video.model.Video;
 import com.dabom.video.repository.VideoRepository;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
-import org.springframework.data.domain.Sort;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.security.Principal;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
+@Slf4j
 @Service
+@Transactional(readOnly = true)
 @RequiredArgsConstructor
 public class ChatService {
     private final ChatRoomRepository chatRoomRepository;
     private final ChatRepository chatRepository;
     private final MemberRepository memberRepository;
     private final VideoRepository videoRepository;
+    private final MemberProfileResolver memberProfileResolver;
+    private final ApplicationEventPublisher eventPublisher;
+    private final AsyncChatSender asyncChatSender;
+    private final ChatIdAllocator chatIdAllocator;
 
+    @Transactional
     public long createRoom(Integer memberIdx, Integer videoIdx) {
 
         Member member1 = memberRepository.findById(memberIdx)
@@ -72,62 +87,68 @@ public class ChatService {
 
     }
 
+    // 방 목록은 요약 컬럼으로 한 번에 읽는다 (방마다 마지막 메시지/안 읽은 수를 따로 세지 않는다)
     public List<ChatRoomListResponseDto> getList(Integer memberIdx) {
         List<ChatRoom> chatRooms = chatRoomRepository.findAllByMemberIdxAndIsDeleted(memberIdx);
+        Map<Integer, String> profiles = memberProfileResolver.resolveAll(chatRooms.stream()
+                .map(chatRoom -> chatRoom.opponentOf(memberIdx).getIdx())
+                .toList());
+
         return chatRooms.stream()
-                .map(chatRoom -> {
-                    Optional<Chat> lastChat = chatRepository.findTopByRoomIdxAndIsDeletedOrderByCreatedAtDesc(chatRoom.getIdx());
-                    long unreadCount = chatRepository.countUnreadByRoomIdxAndMemberIdx(chatRoom.getIdx(), memberIdx);
-
-                    // 상대방 정보 찾기
-                    Member opponent = chatRoom.getMember1().getIdx().equals(memberIdx) ? chatRoom.getMember2() : chatRoom.getMember1();
-
-                    return ChatRoomListResponseDto.fromEntity(chatRoom, lastChat.orElse(null), unreadCount,
-                            //임시
-                            //opponent.getProfileImageUrl()
-                            "asd"
-                    );
-                })
+                .map(chatRoom -> ChatRoomListResponseDto.fromEntity(chatRoom, memberIdx,
+                        profiles.get(chatRoom.opponentOf(memberIdx).getIdx())))
                 .collect(Collectors.toList());
     }
 
-    public SliceBaseResponse<ChatRoomReadResponseDto> readRoom(Long roomIdx, Integer memberIdx, int page, int size) {
+    // 채팅 내역. before 가 있으면 그보다 이전, after 가 있으면 그보다 이후, 둘 다 없으면 최신 메시지부터.
+    // 한 페이지는 항상 오래된 순으로 담고, nextCursor 는 다음에 넘길 before(또는 after) 값이다.
+    // 메시지마다 idx 가 있으므로 클라이언트는 /queue/messages 로 받은 메시지와 idx 로 중복 없이 합친다
+    @Transactional
+    public SliceBaseResponse<ChatRoomReadResponseDto> readRoom(Long roomIdx, Integer memberIdx, Long before, Long after, int size) {
         // 채팅방 존재 여부 및 권한 확인
         ChatRoom chatRoom = chatRoomRepository.findById(roomIdx)
                 .orElseThrow(() -> new ChatException(ChatExceptionType.CHAT_ROOM_NOT_FOUND));
-        if (!chatRoom.getMember1().getIdx().equals(memberIdx) && !chatRoom.getMember2().getIdx().equals(memberIdx)) {
+        if (!chatRoom.hasMember(memberIdx)) {
             throw new ChatException(ChatExceptionType.UNAUTHORIZED_ACCESS);
         }
 
-        // 페이징된 메시지 목록 조회
-        Pageable pageable = PageRequest.of(page, size, Sort.by("createdAt").descending());
-        Slice<Chat> chatSlice = chatRepository.findByRoomIdxAndIsDeleted(roomIdx, pageable);
+        // 커서 기준으로 size 개만 읽는다 (전체 개수는 세지 않는다)
+        Pageable pageable = PageRequest.ofSize(size);
+        List<Chat> chats;
+        boolean hasNext;
+        if (after != null) {
+            Slice<Chat> chatSlice = chatRepository.findHistoryAfter(roomIdx, after, pageable);
+            chats = chatSlice.getContent();
+            hasNext = chatSlice.hasNext();
+        } else {
+            Slice<Chat> chatSlice = chatRepository.findHistoryBefore(roomIdx, before == null ? Long.MAX_VALUE : before, pageable);
+            chats = new ArrayList<>(chatSlice.getContent());
+            Collections.reverse(chats);
+            hasNext = chatSlice.hasNext();
+        }
 
-        // 메시지를 ChatMessageDto로 변환
-        List<ChatMessageDto> chatList = chatSlice.getContent().stream()
-                .map(ChatMessageDto::fromEntity)
-                .collect(Collectors.toList());
+        // 읽음 처리: 방의 마지막 메시지까지 읽음 위치를 올린다 (UPDATE 한 번)
+        long readerLastRead = advanceReadWatermark(chatRoom, memberIdx, chatRoom.getLastChatIdx());
+        long opponentLastRead = chatRoom.lastReadChatIdxOf(chatRoom.opponentOf(memberIdx).getIdx());
 
-        // 읽음 처리
-        chatSlice.getContent().stream()
-                .filter(chat -> !chat.getIsRead() && chat.getRecipient().getIdx().equals(memberIdx))
-                .forEach(Chat::markAsRead);
-        chatRepository.saveAll(chatSlice.getContent());
+        // 메시지를 ChatMessageDto로 변환. 읽음 여부는 받는 사람의 읽음 위치로 정한다
+        List<ChatMessageDto> chatList = chats.stream()
+                .map(chat -> ChatMessageDto.fromEntity(chat, chat.getIdx() <=
+                        (chat.getRecipient().getIdx().equals(memberIdx) ? readerLastRead : opponentLastRead)))
+                .collect(Collectors.toList());
 
-        // ChatRoomReadResponseDto 생성
         ChatRoomReadResponseDto responseDto = ChatRoomReadResponseDto.fromEntity(chatRoom, chatList);
 
-        // 전체 메시지 수 조회
-        long totalCount = chatRepository.countByRoomIdxAndIsDeleted(roomIdx);
-
-        // SliceBaseResponse로 반환
-        return new SliceBaseResponse<>(
-                List.of(responseDto),
-                chatSlice.hasNext(),
-                totalCount
-        );
+        String nextCursor = null;
+        if (hasNext && !chats.isEmpty()) {
+            Chat edge = after != null ? chats.get(chats.size() - 1) : chats.get(0);
+            nextCursor = edge.getIdx().toString();
+        }
+        return SliceBaseResponse.withCursor(List.of(responseDto), hasNext, nextCursor);
     }
 
+    // 메시지 저장과 방 요약 갱신은 한 트랜잭션
+    @Transactional
     public ChatMessageDto sendMessage(ChatMessageDto messageDto, MemberDetailsDto userDetails) {
         ChatRoom chatRoom = chatRoomRepository.findById(messageDto.getRoomIdx())
                 .orElseThrow(() -> new ChatException(ChatExceptionType.CHAT_ROOM_NOT_FOUND));
@@ -145,8 +166,51 @@ public class ChatService {
                 .build();
 
         Chat savedChat = chatRepository.save(chatToSave);
+        chatRoomRepository.applyNewMessage(chatRoom.getIdx(), savedChat.getIdx(), ChatRoom.preview(savedChat.getMessage()),
+                sender.getIdx(), recipient.getIdx(), savedChat.getCreatedAt());
         return ChatMessageDto.fromEntity(savedChat);
     }
 
+    // 화면에 표시한 메시지(chatIdx)까지 읽음 처리 (STOMP /chat/read)
+    @Transactional
+    public void markRead(Long roomIdx, Integer memberIdx, Long chatIdx) {
+        ChatRoom chatRoom = chatRoomRepository.findById(roomIdx)
+                .orElseThrow(() -> new ChatException(ChatExceptionType.CHAT_ROOM_NOT_FOUND));
+        if (!chatRoom.hasMember(memberIdx)) {
+            throw new ChatException(ChatExceptionType.UNAUTHORIZED_ACCESS);
+        }
+        // 비동기 저장 모드에서는 전송됐지만 아직 저장 전인 메시지까지 읽을 수 있다
+        long lastChatIdx = chatRoom.getLastChatIdx() == null ? 0L : chatRoom.getLastChatIdx();
+        if (asyncChatSender.isEnabled()) {
+            lastChatIdx = Math.max(lastChatIdx, chatIdAllocator.current());
+        }
+        if (chatIdx == null || lastChatIdx == 0L) {
+            return;
+        }
+        advanceReadWatermark(chatRoom, memberIdx, Math.min(chatIdx, lastChatIdx));
+    }
+
+    // 요약/읽음 위치 컬럼이 새로 생긴 경우 기존 메시지로 한 번 채운다
+    @Transactional
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillRoomSummaries() {
+        int rooms = chatRoomRepository.backfillSummaries();
+        int watermarks = chatRoomRepository.backfillReadWatermarks();
+        if (rooms > 0 || watermarks > 0) {
+            log.info("채팅방 요약 백필 완료 - 요약: {}개, 읽음 위치: {}개", rooms, watermarks);
+        }
+    }
 
+    // ===== ===== //
+    // 읽음 위치가 실제로 올라갈 때만 UPDATE 하고, 커밋 후 상대방에게 알린다. 반영된 읽음 위치를 돌려준다
+    private long advanceReadWatermark(ChatRoom chatRoom, Integer memberIdx, Long upTo) {
+        long current = chatRoom.lastReadChatIdxOf(memberIdx);
+        if (upTo == null || upTo <= current) {
+            return current;
+        }
+        chatRoomRepository.markRead(chatRoom.getIdx(), memberIdx, upTo);
+        eventPublisher.publishEvent(new ChatReadEvent(chatRoom.getIdx(), memberIdx,
+                chatRoom.opponentOf(memberIdx).getIdx(), upTo));
+        return upTo;
+    }
 }
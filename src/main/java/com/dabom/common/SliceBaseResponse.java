@@ -1,6 +1,5 @@
 package com.dabom.common;
 
-import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
@@ -8,15 +7,27 @@ import java.util.List;
 
 @Getter
 @NoArgsConstructor
-@AllArgsConstructor
 public class SliceBaseResponse<T> {
     private List<T> content;
     private boolean hasNext;
     private Long totalCount;
+    private String nextCursor;  // 커서 기반 페이지네이션에서 다음 요청에 그대로 넘길 값 (없으면 null)
 
     public SliceBaseResponse(List<T> content, boolean hasNext) {
         this.content = content;
         this.hasNext = hasNext;
         this.totalCount = null;
     }
-}
\ No newline at end of file
+
+    public SliceBaseResponse(List<T> content, boolean hasNext, Long totalCount) {
+        this.content = content;
+        this.hasNext = hasNext;
+        this.totalCount = totalCount;
+    }
+
+    public static <T> SliceBaseResponse<T> withCursor(List<T> content, boolean hasNext, String nextCursor) {
+        SliceBaseResponse<T> response = new SliceBaseResponse<>(content, hasNext);
+        response.nextCursor = nextCursor;
+        return response;
+    }
+}
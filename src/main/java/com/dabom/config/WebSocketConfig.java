@@ -2,6 +2,9 @@ package com.dabom.config;
 
 import com.dabom.config.interceptor.AuthChannelInterceptor;
 import com.dabom.config.interceptor.JwtHandShakeInterceptor;
+import com.dabom.config.interceptor.SlowConsumerHandlerDecorator;
+import com.dabom.config.interceptor.SlowConsumerInterceptor;
+import com.dabom.config.interceptor.TogetherRateLimitInterceptor;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
@@ -22,6 +25,8 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
 
     private final JwtHandShakeInterceptor jwtHandShakeInterceptor;
     private final AuthChannelInterceptor authChannelInterceptor;
+    private final TogetherRateLimitInterceptor togetherRateLimitInterceptor;
+    private final SlowConsumerInterceptor slowConsumerInterceptor;
 
     @Value("${websocket.allowed-origin}")
     private String frontServer;
@@ -57,7 +62,12 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
 
     @Override
     public void configureClientInboundChannel(ChannelRegistration registration) {
-        registration.interceptors(authChannelInterceptor);
+        registration.interceptors(authChannelInterceptor, togetherRateLimitInterceptor);
+    }
+
+    @Override
+    public void configureClientOutboundChannel(ChannelRegistration registration) {
+        registration.interceptors(slowConsumerInterceptor);
     }
 
     @Override
@@ -65,5 +75,7 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
         registration.setMessageSizeLimit(128 * 1024); // 128KB
         registration.setSendBufferSizeLimit(512 * 1024); // 512KB
         registration.setSendTimeLimit(1000); // 전송시간 제한 1초
+        // 버퍼가 밀린 세션에는 채팅을 덜 보내서 위 제한에 걸려 끊기지 않게 한다
+        registration.addDecoratorFactory(handler -> new SlowConsumerHandlerDecorator(handler, slowConsumerInterceptor));
     }
 }
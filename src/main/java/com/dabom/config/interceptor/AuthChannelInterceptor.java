@@ -1,5 +1,8 @@
 package com.dabom.config.interceptor;
 
+import com.dabom.member.security.dto.MemberDetailsDto;
+import com.dabom.member.service.StompIdentityRegistry;
+import lombok.RequiredArgsConstructor;
 import org.springframework.messaging.Message;
 import org.springframework.messaging.MessageChannel;
 import org.springframework.messaging.simp.stomp.StompCommand;
@@ -12,7 +15,11 @@ import org.springframework.stereotype.Component;
 import java.util.Map;
 
 @Component
+@RequiredArgsConstructor
 public class AuthChannelInterceptor implements ChannelInterceptor {
+
+    private final StompIdentityRegistry stompIdentityRegistry;
+
     @Override
     public Message<?> preSend(Message<?> message, MessageChannel channel) {
         StompHeaderAccessor accessor = MessageHeaderAccessor.getAccessor(message, StompHeaderAccessor.class);
@@ -22,12 +29,15 @@ public class AuthChannelInterceptor implements ChannelInterceptor {
                 Authentication authentication = (Authentication) attributes.get("auth");
                 if(authentication!=null) {
                     accessor.setUser(authentication);
+                    // 세션 동안 쓸 표시 정보(이름, 프로필)를 한 번만 읽어 둔다
+                    MemberDetailsDto memberDetailsDto = (MemberDetailsDto) authentication.getPrincipal();
+                    stompIdentityRegistry.register(accessor.getSessionId(), attributes, memberDetailsDto.getIdx());
                 }
             }
         }
         return message;
     }
-    
-    
+
+
 
 }
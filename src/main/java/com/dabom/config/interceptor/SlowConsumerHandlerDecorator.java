@@ -0,0 +1,41 @@
+package com.dabom.config.interceptor;
+
+import com.dabom.config.interceptor.SlowConsumerInterceptor.SessionBacklog;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.WebSocketHandler;
+import org.springframework.web.socket.WebSocketMessage;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.WebSocketHandlerDecorator;
+import org.springframework.web.socket.handler.WebSocketSessionDecorator;
+
+import java.io.IOException;
+
+// 실제 소켓에 쓴 메시지 수를 센다. STOMP 핸들러가 세션을 전송 버퍼(ConcurrentWebSocketSessionDecorator)로
+// 다시 감싸므로, 여기서 센 수는 버퍼를 빠져나간 메시지 수가 된다
+public class SlowConsumerHandlerDecorator extends WebSocketHandlerDecorator {
+
+    private final SlowConsumerInterceptor slowConsumerInterceptor;
+
+    public SlowConsumerHandlerDecorator(WebSocketHandler delegate, SlowConsumerInterceptor slowConsumerInterceptor) {
+        super(delegate);
+        this.slowConsumerInterceptor = slowConsumerInterceptor;
+    }
+
+    @Override
+    public void afterConnectionEstablished(WebSocketSession session) throws Exception {
+        SessionBacklog backlog = slowConsumerInterceptor.register(session.getId());
+        super.afterConnectionEstablished(new WebSocketSessionDecorator(session) {
+            @Override
+            public void sendMessage(WebSocketMessage<?> message) throws IOException {
+                super.sendMessage(message);
+                backlog.written();
+            }
+        });
+    }
+
+    @Override
+    public void afterConnectionClosed(WebSocketSession session, CloseStatus closeStatus) throws Exception {
+        slowConsumerInterceptor.unregister(session.getId());
+        super.afterConnectionClosed(session, closeStatus);
+    }
+}
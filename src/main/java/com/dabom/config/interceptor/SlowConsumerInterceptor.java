@@ -0,0 +1,109 @@
+package com.dabom.config.interceptor;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessageHeaders;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+// 느린 클라이언트 처리 (clientOutboundChannel).
+// 세션마다 내보낸 메시지 수와 실제로 쓴 메시지 수(SlowConsumerHandlerDecorator)를 세서, 그 차이(전송 버퍼에 쌓인 수)가
+// slow-consumer-backlog 를 넘은 세션에는 버려도 되는 메시지(DROPPABLE_HEADER 가 붙은 같이보기 채팅)를 보내지 않는다.
+// 같은 주제로 나가는 입퇴장/강퇴와 재생 상태(/topic/playback/...), 방장 조작(/topic/master/...) 등 나머지는 버리지 않는다.
+// 채팅을 덜 쌓으면 sendBufferSizeLimit 에 걸려 연결이 끊기는 일도 줄어든다
+@Component
+public class SlowConsumerInterceptor implements ChannelInterceptor {
+
+    // 보내는 쪽에서 native header 로 붙인다. 브로커가 구독자별 메시지로 그대로 옮겨 준다
+    public static final String DROPPABLE_HEADER = "droppable";
+
+    private final Map<String, SessionBacklog> backlogs = new ConcurrentHashMap<>();
+    private final Counter drops;
+
+    @Value("${app.together.traffic.slow-consumer-backlog}")
+    private long maxBacklog;
+
+    public SlowConsumerInterceptor(MeterRegistry meterRegistry) {
+        this.drops = Counter.builder("together.chat.dropped")
+                .tag("reason", "slow_consumer")
+                .description("전송 버퍼가 밀린 세션에 보내지 않은 같이보기 채팅 수")
+                .register(meterRegistry);
+        Gauge.builder("stomp.outbound.backlog", backlogs, SlowConsumerInterceptor::totalBacklog)
+                .description("모든 세션의 전송 버퍼에 쌓인 메시지 수")
+                .register(meterRegistry);
+        Gauge.builder("stomp.outbound.backlog.max", backlogs, SlowConsumerInterceptor::maxBacklog)
+                .description("전송 버퍼에 가장 많이 쌓인 세션의 메시지 수")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        MessageHeaders headers = message.getHeaders();
+        String sessionId = SimpMessageHeaderAccessor.getSessionId(headers);
+        SessionBacklog backlog = sessionId == null ? null : backlogs.get(sessionId);
+        if (backlog == null) {
+            return message;
+        }
+        if (backlog.size() >= maxBacklog && isDroppable(headers)) {
+            drops.increment();
+            return null;
+        }
+        backlog.routed.incrementAndGet();
+        return message;
+    }
+
+    // ===== SlowConsumerHandlerDecorator 에서 부른다 ===== //
+    SessionBacklog register(String sessionId) {
+        SessionBacklog backlog = new SessionBacklog();
+        backlogs.put(sessionId, backlog);
+        return backlog;
+    }
+
+    void unregister(String sessionId) {
+        backlogs.remove(sessionId);
+    }
+
+    // ===== ===== //
+    private static boolean isDroppable(MessageHeaders headers) {
+        return Boolean.parseBoolean(SimpMessageHeaderAccessor.getFirstNativeHeader(DROPPABLE_HEADER, headers));
+    }
+
+    private static double totalBacklog(Map<String, SessionBacklog> backlogs) {
+        long total = 0;
+        for (SessionBacklog backlog : backlogs.values()) {
+            total += backlog.size();
+        }
+        return total;
+    }
+
+    private static double maxBacklog(Map<String, SessionBacklog> backlogs) {
+        long max = 0;
+        for (SessionBacklog backlog : backlogs.values()) {
+            max = Math.max(max, backlog.size());
+        }
+        return max;
+    }
+
+    // 프레임 오류 응답처럼 채널을 거치지 않고 쓰는 메시지도 있어서 음수는 0 으로 본다
+    static final class SessionBacklog {
+        private final AtomicLong routed = new AtomicLong();
+        private final AtomicLong written = new AtomicLong();
+
+        void written() {
+            written.incrementAndGet();
+        }
+
+        long size() {
+            return Math.max(0, routed.get() - written.get());
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package com.dabom.config.interceptor;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessageHeaders;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+// 같이보기 채팅(/app/together/{idx}) 수신 제한. 세션 버킷과 방 버킷을 모두 통과해야 컨트롤러로 간다.
+// 한 명이 도배해도 방 전체로 나가는 메시지 수는 방 버킷이 막는다. 방장 조작(/app/master/...)은 제한하지 않는다
+@Component
+public class TogetherRateLimitInterceptor implements ChannelInterceptor {
+
+    private static final String CHAT_DESTINATION_PREFIX = "/app/together/";
+
+    private final Map<String, TokenBucket> sessionBuckets = new ConcurrentHashMap<>();
+    private final Map<Integer, TokenBucket> roomBuckets = new ConcurrentHashMap<>();
+    private final Counter sessionDrops;
+    private final Counter roomDrops;
+
+    @Value("${app.together.traffic.session-rate}")
+    private double sessionRate;
+    @Value("${app.together.traffic.session-burst}")
+    private double sessionBurst;
+    @Value("${app.together.traffic.room-rate}")
+    private double roomRate;
+    @Value("${app.together.traffic.room-burst}")
+    private double roomBurst;
+
+    public TogetherRateLimitInterceptor(MeterRegistry meterRegistry) {
+        this.sessionDrops = Counter.builder("together.chat.dropped")
+                .tag("reason", "session_rate")
+                .description("세션당 전송 제한을 넘어 버린 같이보기 채팅 수")
+                .register(meterRegistry);
+        this.roomDrops = Counter.builder("together.chat.dropped")
+                .tag("reason", "room_rate")
+                .description("방당 전송 제한을 넘어 버린 같이보기 채팅 수")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        MessageHeaders headers = message.getHeaders();
+        if (SimpMessageHeaderAccessor.getMessageType(headers) != SimpMessageType.MESSAGE) {
+            return message;
+        }
+        Integer togetherIdx = parseTogetherIdx(SimpMessageHeaderAccessor.getDestination(headers));
+        String sessionId = SimpMessageHeaderAccessor.getSessionId(headers);
+        if (togetherIdx == null || sessionId == null) {
+            return message;
+        }
+
+        long now = System.nanoTime();
+        TokenBucket sessionBucket = sessionBuckets.computeIfAbsent(sessionId,
+                id -> new TokenBucket(sessionBurst, sessionRate, now));
+        if (!sessionBucket.tryAcquire(now)) {
+            sessionDrops.increment();
+            return null;
+        }
+        TokenBucket roomBucket = roomBuckets.computeIfAbsent(togetherIdx,
+                idx -> new TokenBucket(roomBurst, roomRate, now));
+        if (!roomBucket.tryAcquire(now)) {
+            roomDrops.increment();
+            return null;
+        }
+        return message;
+    }
+
+    @EventListener
+    public void onDisconnect(SessionDisconnectEvent event) {
+        sessionBuckets.remove(event.getSessionId());
+    }
+
+    @Scheduled(fixedDelayString = "${app.together.traffic.bucket-sweep-interval-ms}")
+    public void sweepRoomBuckets() {
+        long now = System.nanoTime();
+        roomBuckets.values().removeIf(bucket -> bucket.isFull(now));
+    }
+
+    // ===== ===== //
+    private Integer parseTogetherIdx(String destination) {
+        if (destination == null || !destination.startsWith(CHAT_DESTINATION_PREFIX)) {
+            return null;
+        }
+        try {
+            return Integer.valueOf(destination.substring(CHAT_DESTINATION_PREFIX.length()));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+}
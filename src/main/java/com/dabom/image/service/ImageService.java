@@ -2,6 +2,7 @@ package com.dabom.image.service;
 
 import com.dabom.image.exception.ImageException;
 import com.dabom.image.model.dto.ImageUploadResponseDto;
+import com.dabom.image.model.entity.Image;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.multipart.MultipartFile;
 
@@ -16,4 +17,7 @@ public interface ImageService {
     public void deleteImage(@RequestParam Integer idx) throws ImageException;
 
     String find(Integer idx) throws ImageException;
+
+    // 이미 읽어 온 엔티티의 접근 URL (DB 조회 없음)
+    String urlOf(Image image);
 }
\ No newline at end of file
@@ -91,12 +91,17 @@ public class LocalImageService implements ImageService {
     public String find(Integer idx) throws ImageException {
         Optional<Image> result = imageRepository.findById(idx);
         if (result.isPresent()) {
-            return result.get().getSavedPath();
+            return urlOf(result.get());
         } else {
             throw new ImageException(ImageExceptionType.IMAGE_NOT_FOUND);
         }
     }
 
+    @Override
+    public String urlOf(Image image) {
+        return image.getSavedPath();
+    }
+
     @Override
     public void deleteImage(Integer idx) throws ImageException {
         Optional<Image> result = imageRepository.findById(idx);
@@ -14,13 +14,10 @@ import org.springframework.context.annotation.Primary;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
-import software.amazon.awssdk.services.s3.model.GetObjectRequest;
 import software.amazon.awssdk.services.s3.model.PutObjectRequest;
 import software.amazon.awssdk.services.s3.presigner.S3Presigner;
-import software.amazon.awssdk.services.s3.presigner.model.PresignedGetObjectRequest;
 import software.amazon.awssdk.services.s3.presigner.model.PresignedPutObjectRequest;
 
-import java.net.URL;
 import java.time.Duration;
 import java.util.List;
 import java.util.Optional;
@@ -125,25 +122,15 @@ public class S3ImageService implements ImageService {
 
     @Override
     public String find(Integer idx) throws ImageException {
-        Optional<Image> result = imageRepository.findById(idx);
-        if (result.isPresent()) {
-            Image image = result.get();
-            String s3Key = image.getSavedPath();
-            // 프리사인드 URL 생성 (GET 요청용)
-            GetObjectRequest getObjectRequest = GetObjectRequest.builder()
-                    .bucket(s3BucketName)
-                    .key(s3Key)
-                    .build();
-            PresignedGetObjectRequest presignedRequest = s3Presigner.presignGetObject(r -> r
-                    .signatureDuration(Duration.ofSeconds(presignedUrlDuration))
-                    .getObjectRequest(getObjectRequest)
-            );
-            URL presignedUrl = presignedRequest.url();
-//            return presignedUrl.toString();
-            return s3UrlBuilder.buildPublicUrl(s3Key);
-        } else {
-            throw new ImageException(ImageExceptionType.IMAGE_NOT_FOUND);
-        }
+        Image image = imageRepository.findById(idx)
+                .orElseThrow(() -> new ImageException(ImageExceptionType.IMAGE_NOT_FOUND));
+        return urlOf(image);
+    }
+
+    // 공개 URL 을 쓰므로 프리사인드 URL 은 만들지 않는다
+    @Override
+    public String urlOf(Image image) {
+        return s3UrlBuilder.buildPublicUrl(image.getSavedPath());
     }
 
     @Override
@@ -6,6 +6,7 @@ import com.dabom.image.model.entity.Image;
 import com.dabom.member.exception.MemberException;
 import com.dabom.member.model.entity.Member;
 import com.dabom.member.repository.MemberRepository;
+import com.dabom.member.service.MemberProfileChangedEvent;
 import com.dabom.s3.PresignedUrlRequestDto;
 import com.dabom.s3.S3FileManager;
 import com.dabom.s3.S3PresignedUrlInformationDto;
@@ -13,6 +14,7 @@ import com.dabom.video.exception.VideoException;
 import com.dabom.video.model.Video;
 import com.dabom.video.repository.VideoRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -30,6 +32,7 @@ public class S3ImageServiceV2 {
     private final MemberRepository memberRepository;
     private final VideoRepository videoRepository;
     private final S3FileManager s3FileManager;
+    private final ApplicationEventPublisher eventPublisher;
 
 
     public PresignedUrlResponseDto getProfileImagePresignedUrl(PresignedUrlRequestDto requestDto) {
@@ -52,7 +55,10 @@ public class S3ImageServiceV2 {
         Image image = createImageEntity(requestDto);
 
         switch (requestDto.imageType()) {
-            case PROFILE -> member.updateProfileImage(image);
+            case PROFILE -> {
+                member.updateProfileImage(image);
+                eventPublisher.publishEvent(new MemberProfileChangedEvent(memberIdx));
+            }
             case BANNER -> member.updateBannerImage(image);
         }
 
@@ -6,7 +6,9 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -21,4 +23,12 @@ public interface MemberRepository extends JpaRepository<Member, Integer> {
 
     @Query("SELECT m FROM Member m WHERE m.isDeleted = false AND m.name = :name ORDER BY m.createdAt DESC")
     List<Member> findMembersByName(String name);
+
+    // 목록 화면의 프로필 이미지를 한 번에 읽는다 (MemberProfileResolver)
+    @Query("SELECT m FROM Member m LEFT JOIN FETCH m.profileImage WHERE m.idx IN :idxs")
+    List<Member> findAllWithProfileImageByIdxIn(@Param("idxs") Collection<Integer> idxs);
+
+    // STOMP 세션 표시 정보용. 연관 컬렉션을 읽지 않도록 이름만 가져온다 (StompIdentityRegistry)
+    @Query("SELECT m.name FROM Member m WHERE m.idx = :idx")
+    Optional<String> findNameByIdx(@Param("idx") Integer idx);
 }
@@ -106,6 +106,9 @@ public class SecurityConfig {
                         .requestMatchers(SWAGGER_LIST).permitAll()
                         .requestMatchers(AUTH_WHITE_LIST).permitAll()
                         .requestMatchers("/api/manager/**").hasRole(MemberRole.MANAGER.name())
+                        // 헬스체크만 공개하고 메트릭 등 나머지 actuator 는 관리자만 본다
+                        .requestMatchers("/actuator/health", "/actuator/health/**").permitAll()
+                        .requestMatchers("/actuator/**").hasRole(MemberRole.MANAGER.name())
                         .anyRequest().permitAll()
                 )
 
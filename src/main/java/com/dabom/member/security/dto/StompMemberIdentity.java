@@ -0,0 +1,5 @@
+package com.dabom.member.security.dto;
+
+// STOMP 세션에 붙여 두는 회원 표시 정보. CONNECT 때 한 번 읽고 프로필이 바뀔 때만 다시 읽는다
+public record StompMemberIdentity(Integer idx, String name, String profileImg) {
+}
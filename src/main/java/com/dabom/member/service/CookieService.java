@@ -13,6 +13,11 @@ public class CookieService {
     private final CookieProperties cookieProperties;
 
     public ResponseCookie createJwtCookie(String name, String value, Long maxAgeSecond) {
+        return createCookie(name, value, maxAgeSecond);
+    }
+
+    // 서버에서만 읽는 쿠키 (httpOnly, secure/domain/sameSite 는 설정값)
+    public ResponseCookie createCookie(String name, String value, Long maxAgeSecond) {
         return ResponseCookie.from(name, value)
                 .httpOnly(true)
                 .secure(cookieProperties.isSecure())
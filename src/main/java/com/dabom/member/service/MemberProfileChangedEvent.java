@@ -0,0 +1,6 @@
+package com.dabom.member.service;
+
+// 프로필 이미지나 채널 이름이 바뀜. 커밋 후 MemberProfileResolver 캐시에서 지우고
+// StompIdentityRegistry 가 열린 STOMP 세션의 표시 정보를 다시 읽는다
+public record MemberProfileChangedEvent(Integer memberIdx) {
+}
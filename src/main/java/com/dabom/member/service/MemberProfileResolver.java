@@ -0,0 +1,142 @@
+package com.dabom.member.service;
+
+import com.dabom.image.service.ImageService;
+import com.dabom.member.model.entity.Member;
+import com.dabom.member.repository.MemberRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+
+// 목록 화면(검색 결과, 댓글 등)의 프로필 이미지 URL 을 한 번에 구한다.
+// 캐시에 없는 회원만 IN 쿼리 한 번(회원 + 프로필 이미지 fetch join)으로 읽고,
+// 결과는 크기 제한이 있는 TTL 캐시(LRU)에 둔다.
+// 조회하는 동안 프로필이 바뀌어 evict 된 회원은 조회 결과(바뀌기 전 URL)를 캐시에 넣지 않는다
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MemberProfileResolver {
+
+    public static final String DEFAULT_PROFILE_IMAGE = "/Image/Dabompng.png";
+
+    private final MemberRepository memberRepository;
+    private final ImageService imageService;
+
+    @Value("${app.member.profile-cache.ttl-seconds}")
+    private long ttlSeconds;
+    @Value("${app.member.profile-cache.max-size}")
+    private int maxSize;
+
+    private final Map<Integer, CachedProfile> cache = new LinkedHashMap<>(256, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Integer, CachedProfile> eldest) {
+            return size() > maxSize;
+        }
+    };
+    // 아래 필드도 cache 로 동기화한다. evict 마다 번호를 올려 회원별로 남기고, 진행 중인 조회가 없으면 비운다
+    private long evictionSeq;
+    private int loadsInFlight;
+    private final Map<Integer, Long> evictedAt = new HashMap<>();
+
+    public String resolve(Integer memberIdx) {
+        if (memberIdx == null) {
+            return DEFAULT_PROFILE_IMAGE;
+        }
+        return resolveAll(List.of(memberIdx)).get(memberIdx);
+    }
+
+    // 없는 회원은 기본 이미지
+    public Map<Integer, String> resolveAll(Collection<Integer> memberIdxs) {
+        Map<Integer, String> profiles = new HashMap<>();
+        List<Integer> missing = new ArrayList<>();
+        long now = System.currentTimeMillis();
+        long loadStartedSeq;
+
+        synchronized (cache) {
+            for (Integer memberIdx : new LinkedHashSet<>(memberIdxs)) {
+                if (memberIdx == null) {
+                    continue;
+                }
+                CachedProfile cached = cache.get(memberIdx);
+                if (cached != null && cached.expiresAt() > now) {
+                    profiles.put(memberIdx, cached.url());
+                } else {
+                    missing.add(memberIdx);
+                }
+            }
+            if (missing.isEmpty()) {
+                return profiles;
+            }
+            loadStartedSeq = evictionSeq;
+            loadsInFlight++;
+        }
+
+        Map<Integer, String> loaded = null;
+        try {
+            loaded = load(missing);
+        } catch (Exception e) {
+            // 조회 실패는 캐시하지 않고 이번 응답만 기본 이미지로 채운다
+            log.warn("프로필 이미지 조회 실패 - 회원: {}명", missing.size(), e);
+            missing.forEach(memberIdx -> profiles.put(memberIdx, DEFAULT_PROFILE_IMAGE));
+            return profiles;
+        } finally {
+            finishLoad(loaded, loadStartedSeq, now + ttlSeconds * 1000);
+        }
+        profiles.putAll(loaded);
+        return profiles;
+    }
+
+    public void evict(Integer memberIdx) {
+        synchronized (cache) {
+            cache.remove(memberIdx);
+            if (loadsInFlight > 0) {
+                evictedAt.put(memberIdx, ++evictionSeq);
+            }
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProfileChanged(MemberProfileChangedEvent event) {
+        evict(event.memberIdx());
+    }
+
+    // ===== ===== //
+    // 조회를 시작한 뒤에 evict 된 회원은 넣지 않는다 (이번 응답에는 그대로 쓴다)
+    private void finishLoad(Map<Integer, String> loaded, long loadStartedSeq, long expiresAt) {
+        synchronized (cache) {
+            if (loaded != null) {
+                loaded.forEach((memberIdx, url) -> {
+                    if (evictedAt.getOrDefault(memberIdx, 0L) <= loadStartedSeq) {
+                        cache.put(memberIdx, new CachedProfile(url, expiresAt));
+                    }
+                });
+            }
+            if (--loadsInFlight == 0) {
+                evictedAt.clear();
+            }
+        }
+    }
+
+    private Map<Integer, String> load(List<Integer> memberIdxs) {
+        Map<Integer, String> loaded = new HashMap<>();
+        for (Member member : memberRepository.findAllWithProfileImageByIdxIn(memberIdxs)) {
+            loaded.put(member.getIdx(), member.getProfileImage() == null
+                    ? DEFAULT_PROFILE_IMAGE
+                    : imageService.urlOf(member.getProfileImage()));
+        }
+        memberIdxs.forEach(memberIdx -> loaded.putIfAbsent(memberIdx, DEFAULT_PROFILE_IMAGE));
+        return loaded;
+    }
+
+    private record CachedProfile(String url, long expiresAt) {
+    }
+}
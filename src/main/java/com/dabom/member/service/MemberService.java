@@ -14,7 +14,9 @@ import com.dabom.member.model.entity.Member;
 import com.dabom.member.repository.MemberRepository;
 import com.dabom.member.security.dto.MemberDetailsDto;
 import com.dabom.member.utils.JwtUtils;
+import com.dabom.search.index.ChannelIndexEvent;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
@@ -38,6 +40,8 @@ public class MemberService {
     private final PasswordEncoder encoder;
     private final ImageService imageService;
     private final ImageRepository imageRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final MemberProfileResolver memberProfileResolver;
 
     @Transactional
     public void signUpMember(MemberSignupRequestDto dto) {
@@ -171,6 +175,9 @@ public class MemberService {
         if (dto.getName() != null) {
             checkDuplicateName(dto);
             member.updateName(dto.getName());
+            // 검색 색인의 채널 이름도 바꾼다 (커밋 후)
+            eventPublisher.publishEvent(new ChannelIndexEvent(member.getIdx()));
+            eventPublisher.publishEvent(new MemberProfileChangedEvent(member.getIdx()));
         }
     }
 
@@ -190,29 +197,17 @@ public class MemberService {
         return optionalMember.get();
     }
 
+    // 여러 회원의 프로필이 필요하면 MemberProfileResolver.resolveAll 을 쓴다
     public String getProfileImg(Integer memberIdx) {
-        try {
-            Member member = repository.findById(memberIdx)
-                    .orElseThrow(() -> new MemberException(MEMBER_NOT_FOUND));
-
-            if (member.getProfileImage() == null) {
-                String defaultProfileUrl = "/Image/Dabompng.png";
-                return defaultProfileUrl;
-            }
-            return imageService.find(member.getProfileImage().getIdx());
-
-        } catch (Exception e) {
-
-            return "/Image/Dabompng.png"; // 기본 이미지 반환
-        }
+        return memberProfileResolver.resolve(memberIdx);
     }
 
     @Transactional
     public void updateProfileImage(MemberDetailsDto memberDetailsDto, Image image) {
         Member member = getMemberFromSecurity(memberDetailsDto);
         member.changeProfile(image);
-        System.out.println(member.getProfileImage());
         repository.save(member);
+        eventPublisher.publishEvent(new MemberProfileChangedEvent(member.getIdx()));
     }
 
     @Transactional
@@ -0,0 +1,113 @@
+package com.dabom.member.service;
+
+import com.dabom.member.exception.MemberException;
+import com.dabom.member.repository.MemberRepository;
+import com.dabom.member.security.dto.StompMemberIdentity;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static com.dabom.member.exception.MemberExceptionType.MEMBER_NOT_FOUND;
+
+// STOMP 세션별 회원 표시 정보(idx, 이름, 프로필 이미지).
+// CONNECT 때 한 번 읽어 세션 속성에 넣어 두고, 같이보기 채팅/입장 메시지는 여기서 꺼내 쓴다.
+// 이름이나 프로필 이미지가 바뀌면(MemberProfileChangedEvent) 그 회원의 열린 세션만 다시 읽는다
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StompIdentityRegistry {
+
+    public static final String IDENTITY_ATTRIBUTE = "identity";
+
+    private final MemberRepository memberRepository;
+    private final MemberProfileResolver memberProfileResolver;
+
+    // 회원 idx -> (세션 id -> 세션 속성에 넣어 둔 표시 정보)
+    private final Map<Integer, Map<String, AtomicReference<StompMemberIdentity>>> sessions = new ConcurrentHashMap<>();
+
+    // CONNECT 때 AuthChannelInterceptor 가 부른다. 조회에 실패해도 연결은 막지 않고 첫 메시지에서 다시 읽는다
+    public void register(String sessionId, Map<String, Object> attributes, Integer memberIdx) {
+        if (sessionId == null || attributes == null || memberIdx == null) {
+            return;
+        }
+        try {
+            attach(sessionId, attributes, load(memberIdx));
+        } catch (Exception e) {
+            log.warn("STOMP 세션 회원 정보 조회 실패 - 회원: {}", memberIdx, e);
+        }
+    }
+
+    // 세션 속성에 없으면(CONNECT 때 조회 실패) 지금 읽어서 붙인다
+    public StompMemberIdentity identityOf(SimpMessageHeaderAccessor accessor, Integer memberIdx) {
+        Map<String, Object> attributes = accessor.getSessionAttributes();
+        AtomicReference<StompMemberIdentity> holder = holderOf(attributes);
+        if (holder != null) {
+            return holder.get();
+        }
+        StompMemberIdentity identity = load(memberIdx);
+        if (attributes != null && accessor.getSessionId() != null) {
+            attach(accessor.getSessionId(), attributes, identity);
+        }
+        return identity;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProfileChanged(MemberProfileChangedEvent event) {
+        Map<String, AtomicReference<StompMemberIdentity>> memberSessions = sessions.get(event.memberIdx());
+        if (memberSessions == null || memberSessions.isEmpty()) {
+            return;
+        }
+        // 리스너 실행 순서와 상관없이 바뀐 이미지를 읽도록 캐시를 먼저 비운다
+        memberProfileResolver.evict(event.memberIdx());
+        StompMemberIdentity refreshed;
+        try {
+            refreshed = load(event.memberIdx());
+        } catch (Exception e) {
+            log.warn("STOMP 세션 회원 정보 갱신 실패 - 회원: {}", event.memberIdx(), e);
+            return;
+        }
+        memberSessions.values().forEach(holder -> holder.set(refreshed));
+    }
+
+    @EventListener
+    public void onDisconnect(SessionDisconnectEvent event) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.wrap(event.getMessage());
+        AtomicReference<StompMemberIdentity> holder = holderOf(accessor.getSessionAttributes());
+        if (holder == null) {
+            return;
+        }
+        sessions.computeIfPresent(holder.get().idx(), (memberIdx, memberSessions) -> {
+            memberSessions.remove(event.getSessionId());
+            return memberSessions.isEmpty() ? null : memberSessions;
+        });
+    }
+
+    // ===== ===== //
+    private StompMemberIdentity load(Integer memberIdx) {
+        String name = memberRepository.findNameByIdx(memberIdx)
+                .orElseThrow(() -> new MemberException(MEMBER_NOT_FOUND));
+        return new StompMemberIdentity(memberIdx, name, memberProfileResolver.resolve(memberIdx));
+    }
+
+    private void attach(String sessionId, Map<String, Object> attributes, StompMemberIdentity identity) {
+        AtomicReference<StompMemberIdentity> holder = new AtomicReference<>(identity);
+        attributes.put(IDENTITY_ATTRIBUTE, holder);
+        sessions.computeIfAbsent(identity.idx(), memberIdx -> new ConcurrentHashMap<>()).put(sessionId, holder);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static AtomicReference<StompMemberIdentity> holderOf(Map<String, Object> attributes) {
+        if (attributes == null) {
+            return null;
+        }
+        return (AtomicReference<StompMemberIdentity>) attributes.get(IDENTITY_ATTRIBUTE);
+    }
+}
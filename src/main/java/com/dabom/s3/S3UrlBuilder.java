@@ -2,6 +2,7 @@ package com.dabom.s3;
 
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
 
 @Component
 public class S3UrlBuilder {
@@ -14,9 +15,14 @@ public class S3UrlBuilder {
     private String bucketName;
     @Value("${spring.cloud.aws.region.static}")
     private String region;
+    @Value("${spring.cloud.aws.s3.endpoint:}")
+    private String endpoint;
 
     public String buildPublicUrl(String s3Key) {
 //        return String.format("%s/%s", frontServerAddress, s3Key);
+        if (StringUtils.hasText(endpoint)) {
+            return String.format("%s/%s/%s", endpoint, bucketName, s3Key); // S3 호환 저장소는 path-style
+        }
         return String.format(S3_BASE_URL, bucketName, region, s3Key);
     }
 }
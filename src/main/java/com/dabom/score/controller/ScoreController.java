@@ -3,6 +3,7 @@ package com.dabom.score.controller;
 import com.dabom.common.BaseResponse;
 import com.dabom.member.security.dto.MemberDetailsDto;
 import com.dabom.score.constansts.SwaggerConstants;
+import com.dabom.score.model.dto.RatingSummaryResponseDto;
 import com.dabom.score.model.dto.ScoreApiRequestDto;
 import com.dabom.score.model.dto.ScoreRegisterReqDto;
 import com.dabom.score.model.dto.ScoreUpdateReqDto;
@@ -84,4 +85,15 @@ public class ScoreController {
         return ResponseEntity.ok(BaseResponse.of(averageScore, HttpStatus.OK));
     }
 
+    @Operation(summary = "평점 요약 조회", description = "평점 수, 평균, 베이지안 평균, 1~5점 분포를 조회합니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "평점 요약 조회 성공")
+    })
+    @GetMapping("/{type}/{idx}/summary")
+    public ResponseEntity<BaseResponse<RatingSummaryResponseDto>> getRatingSummary(
+            @PathVariable("type") ScoreType type,
+            @PathVariable("idx") Integer idx) {
+        RatingSummaryResponseDto summary = scoreService.getRatingSummary(type, idx);
+        return ResponseEntity.ok(BaseResponse.of(summary, HttpStatus.OK));
+    }
 }
@@ -0,0 +1,46 @@
+package com.dabom.score.model.dto;
+
+import com.dabom.score.model.entity.RatingAggregate;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class RatingSummaryResponseDto {
+
+    private Long ratingCount;
+    private Double average;
+    private Double bayesianAverage;
+    private List<Long> histogram;   // 1점 ~ 5점 순서
+
+    @Builder(access = AccessLevel.PRIVATE)
+    private RatingSummaryResponseDto(Long ratingCount, Double average, Double bayesianAverage, List<Long> histogram) {
+        this.ratingCount = ratingCount;
+        this.average = average;
+        this.bayesianAverage = bayesianAverage;
+        this.histogram = histogram;
+    }
+
+    public static RatingSummaryResponseDto from(RatingAggregate aggregate, double priorMean, double priorWeight) {
+        return RatingSummaryResponseDto.builder()
+                .ratingCount(aggregate.getRatingCount())
+                .average(aggregate.average())
+                .bayesianAverage(aggregate.bayesianAverage(priorMean, priorWeight))
+                .histogram(aggregate.histogram())
+                .build();
+    }
+
+    // 아직 평점이 없는 대상
+    public static RatingSummaryResponseDto empty(double priorMean) {
+        return RatingSummaryResponseDto.builder()
+                .ratingCount(0L)
+                .average(0.0)
+                .bayesianAverage(priorMean)
+                .histogram(List.of(0L, 0L, 0L, 0L, 0L))
+                .build();
+    }
+}
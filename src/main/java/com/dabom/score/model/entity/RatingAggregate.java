@@ -0,0 +1,61 @@
+package com.dabom.score.model.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+// 영상/채널별 평점 집계 (개수, 합계, 1~5점 히스토그램).
+// 값은 RatingAggregateRepository.applyDelta 의 DB 증감(upsert)으로만 바뀌므로
+// 동시에 평점이 들어와도 갱신이 유실되지 않는다
+@Getter
+@Entity
+@Table(name = "rating_aggregate",
+        uniqueConstraints = @UniqueConstraint(name = "uk_rating_aggregate_target", columnNames = {"score_type", "target_idx"}))
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class RatingAggregate {
+
+    public static final int MIN_BUCKET = 1;
+    public static final int MAX_BUCKET = 5;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long idx;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private ScoreType scoreType;
+
+    @Column(nullable = false)
+    private Integer targetIdx;      // VIDEO 면 video idx, CHANNEL 이면 member idx
+
+    private long ratingCount;
+    private double ratingSum;
+
+    private long bucket1;
+    private long bucket2;
+    private long bucket3;
+    private long bucket4;
+    private long bucket5;
+
+    public double average() {
+        return ratingCount == 0 ? 0.0 : ratingSum / ratingCount;
+    }
+
+    // 평점 수가 적을수록 사전 평균(priorMean)에 가깝게 당긴다.
+    // priorWeight 개의 가상 평점이 미리 있다고 보는 것과 같다
+    public double bayesianAverage(double priorMean, double priorWeight) {
+        return (priorMean * priorWeight + ratingSum) / (priorWeight + ratingCount);
+    }
+
+    public List<Long> histogram() {
+        return List.of(bucket1, bucket2, bucket3, bucket4, bucket5);
+    }
+
+    // 0.0~5.0 점을 반올림해서 1~5 구간에 넣는다 (DB 백필의 ROUND 와 같은 기준)
+    public static int bucketOf(double score) {
+        return (int) Math.min(MAX_BUCKET, Math.max(MIN_BUCKET, Math.round(score)));
+    }
+}
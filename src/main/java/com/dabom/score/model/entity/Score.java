@@ -18,6 +18,8 @@ import lombok.NoArgsConstructor;
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Score extends BaseEntity {
 
+    public static final double MAX_SCORE = 5.0;
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Integer idx;
@@ -58,7 +60,7 @@ public class Score extends BaseEntity {
     @PrePersist
     @PreUpdate
     private void validate() {
-        if (score < 0.0 || score > 5.0) {
+        if (score < 0.0 || score > MAX_SCORE) {
             throw new ScoreException(ScoreExceptionType.INVALID_SCORE_RANGE);
         }
         if (member == null) {
@@ -79,6 +81,10 @@ public class Score extends BaseEntity {
         this.isDeleted = true;
     }
 
+    public void restore() {
+        this.isDeleted = false;
+    }
+
     public void updateScore(double newScore) {
         this.score = newScore;
     }
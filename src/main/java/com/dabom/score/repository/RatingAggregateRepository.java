@@ -0,0 +1,50 @@
+package com.dabom.score.repository;
+
+import com.dabom.score.model.entity.RatingAggregate;
+import com.dabom.score.model.entity.ScoreType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Optional;
+
+public interface RatingAggregateRepository extends JpaRepository<RatingAggregate, Long> {
+
+    Optional<RatingAggregate> findByScoreTypeAndTargetIdx(ScoreType scoreType, Integer targetIdx);
+
+    // 집계 행이 없으면 만들고, 있으면 DB 에서 바로 더한다 (read-modify-write 없음)
+    @Modifying
+    @Query(value = "INSERT INTO rating_aggregate " +
+            "(score_type, target_idx, rating_count, rating_sum, bucket1, bucket2, bucket3, bucket4, bucket5) " +
+            "VALUES (:scoreType, :targetIdx, :countDelta, :sumDelta, :bucket1, :bucket2, :bucket3, :bucket4, :bucket5) " +
+            "ON DUPLICATE KEY UPDATE " +
+            "rating_count = rating_count + VALUES(rating_count), " +
+            "rating_sum = rating_sum + VALUES(rating_sum), " +
+            "bucket1 = bucket1 + VALUES(bucket1), " +
+            "bucket2 = bucket2 + VALUES(bucket2), " +
+            "bucket3 = bucket3 + VALUES(bucket3), " +
+            "bucket4 = bucket4 + VALUES(bucket4), " +
+            "bucket5 = bucket5 + VALUES(bucket5)",
+            nativeQuery = true)
+    int applyDelta(@Param("scoreType") String scoreType, @Param("targetIdx") Integer targetIdx,
+                   @Param("countDelta") long countDelta, @Param("sumDelta") double sumDelta,
+                   @Param("bucket1") long bucket1, @Param("bucket2") long bucket2, @Param("bucket3") long bucket3,
+                   @Param("bucket4") long bucket4, @Param("bucket5") long bucket5);
+
+    // 집계 테이블이 비어 있을 때 기존 평점으로 한 번 채운다
+    @Modifying
+    @Query(value = "INSERT INTO rating_aggregate " +
+            "(score_type, target_idx, rating_count, rating_sum, bucket1, bucket2, bucket3, bucket4, bucket5) " +
+            "SELECT s.score_type, COALESCE(s.video_idx, s.channel_idx), COUNT(*), SUM(s.score), " +
+            "SUM(CASE WHEN ROUND(s.score) <= 1 THEN 1 ELSE 0 END), " +
+            "SUM(CASE WHEN ROUND(s.score) = 2 THEN 1 ELSE 0 END), " +
+            "SUM(CASE WHEN ROUND(s.score) = 3 THEN 1 ELSE 0 END), " +
+            "SUM(CASE WHEN ROUND(s.score) = 4 THEN 1 ELSE 0 END), " +
+            "SUM(CASE WHEN ROUND(s.score) >= 5 THEN 1 ELSE 0 END) " +
+            "FROM scores s " +
+            "WHERE COALESCE(s.is_deleted, FALSE) = FALSE AND COALESCE(s.video_idx, s.channel_idx) IS NOT NULL " +
+            "GROUP BY s.score_type, COALESCE(s.video_idx, s.channel_idx)",
+            nativeQuery = true)
+    int backfillFromScores();
+}
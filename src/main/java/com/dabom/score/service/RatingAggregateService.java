@@ -0,0 +1,86 @@
+package com.dabom.score.service;
+
+import com.dabom.score.model.dto.RatingSummaryResponseDto;
+import com.dabom.score.model.entity.RatingAggregate;
+import com.dabom.score.model.entity.ScoreType;
+import com.dabom.score.repository.RatingAggregateRepository;
+import com.dabom.video.repository.VideoRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+// 평점 집계(rating_aggregate) 를 DB 증감으로 갱신하고 O(1) 로 읽는다.
+// 평점 등록/수정/삭제와 같은 트랜잭션에서 호출해야 집계와 평점 행이 어긋나지 않는다
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class RatingAggregateService {
+
+    private final RatingAggregateRepository ratingAggregateRepository;
+    private final VideoRepository videoRepository;
+
+    @Value("${app.score.bayesian.prior-mean}")
+    private double priorMean;
+    @Value("${app.score.bayesian.prior-weight}")
+    private double priorWeight;
+
+    @Transactional
+    public void add(ScoreType type, Integer targetIdx, double score) {
+        long[] buckets = new long[RatingAggregate.MAX_BUCKET + 1];
+        buckets[RatingAggregate.bucketOf(score)]++;
+        apply(type, targetIdx, 1, score, buckets);
+    }
+
+    @Transactional
+    public void change(ScoreType type, Integer targetIdx, double oldScore, double newScore) {
+        long[] buckets = new long[RatingAggregate.MAX_BUCKET + 1];
+        buckets[RatingAggregate.bucketOf(oldScore)]--;
+        buckets[RatingAggregate.bucketOf(newScore)]++;
+        apply(type, targetIdx, 0, newScore - oldScore, buckets);
+    }
+
+    @Transactional
+    public void remove(ScoreType type, Integer targetIdx, double score) {
+        long[] buckets = new long[RatingAggregate.MAX_BUCKET + 1];
+        buckets[RatingAggregate.bucketOf(score)]--;
+        apply(type, targetIdx, -1, -score, buckets);
+    }
+
+    public RatingSummaryResponseDto getSummary(ScoreType type, Integer targetIdx) {
+        return ratingAggregateRepository.findByScoreTypeAndTargetIdx(type, targetIdx)
+                .map(aggregate -> RatingSummaryResponseDto.from(aggregate, priorMean, priorWeight))
+                .orElseGet(() -> RatingSummaryResponseDto.empty(priorMean));
+    }
+
+    public double getAverage(ScoreType type, Integer targetIdx) {
+        return ratingAggregateRepository.findByScoreTypeAndTargetIdx(type, targetIdx)
+                .map(RatingAggregate::average)
+                .orElse(0.0);
+    }
+
+    // 집계 테이블이 처음 생긴 경우 기존 평점으로 채운다
+    @Transactional
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillIfEmpty() {
+        if (ratingAggregateRepository.count() > 0) {
+            return;
+        }
+        int targets = ratingAggregateRepository.backfillFromScores();
+        int videos = videoRepository.syncAllRatingSummaries();
+        log.info("평점 집계 백필 완료 - 대상: {}개, 영상 동기화: {}개", targets, videos);
+    }
+
+    // ===== ===== //
+    private void apply(ScoreType type, Integer targetIdx, long countDelta, double sumDelta, long[] buckets) {
+        ratingAggregateRepository.applyDelta(type.name(), targetIdx, countDelta, sumDelta,
+                buckets[1], buckets[2], buckets[3], buckets[4], buckets[5]);
+        if (type == ScoreType.VIDEO) {
+            videoRepository.syncRatingSummary(targetIdx);
+        }
+    }
+}
@@ -4,6 +4,7 @@ import com.dabom.member.model.entity.Member;
 import com.dabom.member.repository.MemberRepository;
 import com.dabom.score.exception.ScoreException;
 import com.dabom.score.exception.ScoreExceptionType;
+import com.dabom.score.model.dto.RatingSummaryResponseDto;
 import com.dabom.score.model.dto.ScoreRegisterReqDto;
 import com.dabom.score.model.dto.ScoreUpdateReqDto;
 import com.dabom.score.model.entity.Score;
@@ -11,7 +12,10 @@ import com.dabom.score.model.entity.ScoreType;
 import com.dabom.score.repository.ScoreRepository;
 import com.dabom.video.model.Video;
 import com.dabom.video.repository.VideoRepository;
+import com.dabom.video.service.trending.TrendingEvent;
+import com.dabom.video.service.trending.TrendingEventType;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -23,6 +27,8 @@ public class ScoreService {
     private final ScoreRepository scoreRepository;
     private final MemberRepository memberRepository;
     private final VideoRepository videoRepository;
+    private final RatingAggregateService ratingAggregateService;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public void register(ScoreRegisterReqDto dto, Integer memberIdx) {
@@ -34,11 +40,18 @@ public class ScoreService {
             Video video = videoRepository.findById(dto.getVideoIdx())
                     .orElseThrow(() -> new ScoreException(ScoreExceptionType.VIDEO_NOT_FOUND));
 
-            scoreRepository.findByMemberAndVideo(member, video)
-                    .ifPresentOrElse(
-                            existingScore -> updateScore(existingScore, dto.getScore()),
-                            () -> saveNewScore(dto, member, null, video)
-                    );
+            boolean newRating = scoreRepository.findByMemberAndVideo(member, video)
+                    .map(existingScore -> updateScore(existingScore, ScoreType.VIDEO, video.getIdx(), dto.getScore()))
+                    .orElseGet(() -> {
+                        saveNewScore(dto, member, null, video, video.getIdx());
+                        return true;
+                    });
+            // 새 평점만 인기 점수에 반영한다 (평점을 고치는 것은 새 관심이 아니다).
+            // 높은 평점일수록 더 크게 반영하고, 커밋 후에 기록한다
+            if (newRating) {
+                eventPublisher.publishEvent(new TrendingEvent(video.getIdx(), video.getVideoTag(),
+                        TrendingEventType.SCORE, dto.getScore() / Score.MAX_SCORE));
+            }
             return;
         }
         if (scoreType == ScoreType.CHANNEL) {
@@ -47,8 +60,8 @@ public class ScoreService {
 
             scoreRepository.findByMemberAndChannel(member, channel)
                     .ifPresentOrElse(
-                            existingScore -> updateScore(existingScore, dto.getScore()),
-                            () -> saveNewScore(dto, member, channel, null)
+                            existingScore -> updateScore(existingScore, ScoreType.CHANNEL, channel.getIdx(), dto.getScore()),
+                            () -> saveNewScore(dto, member, channel, null, channel.getIdx())
                     );
             return;
         }
@@ -56,14 +69,24 @@ public class ScoreService {
         throw new ScoreException(ScoreExceptionType.SCORE_TYPE_MISMATCH);
     }
 
-    private void updateScore(Score existingScore, double newScore) {
+    // 삭제했던 평점을 다시 매긴 경우(새 평점으로 집계) true
+    private boolean updateScore(Score existingScore, ScoreType type, Integer targetIdx, double newScore) {
+        boolean restored = Boolean.TRUE.equals(existingScore.getIsDeleted());
+        if (restored) {
+            existingScore.restore();
+            ratingAggregateService.add(type, targetIdx, newScore);
+        } else {
+            ratingAggregateService.change(type, targetIdx, existingScore.getScore(), newScore);
+        }
         existingScore.updateScore(newScore);
         scoreRepository.save(existingScore);
+        return restored;
     }
 
-    private void saveNewScore(ScoreRegisterReqDto dto, Member member, Member channel, Video video) {
+    private void saveNewScore(ScoreRegisterReqDto dto, Member member, Member channel, Video video, Integer targetIdx) {
         Score newScore = dto.toEntity(member, channel, video);
         scoreRepository.save(newScore);
+        ratingAggregateService.add(newScore.getScoreType(), targetIdx, newScore.getScore());
     }
 
     @Transactional
@@ -72,7 +95,11 @@ public class ScoreService {
         if (result.isPresent()) {
             Score scoreEntity = result.get();
             if (scoreEntity.getScoreType().equals(type) && scoreEntity.getMember().getIdx().equals(memberIdx)) {
+                if (Boolean.TRUE.equals(scoreEntity.getIsDeleted())) {
+                    return;
+                }
                 scoreEntity.softDelete();
+                ratingAggregateService.remove(type, targetIdxOf(scoreEntity), scoreEntity.getScore());
             } else {
                 throw new ScoreException(ScoreExceptionType.SCORE_NOT_FOUND);
             }
@@ -81,13 +108,23 @@ public class ScoreService {
         }
     }
 
+    // 평점 집계(rating_aggregate) 한 행만 읽는다
     public Double getAverageScore(ScoreType type, Integer targetIdx) {
-        if (type == ScoreType.CHANNEL) {
-            return scoreRepository.findAverageScoreByChannelIdx(targetIdx).orElse(0.0);
-        } else if (type == ScoreType.VIDEO) {
-            return scoreRepository.findAverageScoreByVideoIdx(targetIdx).orElse(0.0);
+        if (type == null) {
+            throw new ScoreException(ScoreExceptionType.SCORE_TYPE_MISMATCH);
         }
-        else throw new ScoreException(ScoreExceptionType.SCORE_TYPE_MISMATCH);
+        return ratingAggregateService.getAverage(type, targetIdx);
+    }
+
+    public RatingSummaryResponseDto getRatingSummary(ScoreType type, Integer targetIdx) {
+        if (type == null) {
+            throw new ScoreException(ScoreExceptionType.SCORE_TYPE_MISMATCH);
+        }
+        return ratingAggregateService.getSummary(type, targetIdx);
+    }
+
+    private Integer targetIdxOf(Score score) {
+        return score.getScoreType() == ScoreType.VIDEO ? score.getVideo().getIdx() : score.getChannel().getIdx();
     }
 
 }
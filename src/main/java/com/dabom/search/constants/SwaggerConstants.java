@@ -25,7 +25,8 @@ public final class SwaggerConstants {
                         }
                     ],
                     "hasNext": true,
-                    "totalCount": 25
+                    "totalCount": 25,
+                    "nextCursor": "MjAyNC0xMS0yOFQxNDoyMHwy"
                 },
                 "code": 200,
                 "message": "비디오 조회 완료"
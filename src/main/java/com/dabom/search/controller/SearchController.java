@@ -2,8 +2,11 @@ package com.dabom.search.controller;
 
 import com.dabom.common.BaseResponse;
 import com.dabom.common.SliceBaseResponse;
+import com.dabom.search.model.SearchSort;
 import com.dabom.search.model.dto.SearchResponseDto;
+import com.dabom.search.model.dto.SuggestResponseDto;
 import com.dabom.search.service.SearchService;
+import com.dabom.video.model.VideoTag;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -19,6 +22,8 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.util.List;
+
 import static com.dabom.search.constants.SwaggerConstants.SEARCH_VIDEOS_RESPONSE;
 
 @Tag(name = "검색 기능")
@@ -40,6 +45,26 @@ public class SearchController {
                             schema = @Schema(type = "string"),
                             example = "강의"
                     ),
+                    @Parameter(
+                            name = "sort",
+                            description = "정렬 (LATEST: 최신순, TRENDING: 인기순)",
+                            required = false,
+                            schema = @Schema(type = "string", defaultValue = "LATEST"),
+                            example = "TRENDING"
+                    ),
+                    @Parameter(
+                            name = "tag",
+                            description = "인기순일 때 태그별 순위 (선택사항, 없으면 전체)",
+                            required = false,
+                            schema = @Schema(type = "string"),
+                            example = "GAMING"
+                    ),
+                    @Parameter(
+                            name = "cursor",
+                            description = "이전 응답의 nextCursor (선택사항, 있으면 page 대신 사용)",
+                            required = false,
+                            schema = @Schema(type = "string")
+                    ),
                     @Parameter(
                             name = "page",
                             description = "페이지 번호 (0부터 시작)",
@@ -79,13 +104,47 @@ public class SearchController {
     public ResponseEntity<BaseResponse<SliceBaseResponse<SearchResponseDto>>> getVideos(
             @RequestParam(required = false) String keyword,
             @RequestParam(required = false) String channelName,
+            @RequestParam(defaultValue = "LATEST") SearchSort sort,
+            @RequestParam(required = false) VideoTag tag,
+            @RequestParam(required = false) String cursor,
             @RequestParam(defaultValue = "0") Integer page,
             @RequestParam(defaultValue = "10") Integer size) {
 
-        SliceBaseResponse<SearchResponseDto> result = searchService.getVideos(keyword, channelName, page, size);
+        SliceBaseResponse<SearchResponseDto> result = searchService.getVideos(keyword, channelName, sort, tag, cursor, page, size);
 
         return ResponseEntity.ok(
                 BaseResponse.of(result, HttpStatus.OK, "비디오 조회 완료"));
     }
 
+    @Operation(
+            summary = "검색어 자동완성",
+            description = "입력 중인 검색어로 시작하는 영상 제목, 채널 이름, 태그를 조회수 순으로 반환합니다.",
+            parameters = {
+                    @Parameter(
+                            name = "keyword",
+                            description = "입력 중인 검색어 (앞부분)",
+                            required = true,
+                            schema = @Schema(type = "string"),
+                            example = "자바"
+                    ),
+                    @Parameter(
+                            name = "size",
+                            description = "최대 후보 수 (최대 app.search.suggest.top-k)",
+                            required = false,
+                            schema = @Schema(type = "integer", defaultValue = "10"),
+                            example = "10"
+                    )
+            }
+    )
+    @GetMapping("/suggest")
+    public ResponseEntity<BaseResponse<List<SuggestResponseDto>>> suggest(
+            @RequestParam String keyword,
+            @RequestParam(defaultValue = "10") Integer size) {
+
+        List<SuggestResponseDto> result = searchService.suggest(keyword, size);
+
+        return ResponseEntity.ok(
+                BaseResponse.of(result, HttpStatus.OK, "자동완성 조회 완료"));
+    }
+
 }
@@ -0,0 +1,47 @@
+package com.dabom.search.index;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+// 한글은 띄어쓰기/조사 때문에 단어 단위 색인이 잘 맞지 않아 글자 bigram 으로 자른다.
+// "자바강의를" -> 자바, 바강, 강의, 의를. 한 글자 단어는 그대로 한 토큰이 된다.
+// 라틴 문자도 같은 규칙을 써서 LIKE '%kw%' 와 비슷한 부분 일치를 유지한다
+final class BigramTokenizer {
+
+    private BigramTokenizer() {
+    }
+
+    // 중복을 포함한 토큰 목록 (tf 계산용)
+    static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null || text.isBlank()) {
+            return tokens;
+        }
+
+        String normalized = Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+        int wordStart = -1;
+        for (int i = 0; i <= normalized.length(); i++) {
+            boolean letter = i < normalized.length() && Character.isLetterOrDigit(normalized.charAt(i));
+            if (letter && wordStart < 0) {
+                wordStart = i;
+            } else if (!letter && wordStart >= 0) {
+                addWord(normalized, wordStart, i, tokens);
+                wordStart = -1;
+            }
+        }
+        return tokens;
+    }
+
+    // ===== ===== //
+    private static void addWord(String text, int start, int end, List<String> tokens) {
+        if (end - start == 1) {
+            tokens.add(text.substring(start, end));
+            return;
+        }
+        for (int i = start; i + 1 < end; i++) {
+            tokens.add(text.substring(i, i + 2));
+        }
+    }
+}
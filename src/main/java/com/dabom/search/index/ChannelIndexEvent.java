@@ -0,0 +1,5 @@
+package com.dabom.search.index;
+
+// 채널 이름이 바뀜. 커밋 후 그 채널의 영상을 모두 다시 색인한다
+public record ChannelIndexEvent(Integer channelIdx) {
+}
@@ -0,0 +1,375 @@
+package com.dabom.search.index;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+// 영상 검색용 메모리 역색인.
+// - 토큰: 글자 bigram (BigramTokenizer). 필드별 가중치를 곱한 tf 를 저장한다
+// - 수정: 이전 문서를 삭제 표시하고 새 문서 번호로 다시 추가한다. 삭제된 문서가 절반을 넘으면 압축한다
+// - 점수: BM25 + 최신 가중치 (반감기만큼 지나면 절반)
+// 검색어의 모든 토큰을 포함한 영상만 돌려준다 (기존 LIKE 검색과 같은 AND 의미)
+public class InvertedIndex {
+
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+
+    private static final int TITLE_WEIGHT = 3;
+    private static final int CHANNEL_WEIGHT = 2;
+    private static final int TAG_WEIGHT = 2;
+    private static final int DESCRIPTION_WEIGHT = 1;
+
+    private final double recencyWeight;
+    private final double recencyHalfLifeSeconds;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final Map<String, Integer> termIds = new HashMap<>();
+    private final List<PostingList> postings = new ArrayList<>();
+
+    private final Map<Integer, Integer> docByVideo = new HashMap<>();
+    private int[] docVideo = new int[64];
+    private int[] docLength = new int[64];
+    private long[] docCreatedAt = new long[64];     // epoch seconds
+    private int[][] docTerms = new int[64][];
+    private int[][] docTfs = new int[64][];
+    private final BitSet deleted = new BitSet();
+    private int docCount;
+    private int liveCount;
+    private long liveLength;
+
+    public InvertedIndex(double recencyWeight, double recencyHalfLifeDays) {
+        this.recencyWeight = recencyWeight;
+        this.recencyHalfLifeSeconds = recencyHalfLifeDays * 24 * 60 * 60;
+    }
+
+    // 추가 또는 갱신
+    public void put(VideoDocument document) {
+        Map<String, Integer> termTf = weightedTerms(document);
+        lock.writeLock().lock();
+        try {
+            removeInternal(document.videoIdx());
+            if (!termTf.isEmpty()) {
+                append(document, termTf);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(Integer videoIdx) {
+        lock.writeLock().lock();
+        try {
+            removeInternal(videoIdx);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return liveCount;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 점수 순 영상 idx, 최대 limit 개
+    public List<Integer> search(String query, int limit) {
+        List<String> queryTokens = BigramTokenizer.tokenize(query);
+        if (queryTokens.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+
+        lock.readLock().lock();
+        try {
+            return searchInternal(new ArrayList<>(new LinkedHashSet<>(queryTokens)), limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // ===== 색인 =====
+    private static Map<String, Integer> weightedTerms(VideoDocument document) {
+        Map<String, Integer> termTf = new HashMap<>();
+        addField(termTf, document.title(), TITLE_WEIGHT);
+        addField(termTf, document.channelName(), CHANNEL_WEIGHT);
+        addField(termTf, document.tagName(), TAG_WEIGHT);
+        addField(termTf, document.description(), DESCRIPTION_WEIGHT);
+        return termTf;
+    }
+
+    private static void addField(Map<String, Integer> termTf, String text, int weight) {
+        for (String token : BigramTokenizer.tokenize(text)) {
+            termTf.merge(token, weight, Integer::sum);
+        }
+    }
+
+    private void append(VideoDocument document, Map<String, Integer> termTf) {
+        ensureDocCapacity(docCount + 1);
+        int doc = docCount++;
+
+        int[] terms = new int[termTf.size()];
+        int[] tfs = new int[termTf.size()];
+        int length = 0;
+        int i = 0;
+        for (Map.Entry<String, Integer> entry : termTf.entrySet()) {
+            int termId = termIds.computeIfAbsent(entry.getKey(), key -> {
+                postings.add(new PostingList());
+                return postings.size() - 1;
+            });
+            postings.get(termId).add(doc, entry.getValue());
+            terms[i] = termId;
+            tfs[i] = entry.getValue();
+            length += entry.getValue();
+            i++;
+        }
+
+        docVideo[doc] = document.videoIdx();
+        docLength[doc] = length;
+        docCreatedAt[doc] = document.createdAt() == null ? 0 : document.createdAt().toEpochSecond(ZoneOffset.UTC);
+        docTerms[doc] = terms;
+        docTfs[doc] = tfs;
+        docByVideo.put(document.videoIdx(), doc);
+        liveCount++;
+        liveLength += length;
+    }
+
+    private void removeInternal(Integer videoIdx) {
+        Integer doc = docByVideo.remove(videoIdx);
+        if (doc == null) {
+            return;
+        }
+        deleted.set(doc);
+        for (int termId : docTerms[doc]) {
+            postings.get(termId).removeDocument();
+        }
+        liveCount--;
+        liveLength -= docLength[doc];
+        docTerms[doc] = null;
+        docTfs[doc] = null;
+
+        if (deleted.cardinality() > Math.max(1024, liveCount)) {
+            compact();
+        }
+    }
+
+    // 살아 있는 문서만 새 번호로 옮겨 담는다
+    private void compact() {
+        String[] names = new String[postings.size()];
+        termIds.forEach((term, id) -> names[id] = term);
+
+        int oldCount = docCount;
+        int[] oldVideo = docVideo;
+        int[] oldLength = docLength;
+        long[] oldCreatedAt = docCreatedAt;
+        int[][] oldTerms = docTerms;
+        int[][] oldTfs = docTfs;
+        BitSet oldDeleted = (BitSet) deleted.clone();
+
+        termIds.clear();
+        postings.clear();
+        docByVideo.clear();
+        deleted.clear();
+        docVideo = new int[Math.max(64, liveCount * 2)];
+        docLength = new int[docVideo.length];
+        docCreatedAt = new long[docVideo.length];
+        docTerms = new int[docVideo.length][];
+        docTfs = new int[docVideo.length][];
+        docCount = 0;
+        liveCount = 0;
+        liveLength = 0;
+
+        for (int oldDoc = 0; oldDoc < oldCount; oldDoc++) {
+            if (oldDeleted.get(oldDoc)) {
+                continue;
+            }
+            int doc = docCount++;
+            int[] remapped = new int[oldTerms[oldDoc].length];
+            for (int i = 0; i < remapped.length; i++) {
+                String term = names[oldTerms[oldDoc][i]];
+                int termId = termIds.computeIfAbsent(term, key -> {
+                    postings.add(new PostingList());
+                    return postings.size() - 1;
+                });
+                postings.get(termId).add(doc, oldTfs[oldDoc][i]);
+                remapped[i] = termId;
+            }
+            docVideo[doc] = oldVideo[oldDoc];
+            docLength[doc] = oldLength[oldDoc];
+            docCreatedAt[doc] = oldCreatedAt[oldDoc];
+            docTerms[doc] = remapped;
+            docTfs[doc] = oldTfs[oldDoc];
+            docByVideo.put(docVideo[doc], doc);
+            liveCount++;
+            liveLength += docLength[doc];
+        }
+    }
+
+    private void ensureDocCapacity(int capacity) {
+        if (capacity <= docVideo.length) {
+            return;
+        }
+        int newCapacity = Math.max(capacity, docVideo.length * 2);
+        docVideo = Arrays.copyOf(docVideo, newCapacity);
+        docLength = Arrays.copyOf(docLength, newCapacity);
+        docCreatedAt = Arrays.copyOf(docCreatedAt, newCapacity);
+        docTerms = Arrays.copyOf(docTerms, newCapacity);
+        docTfs = Arrays.copyOf(docTfs, newCapacity);
+    }
+
+    // ===== 검색 =====
+    private List<Integer> searchInternal(List<String> tokens, int limit) {
+        List<Matches> matchesByToken = new ArrayList<>(tokens.size());
+        for (String token : tokens) {
+            Matches matches = matchesOf(token);
+            if (matches.size == 0) {
+                return List.of();
+            }
+            matchesByToken.add(matches);
+        }
+        // 가장 짧은 목록부터 교집합을 구한다
+        matchesByToken.sort((a, b) -> Integer.compare(a.size, b.size));
+
+        double averageLength = liveCount == 0 ? 1 : (double) liveLength / liveCount;
+        Matches first = matchesByToken.get(0);
+        int[] candidates = new int[first.size];
+        double[] scores = new double[first.size];
+        int candidateCount = 0;
+        double idf = idf(first.documentFrequency);
+        for (int i = 0; i < first.size; i++) {
+            int doc = first.docs[i];
+            if (!deleted.get(doc)) {
+                candidates[candidateCount] = doc;
+                scores[candidateCount] = bm25(idf, first.tfs[i], docLength[doc], averageLength);
+                candidateCount++;
+            }
+        }
+
+        for (int t = 1; t < matchesByToken.size() && candidateCount > 0; t++) {
+            Matches matches = matchesByToken.get(t);
+            idf = idf(matches.documentFrequency);
+            int kept = 0;
+            int j = 0;
+            for (int i = 0; i < candidateCount; i++) {
+                int doc = candidates[i];
+                while (j < matches.size && matches.docs[j] < doc) {
+                    j++;
+                }
+                if (j < matches.size && matches.docs[j] == doc) {
+                    candidates[kept] = doc;
+                    scores[kept] = scores[i] + bm25(idf, matches.tfs[j], docLength[doc], averageLength);
+                    kept++;
+                }
+            }
+            candidateCount = kept;
+        }
+
+        long now = LocalDateTime.now().toEpochSecond(ZoneOffset.UTC);
+        Integer[] order = new Integer[candidateCount];
+        for (int i = 0; i < candidateCount; i++) {
+            long age = Math.max(0, now - docCreatedAt[candidates[i]]);
+            scores[i] += recencyWeight * Math.pow(0.5, age / recencyHalfLifeSeconds);
+            order[i] = i;
+        }
+        final double[] finalScores = scores;
+        Arrays.sort(order, (a, b) -> Double.compare(finalScores[b], finalScores[a]));
+
+        int count = Math.min(limit, candidateCount);
+        List<Integer> result = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            result.add(docVideo[candidates[order[i]]]);
+        }
+        return result;
+    }
+
+    // 한 글자 검색어는 그 글자를 포함한 모든 bigram 의 합집합으로 찾는다
+    private Matches matchesOf(String token) {
+        if (token.length() > 1) {
+            Integer termId = termIds.get(token);
+            if (termId == null) {
+                return Matches.EMPTY;
+            }
+            PostingList postingList = postings.get(termId);
+            Matches matches = new Matches(postingList.count());
+            postingList.decode(matches.docs, matches.tfs);
+            matches.size = postingList.count();
+            matches.documentFrequency = postingList.documentFrequency();
+            return matches;
+        }
+
+        List<PostingList> expanded = new ArrayList<>();
+        int total = 0;
+        for (Map.Entry<String, Integer> entry : termIds.entrySet()) {
+            if (entry.getKey().contains(token)) {
+                PostingList postingList = postings.get(entry.getValue());
+                expanded.add(postingList);
+                total += postingList.count();
+            }
+        }
+        return union(expanded, total);
+    }
+
+    // (문서 번호 << 32 | tf) 로 묶어 정렬한 뒤 같은 문서의 tf 를 더한다
+    private Matches union(List<PostingList> lists, int total) {
+        long[] packed = new long[total];
+        int position = 0;
+        for (PostingList postingList : lists) {
+            int[] docs = new int[postingList.count()];
+            int[] tfs = new int[postingList.count()];
+            postingList.decode(docs, tfs);
+            for (int i = 0; i < docs.length; i++) {
+                packed[position++] = ((long) docs[i] << 32) | tfs[i];
+            }
+        }
+        Arrays.sort(packed);
+
+        Matches matches = new Matches(total);
+        for (long value : packed) {
+            int doc = (int) (value >>> 32);
+            int tf = (int) value;
+            if (matches.size > 0 && matches.docs[matches.size - 1] == doc) {
+                matches.tfs[matches.size - 1] += tf;
+                continue;
+            }
+            matches.docs[matches.size] = doc;
+            matches.tfs[matches.size] = tf;
+            matches.size++;
+            if (!deleted.get(doc)) {
+                matches.documentFrequency++;
+            }
+        }
+        return matches;
+    }
+
+    private double idf(int documentFrequency) {
+        return Math.log(1 + (liveCount - documentFrequency + 0.5) / (documentFrequency + 0.5));
+    }
+
+    private static double bm25(double idf, int tf, int length, double averageLength) {
+        return idf * tf * (K1 + 1) / (tf + K1 * (1 - B + B * length / averageLength));
+    }
+
+    private static final class Matches {
+        private static final Matches EMPTY = new Matches(0);
+
+        private final int[] docs;
+        private final int[] tfs;
+        private int size;
+        private int documentFrequency;
+
+        private Matches(int capacity) {
+            this.docs = new int[capacity];
+            this.tfs = new int[capacity];
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package com.dabom.search.index;
+
+import java.util.Arrays;
+
+// 한 단어의 (문서 번호, tf) 목록. 문서 번호는 오름차순으로만 추가되므로
+// 앞 번호와의 차이(gap)와 tf 를 varint 로 이어 붙여 압축한다 (보통 문서당 2~3 byte)
+final class PostingList {
+
+    private byte[] bytes = new byte[8];
+    private int length;
+    private int lastDoc = -1;
+    private int count;          // 삭제된 문서를 포함한 항목 수
+    private int documentFrequency;  // 살아 있는 문서 수 (BM25 idf 용)
+
+    void add(int doc, int tf) {
+        if (doc <= lastDoc) {
+            throw new IllegalArgumentException("문서 번호는 증가해야 합니다: " + doc + " <= " + lastDoc);
+        }
+        writeVarInt(doc - lastDoc);
+        writeVarInt(tf);
+        lastDoc = doc;
+        count++;
+        documentFrequency++;
+    }
+
+    void removeDocument() {
+        documentFrequency--;
+    }
+
+    int count() {
+        return count;
+    }
+
+    int documentFrequency() {
+        return documentFrequency;
+    }
+
+    // docs/tfs 는 count() 이상 크기여야 한다
+    void decode(int[] docs, int[] tfs) {
+        int position = 0;
+        int doc = -1;
+        for (int i = 0; i < count; i++) {
+            int gap = 0;
+            int shift = 0;
+            byte b;
+            do {
+                b = bytes[position++];
+                gap |= (b & 0x7F) << shift;
+                shift += 7;
+            } while (b < 0);
+
+            int tf = 0;
+            shift = 0;
+            do {
+                b = bytes[position++];
+                tf |= (b & 0x7F) << shift;
+                shift += 7;
+            } while (b < 0);
+
+            doc += gap;
+            docs[i] = doc;
+            tfs[i] = tf;
+        }
+    }
+
+    // ===== ===== //
+    private void writeVarInt(int value) {
+        if (length + 5 > bytes.length) {
+            bytes = Arrays.copyOf(bytes, Math.max(bytes.length * 2, length + 5));
+        }
+        while ((value & ~0x7F) != 0) {
+            bytes[length++] = (byte) ((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        bytes[length++] = (byte) value;
+    }
+}
@@ -0,0 +1,20 @@
+package com.dabom.search.index;
+
+import com.dabom.video.model.Video;
+
+import java.time.LocalDateTime;
+
+// 검색 색인에 넣는 영상 필드
+public record VideoDocument(Integer videoIdx, String title, String description, String channelName,
+                            String tagName, LocalDateTime createdAt) {
+
+    public static VideoDocument from(Video video) {
+        return new VideoDocument(
+                video.getIdx(),
+                video.getTitle(),
+                video.getDescription(),
+                video.getChannel() == null ? null : video.getChannel().getName(),
+                video.getVideoTag() == null ? null : video.getVideoTag().getDisplayName(),
+                video.getCreatedAt());
+    }
+}
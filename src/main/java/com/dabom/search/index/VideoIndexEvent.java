@@ -0,0 +1,5 @@
+package com.dabom.search.index;
+
+// 영상 제목/설명/태그/공개 여부가 바뀜. 커밋 후 검색 색인을 다시 만든다
+public record VideoIndexEvent(Integer videoIdx) {
+}
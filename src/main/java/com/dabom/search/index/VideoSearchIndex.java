@@ -0,0 +1,116 @@
+package com.dabom.search.index;
+
+import com.dabom.video.model.Video;
+import com.dabom.video.repository.VideoRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+// 공개 영상의 키워드 검색 색인. 기동 시 전체를 읽어 만들고, 이후에는
+// VideoIndexEvent / ChannelIndexEvent 를 받아 커밋된 내용으로 해당 영상만 갱신한다.
+// 만드는 동안 온 이벤트는 번호만 모아 두었다가 색인을 공개한 직후 DB 에서 다시 읽어 반영한다
+// (전체 조회가 그 변경 전 내용을 읽었을 수 있다)
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class VideoSearchIndex {
+
+    private final VideoRepository videoRepository;
+
+    @Value("${app.search.index.recency-weight}")
+    private double recencyWeight;
+    @Value("${app.search.index.recency-half-life-days}")
+    private double recencyHalfLifeDays;
+
+    private volatile InvertedIndex index;
+    // index 가 null 인 동안 온 이벤트. 공개와 모으기가 엇갈리지 않도록 this 로 동기화한다
+    private final Set<Integer> pendingVideos = new LinkedHashSet<>();
+    private final Set<Integer> pendingChannels = new LinkedHashSet<>();
+
+    // 색인을 다 만들기 전에는 SearchService 가 DB 검색을 쓴다
+    public boolean isReady() {
+        return index != null;
+    }
+
+    public List<Integer> search(String keyword, int limit) {
+        return index.search(keyword, limit);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void build() {
+        long startedAt = System.currentTimeMillis();
+        InvertedIndex built = new InvertedIndex(recencyWeight, recencyHalfLifeDays);
+        videoRepository.findAllVisibleWithChannel()
+                .forEach(video -> built.put(VideoDocument.from(video)));
+
+        List<Integer> videoIdxs;
+        List<Integer> channelIdxs;
+        synchronized (this) {
+            index = built;
+            videoIdxs = List.copyOf(pendingVideos);
+            channelIdxs = List.copyOf(pendingChannels);
+            pendingVideos.clear();
+            pendingChannels.clear();
+        }
+        videoIdxs.forEach(videoIdx -> reindexVideo(built, videoIdx));
+        channelIdxs.forEach(channelIdx -> reindexChannel(built, channelIdx));
+        log.info("검색 색인 생성 - 영상: {}개, 생성 중 변경: 영상 {}개 / 채널 {}개, {}ms",
+                built.size(), videoIdxs.size(), channelIdxs.size(), System.currentTimeMillis() - startedAt);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onVideoChanged(VideoIndexEvent event) {
+        InvertedIndex current = indexOrDefer(pendingVideos, event.videoIdx());
+        if (current != null) {
+            reindexVideo(current, event.videoIdx());
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onChannelChanged(ChannelIndexEvent event) {
+        InvertedIndex current = indexOrDefer(pendingChannels, event.channelIdx());
+        if (current != null) {
+            reindexChannel(current, event.channelIdx());
+        }
+    }
+
+    // ===== ===== //
+    // 색인이 아직 없으면 번호를 모아 두고 null
+    private InvertedIndex indexOrDefer(Set<Integer> pending, Integer idx) {
+        InvertedIndex current = index;
+        if (current != null) {
+            return current;
+        }
+        synchronized (this) {
+            if (index == null) {
+                pending.add(idx);
+            }
+            return index;
+        }
+    }
+
+    private void reindexVideo(InvertedIndex target, Integer videoIdx) {
+        List<Video> videos = videoRepository.findVisibleVideosByIdxIn(List.of(videoIdx));
+        if (videos.isEmpty()) {
+            // 비공개로 바뀌었거나 삭제된 영상
+            target.remove(videoIdx);
+            return;
+        }
+        target.put(VideoDocument.from(videos.get(0)));
+    }
+
+    private void reindexChannel(InvertedIndex target, Integer channelIdx) {
+        List<Video> videos = videoRepository.findAllVisibleWithChannelByChannelIdx(channelIdx);
+        videos.forEach(video -> target.put(VideoDocument.from(video)));
+        log.debug("채널 영상 재색인 - 채널: {}, 영상: {}개", channelIdx, videos.size());
+    }
+}
@@ -0,0 +1,6 @@
+package com.dabom.search.model;
+
+public enum SearchSort {
+    LATEST,     // 최신순
+    TRENDING    // 인기순 (TrendingEngine, 최근 조회/평점/댓글에 가중치)
+}
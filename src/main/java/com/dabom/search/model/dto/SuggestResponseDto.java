@@ -0,0 +1,22 @@
+package com.dabom.search.model.dto;
+
+import com.dabom.search.suggest.Suggestion;
+import com.dabom.search.suggest.SuggestionType;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class SuggestResponseDto {
+    private SuggestionType type;
+    private String text;
+    private Integer targetIdx;  // 영상/채널 idx (태그는 null)
+
+    public static SuggestResponseDto from(Suggestion suggestion) {
+        return SuggestResponseDto.builder()
+                .type(suggestion.type())
+                .text(suggestion.text())
+                .targetIdx(suggestion.type() == SuggestionType.TAG ? null : suggestion.targetIdx())
+                .build();
+    }
+}
@@ -1,11 +1,20 @@
 package com.dabom.search.service;
 
 import com.dabom.common.SliceBaseResponse;
-import com.dabom.member.service.MemberService;
+import com.dabom.member.model.entity.Member;
+import com.dabom.member.service.MemberProfileResolver;
 import com.dabom.s3.S3UrlBuilder;
+import com.dabom.search.index.VideoSearchIndex;
+import com.dabom.search.model.SearchSort;
 import com.dabom.search.model.dto.SearchResponseDto;
+import com.dabom.search.model.dto.SuggestResponseDto;
+import com.dabom.search.suggest.SearchSuggestIndex;
 import com.dabom.video.model.Video;
+import com.dabom.video.model.VideoCursor;
+import com.dabom.video.model.VideoTag;
 import com.dabom.video.repository.VideoRepository;
+import com.dabom.video.service.trending.TrendingEngine;
+import com.dabom.video.service.trending.TrendingEntry;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.PageRequest;
@@ -14,53 +23,134 @@ import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class SearchService {
     private final VideoRepository videoRepository;
-    private final MemberService memberService;
+    private final MemberProfileResolver memberProfileResolver;
     private final S3UrlBuilder s3UrlBuilder;
+    private final TrendingEngine trendingEngine;
+    private final VideoSearchIndex videoSearchIndex;
+    private final SearchSuggestIndex searchSuggestIndex;
 
     private static final String DEFAULT_PROFILE_IMAGE = "/Image/Dabompng.png";
     private static final String DEFAULT_THUMBNAIL_IMAGE = "/Image/Dabompng.png";
 
-    public SliceBaseResponse<SearchResponseDto> getVideos(String keyword, String name, Integer page, Integer size) {
-        Pageable pageable = PageRequest.of(page, size);
-        Slice<Video> videoSlice;
+    // 최신순 목록은 cursor 가 있거나 첫 페이지면 keyset, 아니면 기존 page(offset) 방식으로 읽는다.
+    // 순위 목록(인기순, 키워드 검색)은 cursor 에 담긴 순위 위치부터 읽는다.
+    // 어느 쪽이든 응답의 nextCursor 로 이어서 요청할 수 있다
+    public SliceBaseResponse<SearchResponseDto> getVideos(String keyword, String name, SearchSort sort, VideoTag tag,
+                                                          String cursor, Integer page, Integer size) {
+        if (sort == SearchSort.TRENDING) {
+            return getTrendingVideos(tag, rankOffset(cursor, page, size), size);
+        }
+        boolean hasKeyword = keyword != null && !keyword.trim().isEmpty();
+        boolean hasName = name != null && !name.trim().isEmpty();
+        if (hasKeyword && !hasName && videoSearchIndex.isReady()) {
+            return searchByIndex(keyword.trim(), rankOffset(cursor, page, size), size);
+        }
 
-        if (name != null && !name.trim().isEmpty()) {
-            videoSlice = videoRepository.searchByNameWithFetchJoin(name.trim(), pageable);
-        } else if (keyword != null && !keyword.trim().isEmpty()) {
-            videoSlice = videoRepository.searchByKeywordWithFetchJoin(keyword.trim(), pageable);
+        Slice<Video> videoSlice;
+        if (cursor != null || page == 0) {
+            VideoCursor videoCursor = VideoCursor.decode(cursor);
+            if (hasName) {
+                videoSlice = videoRepository.searchByNameWithFetchJoin(name.trim(), videoCursor, size);
+            } else if (hasKeyword) {
+                videoSlice = videoRepository.searchByKeywordWithFetchJoin(keyword.trim(), videoCursor, size);
+            } else {
+                videoSlice = videoRepository.findVisibleVideosWithFetchJoin(videoCursor, size);
+            }
         } else {
-            videoSlice = videoRepository.findVisibleVideosWithFetchJoin(pageable);
+            Pageable pageable = PageRequest.of(page, size);
+            if (hasName) {
+                videoSlice = videoRepository.searchByNameWithFetchJoin(name.trim(), pageable);
+            } else if (hasKeyword) {
+                videoSlice = videoRepository.searchByKeywordWithFetchJoin(keyword.trim(), pageable);
+            } else {
+                videoSlice = videoRepository.findVisibleVideosWithFetchJoin(pageable);
+            }
         }
 
-        List<SearchResponseDto> result = videoSlice.stream()
-                .map(video -> {
-                    String profileImg = getProfileImgSafely(video);
-                    String thumbnail = getThumbnailSafely(video);
-                    return SearchResponseDto.from(video, profileImg, thumbnail);
-                })
+        List<Video> videos = videoSlice.getContent();
+        List<SearchResponseDto> result = toResponses(videos);
+
+        String nextCursor = videoSlice.hasNext() ? VideoCursor.of(videos.get(videos.size() - 1)).encode() : null;
+        return SliceBaseResponse.withCursor(result, videoSlice.hasNext(), nextCursor);
+    }
+
+    // 검색창 자동완성. DB 를 읽지 않는다
+    public List<SuggestResponseDto> suggest(String keyword, Integer size) {
+        return searchSuggestIndex.suggest(keyword, size).stream()
+                .map(SuggestResponseDto::from)
                 .toList();
+    }
 
-        return new SliceBaseResponse<>(result, videoSlice.hasNext());
+    // 인기순 피드. 순위는 메모리의 상위 K 개에서 잘라 오고 DB 는 그 페이지의 영상만 읽는다
+    private SliceBaseResponse<SearchResponseDto> getTrendingVideos(VideoTag tag, int from, Integer size) {
+        List<Integer> ranking = trendingEngine.top(tag, from + size + 1).stream()
+                .map(TrendingEntry::videoIdx)
+                .toList();
+        return toRankedSlice(ranking, from, size);
     }
 
-    private String getProfileImgSafely(Video video) {
-        try {
-            if (video.getChannel() != null) {
-                String profileImg = memberService.getProfileImg(video.getChannel().getIdx());
-                if (profileImg != null && !profileImg.trim().isEmpty()) {
-                    return profileImg;
-                }
-            }
-        } catch (Exception e) {
-            log.warn("프로필 이미지 조회 실패");
+    // 키워드 검색. 메모리 역색인(BM25 + 최신순 가중치)으로 순위를 정한다
+    private SliceBaseResponse<SearchResponseDto> searchByIndex(String keyword, int from, Integer size) {
+        List<Integer> ranking = videoSearchIndex.search(keyword, from + size + 1);
+        return toRankedSlice(ranking, from, size);
+    }
+
+    // cursor 가 있으면 그 순위 위치부터, 없으면 page 로 계산한다
+    private int rankOffset(String cursor, Integer page, Integer size) {
+        Integer offset = VideoCursor.decodeOffset(cursor);
+        return offset != null ? offset : page * size;
+    }
+
+    // 순위대로 정렬된 idx 목록에서 from 번째부터 한 페이지만 DB 에서 읽는다
+    private SliceBaseResponse<SearchResponseDto> toRankedSlice(List<Integer> ranking, int from, Integer size) {
+        if (from >= ranking.size()) {
+            return new SliceBaseResponse<>(List.of(), false);
+        }
+
+        List<Integer> pageIdxs = ranking.subList(from, Math.min(from + size, ranking.size()));
+        Map<Integer, Video> videos = videoRepository.findVisibleVideosByIdxIn(pageIdxs).stream()
+                .collect(Collectors.toMap(Video::getIdx, Function.identity()));
+
+        // 비공개로 바뀌었거나 삭제된 영상은 빠진다
+        List<SearchResponseDto> result = toResponses(pageIdxs.stream()
+                .map(videos::get)
+                .filter(Objects::nonNull)
+                .toList());
+
+        boolean hasNext = ranking.size() > from + size;
+        String nextCursor = hasNext ? VideoCursor.encodeOffset(from + size) : null;
+        return SliceBaseResponse.withCursor(result, hasNext, nextCursor);
+    }
+
+    // 채널 프로필은 페이지 단위로 한 번에 조회한다
+    private List<SearchResponseDto> toResponses(List<Video> videos) {
+        Map<Integer, String> profiles = memberProfileResolver.resolveAll(videos.stream()
+                .map(Video::getChannel)
+                .filter(Objects::nonNull)
+                .map(Member::getIdx)
+                .toList());
+        return videos.stream()
+                .map(video -> toResponse(video, profiles))
+                .toList();
+    }
+
+    private SearchResponseDto toResponse(Video video, Map<Integer, String> profiles) {
+        String profileImg = video.getChannel() == null ? null : profiles.get(video.getChannel().getIdx());
+        if (profileImg == null || profileImg.trim().isEmpty()) {
+            profileImg = DEFAULT_PROFILE_IMAGE;
         }
-        return DEFAULT_PROFILE_IMAGE;
+        String thumbnail = getThumbnailSafely(video);
+        return SearchResponseDto.from(video, profileImg, thumbnail);
     }
 
     private String getThumbnailSafely(Video video) {
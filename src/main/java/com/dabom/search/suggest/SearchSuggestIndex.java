@@ -0,0 +1,193 @@
+package com.dabom.search.suggest;
+
+import com.dabom.search.index.ChannelIndexEvent;
+import com.dabom.search.index.VideoIndexEvent;
+import com.dabom.video.model.Video;
+import com.dabom.video.model.VideoTag;
+import com.dabom.video.repository.VideoRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+// 검색창 자동완성. 공개 영상 제목, 그 영상을 올린 채널 이름, 태그 표시 이름을 SuggestTrie 에 넣는다.
+// 조회는 메모리에서만 하고, 영상 공개/수정(VideoIndexEvent)과 채널 이름 변경(ChannelIndexEvent)은
+// 커밋 후 해당 항목만 바꾼다. 가중치(조회수)는 주기적으로 다시 읽어 맞춘다
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SearchSuggestIndex {
+
+    private final VideoRepository videoRepository;
+
+    @Value("${app.search.suggest.top-k}")
+    private int topK;
+
+    private volatile SuggestTrie trie;
+
+    // 아래 상태는 this 로 동기화한다
+    private final Map<Integer, IndexedVideo> videos = new HashMap<>();
+    private final Map<Integer, ChannelWeight> channels = new HashMap<>();
+    private final long[] tagViews = new long[VideoTag.values().length];
+
+    public List<Suggestion> suggest(String keyword, int limit) {
+        SuggestTrie current = trie;
+        if (current == null) {
+            return List.of();
+        }
+        return current.complete(keyword, Math.min(limit, topK));
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void build() {
+        long startedAt = System.currentTimeMillis();
+        List<Video> visibleVideos = videoRepository.findAllVisibleWithChannel();
+        synchronized (this) {
+            SuggestTrie built = new SuggestTrie(topK);
+            for (VideoTag tag : VideoTag.values()) {
+                if (tag != VideoTag.NONE) {
+                    built.put(new Suggestion(SuggestionType.TAG, tag.ordinal(), tag.getDisplayName(), 0));
+                }
+            }
+            trie = built;
+            visibleVideos.forEach(this::putVideo);
+            log.info("자동완성 색인 생성 - 후보: {}개, {}ms", built.size(), System.currentTimeMillis() - startedAt);
+        }
+    }
+
+    // 조회수는 계속 바뀌므로 주기적으로 다시 읽어 가중치를 맞춘다. 바뀐 항목만 trie 를 고친다
+    @Scheduled(fixedDelayString = "${app.search.suggest.refresh-interval-ms}",
+            initialDelayString = "${app.search.suggest.refresh-interval-ms}")
+    public void refresh() {
+        if (trie == null) {
+            return;
+        }
+        List<Video> visibleVideos = videoRepository.findAllVisibleWithChannel();
+        synchronized (this) {
+            Set<Integer> stale = new HashSet<>(videos.keySet());
+            for (Video video : visibleVideos) {
+                putVideo(video);
+                stale.remove(video.getIdx());
+            }
+            stale.forEach(this::removeVideo);
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onVideoChanged(VideoIndexEvent event) {
+        if (trie == null) {
+            return;
+        }
+        List<Video> found = videoRepository.findVisibleVideosByIdxIn(List.of(event.videoIdx()));
+        synchronized (this) {
+            if (found.isEmpty()) {
+                // 비공개로 바뀌었거나 삭제된 영상
+                removeVideo(event.videoIdx());
+                return;
+            }
+            putVideo(found.get(0));
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onChannelChanged(ChannelIndexEvent event) {
+        if (trie == null) {
+            return;
+        }
+        List<Video> channelVideos = videoRepository.findAllVisibleWithChannelByChannelIdx(event.channelIdx());
+        synchronized (this) {
+            channelVideos.forEach(this::putVideo);
+        }
+    }
+
+    // ===== 가중치 관리 (this 잠금 안에서만 호출) ===== //
+    private void putVideo(Video video) {
+        long views = video.getViews() == null ? 0 : video.getViews();
+        Integer channelIdx = video.getChannel().getIdx();
+        IndexedVideo indexed = new IndexedVideo(channelIdx, video.getVideoTag(), views);
+        IndexedVideo previous = videos.put(video.getIdx(), indexed);
+
+        trie.put(new Suggestion(SuggestionType.VIDEO, video.getIdx(), video.getTitle(), views));
+
+        // 새 값을 먼저 더하고 이전 값을 빼서, 같은 채널의 마지막 영상이 잠깐 빠지는 일이 없게 한다
+        ChannelWeight channel = channels.computeIfAbsent(channelIdx, idx -> new ChannelWeight());
+        channel.name = video.getChannel().getName();
+        channel.views += views;
+        channel.videoCount++;
+        addTagViews(indexed.tag(), views);
+        if (previous != null) {
+            detach(previous);
+        }
+        putChannel(channelIdx, channel);
+        putTag(indexed.tag());
+        if (previous != null && previous.tag() != indexed.tag()) {
+            putTag(previous.tag());
+        }
+    }
+
+    private void removeVideo(Integer videoIdx) {
+        IndexedVideo previous = videos.remove(videoIdx);
+        trie.remove(SuggestionType.VIDEO, videoIdx);
+        if (previous == null) {
+            return;
+        }
+        detach(previous);
+        ChannelWeight channel = channels.get(previous.channelIdx());
+        if (channel != null) {
+            putChannel(previous.channelIdx(), channel);
+        }
+        putTag(previous.tag());
+    }
+
+    private void detach(IndexedVideo video) {
+        ChannelWeight channel = channels.get(video.channelIdx());
+        if (channel != null) {
+            channel.views -= video.views();
+            channel.videoCount--;
+        }
+        addTagViews(video.tag(), -video.views());
+    }
+
+    // 공개 영상이 없는 채널은 후보에서 뺀다 (검색해도 나올 영상이 없다)
+    private void putChannel(Integer channelIdx, ChannelWeight channel) {
+        if (channel.videoCount <= 0) {
+            channels.remove(channelIdx);
+            trie.remove(SuggestionType.CHANNEL, channelIdx);
+            return;
+        }
+        trie.put(new Suggestion(SuggestionType.CHANNEL, channelIdx, channel.name, channel.views));
+    }
+
+    private void addTagViews(VideoTag tag, long views) {
+        if (tag != null) {
+            tagViews[tag.ordinal()] += views;
+        }
+    }
+
+    private void putTag(VideoTag tag) {
+        if (tag == null || tag == VideoTag.NONE) {
+            return;
+        }
+        trie.put(new Suggestion(SuggestionType.TAG, tag.ordinal(), tag.getDisplayName(), tagViews[tag.ordinal()]));
+    }
+
+    // ===== ===== //
+    private record IndexedVideo(Integer channelIdx, VideoTag tag, long views) {
+    }
+
+    private static final class ChannelWeight {
+        private String name;
+        private long views;
+        private int videoCount;
+    }
+}
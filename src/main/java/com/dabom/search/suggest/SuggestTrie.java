@@ -0,0 +1,348 @@
+package com.dabom.search.suggest;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+// 자동완성용 압축 trie (radix tree).
+// - 키: 정규화한 문자열. 한글은 NFKD 로 자모까지 풀어서 "가" 로도 "강의" 를 찾는다
+// - 간선: 공통 접두어를 한 간선(char[])으로 합치고, 자식은 첫 글자로 정렬한 배열에 둔다
+// - 노드마다 하위 후보 중 가중치 상위 k 개를 미리 들고 있어서 조회는 접두어 길이만큼만 내려간다
+// 추가/삭제 시에는 바뀐 경로의 노드만 자식들의 상위 k 개를 합쳐 다시 계산한다
+public class SuggestTrie {
+
+    private static final char[] EMPTY_CHARS = new char[0];
+    private static final Node[] EMPTY_NODES = new Node[0];
+    private static final Suggestion[] EMPTY_SUGGESTIONS = new Suggestion[0];
+
+    private static final Comparator<Suggestion> RANKING = Comparator
+            .comparingLong(Suggestion::weight).reversed()
+            .thenComparing(Suggestion::text)
+            .thenComparing(Suggestion::type)
+            .thenComparing(Suggestion::targetIdx);
+
+    private final int topK;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Node root = new Node(EMPTY_CHARS);
+    private final Map<Long, Entry> entries = new HashMap<>();
+
+    public SuggestTrie(int topK) {
+        this.topK = topK;
+    }
+
+    // 같은 (type, targetIdx) 가 있으면 바꾼다
+    public void put(Suggestion suggestion) {
+        char[] key = normalize(suggestion.text());
+        long entryKey = keyOf(suggestion.type(), suggestion.targetIdx());
+        lock.writeLock().lock();
+        try {
+            Entry previous = entries.get(entryKey);
+            if (previous != null && previous.suggestion.equals(suggestion)) {
+                return;
+            }
+            if (previous != null) {
+                entries.remove(entryKey);
+                removeInternal(previous);
+            }
+            if (key.length == 0) {
+                return;
+            }
+            Entry entry = new Entry(suggestion, key);
+            entries.put(entryKey, entry);
+            insertInternal(entry);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(SuggestionType type, Integer targetIdx) {
+        lock.writeLock().lock();
+        try {
+            Entry previous = entries.remove(keyOf(type, targetIdx));
+            if (previous != null) {
+                removeInternal(previous);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return entries.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 가중치 내림차순. limit 은 topK 를 넘을 수 없다
+    public List<Suggestion> complete(String prefix, int limit) {
+        char[] key = normalize(prefix);
+        if (key.length == 0 || limit <= 0) {
+            return List.of();
+        }
+
+        lock.readLock().lock();
+        try {
+            Node node = find(key);
+            if (node == null) {
+                return List.of();
+            }
+            Suggestion[] top = node.top;
+            return List.of(Arrays.copyOf(top, Math.min(limit, top.length)));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 영문은 소문자, 악센트 제거. 글자/숫자가 아닌 문자는 공백 하나로 합친다 (앞 공백은 버린다)
+    static char[] normalize(String text) {
+        if (text == null || text.isBlank()) {
+            return EMPTY_CHARS;
+        }
+        String decomposed = Normalizer.normalize(text, Normalizer.Form.NFKD).toLowerCase(Locale.ROOT);
+        StringBuilder normalized = new StringBuilder(decomposed.length());
+        boolean pendingSpace = false;
+        for (int i = 0; i < decomposed.length(); i++) {
+            char c = decomposed.charAt(i);
+            if (Character.getType(c) == Character.NON_SPACING_MARK) {
+                continue;
+            }
+            if (!Character.isLetterOrDigit(c)) {
+                pendingSpace = normalized.length() > 0;
+                continue;
+            }
+            if (pendingSpace) {
+                normalized.append(' ');
+                pendingSpace = false;
+            }
+            normalized.append(c);
+        }
+        // 입력 중인 검색어 끝의 공백은 "단어가 끝났다" 는 뜻이라 남긴다
+        if (pendingSpace) {
+            normalized.append(' ');
+        }
+        return normalized.toString().toCharArray();
+    }
+
+    // ===== 삽입 / 삭제 ===== //
+    private void insertInternal(Entry entry) {
+        char[] key = entry.key;
+        List<Node> path = new ArrayList<>();
+        Node node = root;
+        path.add(node);
+        int i = 0;
+        while (i < key.length) {
+            int slot = childSlot(node, key[i]);
+            if (slot < 0) {
+                Node leaf = new Node(Arrays.copyOfRange(key, i, key.length));
+                addChild(node, -slot - 1, leaf);
+                node = leaf;
+                path.add(node);
+                break;
+            }
+
+            Node child = node.children[slot];
+            int matched = commonPrefix(child.label, key, i);
+            if (matched < child.label.length) {
+                child = split(node, slot, matched);
+            }
+            node = child;
+            path.add(node);
+            i += matched;
+        }
+
+        node.terminals = append(node.terminals, entry.suggestion);
+        for (int d = path.size() - 1; d >= 0; d--) {
+            recompute(path.get(d));
+        }
+    }
+
+    private void removeInternal(Entry entry) {
+        List<Node> path = new ArrayList<>();
+        Node node = root;
+        path.add(node);
+        int i = 0;
+        while (i < entry.key.length) {
+            Node child = node.children[childSlot(node, entry.key[i])];
+            node = child;
+            path.add(node);
+            i += child.label.length;
+        }
+        node.terminals = without(node.terminals, entry.suggestion);
+
+        // 빈 노드는 떼어 내고, 자식이 하나뿐인 중간 노드는 자식과 합친다
+        for (int d = path.size() - 1; d >= 1; d--) {
+            Node current = path.get(d);
+            if (current.terminals.length == 0 && current.children.length == 0) {
+                removeChild(path.get(d - 1), current);
+                continue;
+            }
+            if (current.terminals.length == 0 && current.children.length == 1) {
+                absorbOnlyChild(current);
+            }
+            recompute(current);
+        }
+        recompute(root);
+    }
+
+    // ===== 노드 조작 ===== //
+    private Node find(char[] key) {
+        Node node = root;
+        int i = 0;
+        while (i < key.length) {
+            int slot = childSlot(node, key[i]);
+            if (slot < 0) {
+                return null;
+            }
+            Node child = node.children[slot];
+            int matched = commonPrefix(child.label, key, i);
+            if (i + matched == key.length) {
+                return child;
+            }
+            if (matched < child.label.length) {
+                return null;
+            }
+            node = child;
+            i += matched;
+        }
+        return node;
+    }
+
+    // parent.children[slot] 의 간선을 at 위치에서 둘로 나눈다
+    private Node split(Node parent, int slot, int at) {
+        Node child = parent.children[slot];
+        Node middle = new Node(Arrays.copyOfRange(child.label, 0, at));
+        child.label = Arrays.copyOfRange(child.label, at, child.label.length);
+        middle.childFirst = new char[]{child.label[0]};
+        middle.children = new Node[]{child};
+        middle.top = child.top;
+        parent.children[slot] = middle;
+        return middle;
+    }
+
+    private void absorbOnlyChild(Node node) {
+        Node only = node.children[0];
+        char[] label = Arrays.copyOf(node.label, node.label.length + only.label.length);
+        System.arraycopy(only.label, 0, label, node.label.length, only.label.length);
+        node.label = label;
+        node.childFirst = only.childFirst;
+        node.children = only.children;
+        node.terminals = only.terminals;
+        node.top = only.top;
+    }
+
+    // 자기 후보 + 자식들의 상위 k 개를 합치면 하위 전체의 상위 k 개가 된다
+    private void recompute(Node node) {
+        int candidates = node.terminals.length;
+        for (Node child : node.children) {
+            candidates += child.top.length;
+        }
+        if (candidates == 0) {
+            node.top = EMPTY_SUGGESTIONS;
+            return;
+        }
+
+        Suggestion[] merged = new Suggestion[candidates];
+        int n = 0;
+        for (Suggestion terminal : node.terminals) {
+            merged[n++] = terminal;
+        }
+        for (Node child : node.children) {
+            System.arraycopy(child.top, 0, merged, n, child.top.length);
+            n += child.top.length;
+        }
+        Arrays.sort(merged, RANKING);
+        node.top = merged.length > topK ? Arrays.copyOf(merged, topK) : merged;
+    }
+
+    private static int childSlot(Node node, char c) {
+        return Arrays.binarySearch(node.childFirst, c);
+    }
+
+    private static void addChild(Node parent, int slot, Node child) {
+        int size = parent.children.length;
+        char[] childFirst = new char[size + 1];
+        Node[] children = new Node[size + 1];
+        System.arraycopy(parent.childFirst, 0, childFirst, 0, slot);
+        System.arraycopy(parent.children, 0, children, 0, slot);
+        childFirst[slot] = child.label[0];
+        children[slot] = child;
+        System.arraycopy(parent.childFirst, slot, childFirst, slot + 1, size - slot);
+        System.arraycopy(parent.children, slot, children, slot + 1, size - slot);
+        parent.childFirst = childFirst;
+        parent.children = children;
+    }
+
+    private static void removeChild(Node parent, Node child) {
+        int slot = childSlot(parent, child.label[0]);
+        int size = parent.children.length;
+        if (size == 1) {
+            parent.childFirst = EMPTY_CHARS;
+            parent.children = EMPTY_NODES;
+            return;
+        }
+        char[] childFirst = new char[size - 1];
+        Node[] children = new Node[size - 1];
+        System.arraycopy(parent.childFirst, 0, childFirst, 0, slot);
+        System.arraycopy(parent.children, 0, children, 0, slot);
+        System.arraycopy(parent.childFirst, slot + 1, childFirst, slot, size - slot - 1);
+        System.arraycopy(parent.children, slot + 1, children, slot, size - slot - 1);
+        parent.childFirst = childFirst;
+        parent.children = children;
+    }
+
+    private static int commonPrefix(char[] label, char[] key, int from) {
+        int max = Math.min(label.length, key.length - from);
+        int i = 0;
+        while (i < max && label[i] == key[from + i]) {
+            i++;
+        }
+        return i;
+    }
+
+    private static Suggestion[] append(Suggestion[] suggestions, Suggestion suggestion) {
+        Suggestion[] appended = Arrays.copyOf(suggestions, suggestions.length + 1);
+        appended[suggestions.length] = suggestion;
+        return appended;
+    }
+
+    private static Suggestion[] without(Suggestion[] suggestions, Suggestion suggestion) {
+        Suggestion[] remaining = new Suggestion[suggestions.length - 1];
+        int n = 0;
+        for (Suggestion s : suggestions) {
+            if (s != suggestion) {
+                remaining[n++] = s;
+            }
+        }
+        return remaining;
+    }
+
+    private static long keyOf(SuggestionType type, Integer targetIdx) {
+        return ((long) type.ordinal() << 32) | (targetIdx & 0xFFFFFFFFL);
+    }
+
+    // ===== ===== //
+    private static final class Node {
+        private char[] label;                                   // 부모에서 이 노드로 오는 간선
+        private char[] childFirst = EMPTY_CHARS;                // 자식 간선의 첫 글자 (정렬)
+        private Node[] children = EMPTY_NODES;
+        private Suggestion[] terminals = EMPTY_SUGGESTIONS;     // 키가 여기서 끝나는 후보
+        private Suggestion[] top = EMPTY_SUGGESTIONS;           // 하위 후보 중 상위 k 개
+
+        private Node(char[] label) {
+            this.label = label;
+        }
+    }
+
+    private record Entry(Suggestion suggestion, char[] key) {
+    }
+}
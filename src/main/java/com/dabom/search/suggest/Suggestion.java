@@ -0,0 +1,6 @@
+package com.dabom.search.suggest;
+
+// 자동완성 후보 하나. targetIdx 는 영상/채널 idx, 태그는 VideoTag 의 ordinal
+// weight 는 조회수 (채널/태그는 소속 공개 영상 조회수의 합)
+public record Suggestion(SuggestionType type, Integer targetIdx, String text, long weight) {
+}
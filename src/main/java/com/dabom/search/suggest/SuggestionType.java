@@ -0,0 +1,7 @@
+package com.dabom.search.suggest;
+
+public enum SuggestionType {
+    VIDEO,      // 영상 제목
+    CHANNEL,    // 채널 이름 (Member.name)
+    TAG         // 영상 태그 표시 이름
+}
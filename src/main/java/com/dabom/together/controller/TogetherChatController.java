@@ -1,12 +1,17 @@
 package com.dabom.together.controller;
 
-import com.dabom.member.model.dto.response.MemberInfoResponseDto;
 import com.dabom.member.security.dto.MemberDetailsDto;
-import com.dabom.member.service.MemberService;
+import com.dabom.member.security.dto.StompMemberIdentity;
+import com.dabom.member.service.StompIdentityRegistry;
 import com.dabom.together.model.dto.request.TogetherMasterControlRequestDto;
 import com.dabom.together.model.dto.request.TogetherMoveVideoRequestDto;
 import com.dabom.together.model.dto.response.TogetherChatResponseDto;
+import com.dabom.together.model.dto.response.TogetherPlaybackResponseDto;
+import com.dabom.together.service.TogetherChatBroadcaster;
+import com.dabom.together.service.TogetherPlaybackClock;
 import com.dabom.together.service.TogetherService;
+import com.dabom.together.service.TogetherSessionRegistry;
+import com.dabom.together.service.TogetherSessionRegistry.Presence;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.event.EventListener;
 import org.springframework.messaging.handler.annotation.DestinationVariable;
@@ -14,37 +19,37 @@ import org.springframework.messaging.handler.annotation.MessageMapping;
 import org.springframework.messaging.handler.annotation.Payload;
 import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
 import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.simp.annotation.SubscribeMapping;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.socket.messaging.SessionDisconnectEvent;
 import org.springframework.web.socket.messaging.SessionSubscribeEvent;
+import org.springframework.web.socket.messaging.SessionUnsubscribeEvent;
 
 import java.security.Principal;
-import java.util.Collections;
-import java.util.Map;
-import java.util.Set;
-import java.util.concurrent.ConcurrentHashMap;
 
 @RestController
 @RequiredArgsConstructor
 public class TogetherChatController {
     private final SimpMessagingTemplate messagingTemplate;
-    private final MemberService memberService;
+    private final StompIdentityRegistry stompIdentityRegistry;
     private final TogetherService togetherService;
-    private final Map<String, Set<Integer>> topicSessions = new ConcurrentHashMap<>();
+    private final TogetherSessionRegistry togetherSessionRegistry;
+    private final TogetherPlaybackClock togetherPlaybackClock;
+    private final TogetherChatBroadcaster togetherChatBroadcaster;
 
     @MessageMapping("/together/{togetherIdx}")
-    public void sendMessage(Principal principal,
+    public void sendMessage(Principal principal, SimpMessageHeaderAccessor headerAccessor,
                             @DestinationVariable Integer togetherIdx, @Payload String message) {
         MemberDetailsDto memberDetailsDto = getMemberDetailsDto((Authentication) principal);
 
-        MemberInfoResponseDto memberInfo = memberService.getMemberInfo(memberDetailsDto);
-        String destination = "/topic/together/" + togetherIdx; // 토픽 키
-        int userCount = topicSessions.getOrDefault(destination, Collections.emptySet()).size();
+        // CONNECT 때 세션에 넣어 둔 표시 정보라 메시지마다 DB 를 읽지 않는다
+        StompMemberIdentity identity = stompIdentityRegistry.identityOf(headerAccessor, memberDetailsDto.getIdx());
+        int userCount = togetherSessionRegistry.memberCount(togetherIdx);
 
-        TogetherChatResponseDto res = TogetherChatResponseDto.toDtoBySend(memberInfo.name(), message, userCount, memberInfo.id());
+        TogetherChatResponseDto res = TogetherChatResponseDto.toDtoBySend(identity.name(), message, userCount, identity.idx());
 
-        messagingTemplate.convertAndSend("/topic/together/" + togetherIdx, res);
+        togetherChatBroadcaster.send(togetherIdx, res);
     }
 
     @MessageMapping("/master/together/{togetherIdx}")
@@ -53,6 +58,7 @@ public class TogetherChatController {
         MemberDetailsDto memberDetailsDto = getMemberDetailsDto((Authentication) principal);
         togetherService.isMaster(togetherIdx, memberDetailsDto);
         messagingTemplate.convertAndSend("/topic/master/together/" + togetherIdx, dto);
+        togetherPlaybackClock.seek(togetherIdx, dto.getCurrentTime(), dto.getPaused(), dto.getRate());
     }
 
     @MessageMapping("/master/control/together/{togetherIdx}")
@@ -61,48 +67,79 @@ public class TogetherChatController {
         MemberDetailsDto memberDetailsDto = getMemberDetailsDto((Authentication) principal);
         togetherService.isMaster(togetherIdx, memberDetailsDto);
         messagingTemplate.convertAndSend("/topic/master/control/together/" + togetherIdx, dto);
+        if (dto.getVideoUrl() != null) {
+            togetherPlaybackClock.changeVideo(togetherIdx, dto.getVideoUrl());
+        }
+    }
+
+    // 늦게 들어왔거나 다시 연결한 클라이언트가 구독하면 바로 현재 재생 상태를 돌려준다
+    // 이후 변경과 위치 보정은 /topic/playback/together/{togetherIdx} 로 받는다.
+    // 방 참여자만 받을 수 있고, 없는 방 번호로는 재생 상태를 만들지 않는다
+    @SubscribeMapping("/playback/together/{togetherIdx}")
+    public TogetherPlaybackResponseDto playbackSnapshot(Principal principal, @DestinationVariable Integer togetherIdx) {
+        MemberDetailsDto memberDetailsDto = getMemberDetailsDto((Authentication) principal);
+        togetherService.validJoinMember(togetherIdx, memberDetailsDto);
+        return togetherPlaybackClock.snapshot(togetherIdx);
     }
 
     @EventListener
     public void handleSubscribeEvent(SessionSubscribeEvent event) {
         SimpMessageHeaderAccessor headerAccessor = SimpMessageHeaderAccessor.wrap(event.getMessage());
         Principal userPrincipal = headerAccessor.getUser();
-        String destination = headerAccessor.getDestination();
+        Integer togetherIdx = parseTogetherIdx(headerAccessor.getDestination());
 
-        if (destination != null && destination.startsWith("/topic/together/")) {
-            // 환영 메시지 생성
+        if (togetherIdx != null && userPrincipal != null) {
             MemberDetailsDto memberDetailsDto = getMemberDetailsDto((Authentication) userPrincipal);
-            MemberInfoResponseDto memberInfo = memberService.getMemberInfo(memberDetailsDto);
-
-            // 토픽별 접속자 세션 관리
-            topicSessions.computeIfAbsent(destination, k -> ConcurrentHashMap.newKeySet()).add(memberInfo.id());
+            StompMemberIdentity identity = stompIdentityRegistry.identityOf(headerAccessor, memberDetailsDto.getIdx());
 
-            Integer userCount = topicSessions.get(destination).size();
-
-            TogetherChatResponseDto welcome = TogetherChatResponseDto.toDtoByJoin(memberInfo.name(), userCount);
-            messagingTemplate.convertAndSend(destination, welcome);
+            // 같은 회원의 두 번째 탭은 입장 메시지를 보내지 않는다
+            togetherSessionRegistry.join(headerAccessor.getSessionId(), headerAccessor.getSubscriptionId(), identity.idx(), togetherIdx)
+                    .ifPresent(presence -> broadcast(presence, identity.name()));
         }
     }
 
+    @EventListener
+    public void handleUnsubscribeEvent(SessionUnsubscribeEvent event) {
+        SimpMessageHeaderAccessor headerAccessor = SimpMessageHeaderAccessor.wrap(event.getMessage());
+        togetherSessionRegistry.leave(headerAccessor.getSessionId(), headerAccessor.getSubscriptionId())
+                .ifPresent(presence -> broadcast(presence, nameOf(headerAccessor, presence.memberIdx())));
+    }
+
     @EventListener
     public void handleDisconnectEvent(SessionDisconnectEvent event) {
         SimpMessageHeaderAccessor headerAccessor = SimpMessageHeaderAccessor.wrap(event.getMessage());
-        Principal userPrincipal = headerAccessor.getUser();
 
-        if (userPrincipal == null) {
-            return; // 인증정보 없으면 종료
+        // 이 세션이 구독한 방만 정리한다 (마지막 탭이 나간 회원만 퇴장)
+        for (Presence presence : togetherSessionRegistry.disconnect(event.getSessionId())) {
+            broadcast(presence, nameOf(headerAccessor, presence.memberIdx()));
         }
+    }
 
-        MemberDetailsDto memberDetailsDto = getMemberDetailsDto((Authentication) userPrincipal);
-        Integer memberId = memberDetailsDto.getIdx();
+    private void broadcast(Presence presence, String name) {
+        TogetherChatResponseDto res = switch (presence.type()) {
+            case JOIN -> TogetherChatResponseDto.toDtoByJoin(name, presence.users(), presence.memberIdx());
+            default -> TogetherChatResponseDto.toDtoByLeave(name, presence.users(), presence.memberIdx());
+        };
+        togetherChatBroadcaster.send(presence.togetherIdx(), res);
+    }
 
-        // 연결된 모든 토픽에 대해 해당 멤버 아이디 제거
-        topicSessions.  forEach((topic, memberSet) -> {
-            boolean removed = memberSet.remove(memberId);
-            if (removed) {
-                messagingTemplate.convertAndSend(topic, "");
-            }
-        });
+    private String nameOf(SimpMessageHeaderAccessor headerAccessor, Integer memberIdx) {
+        try {
+            return stompIdentityRegistry.identityOf(headerAccessor, memberIdx).name();
+        } catch (Exception e) {
+            return null;
+        }
+    }
+
+    private Integer parseTogetherIdx(String destination) {
+        if (destination == null || !destination.startsWith(TogetherChatBroadcaster.TOGETHER_TOPIC_PREFIX)) {
+            return null;
+        }
+        try {
+            return Integer.valueOf(destination.substring(TogetherChatBroadcaster.TOGETHER_TOPIC_PREFIX.length()));
+        } catch (NumberFormatException e) {
+            return null;
+        }
     }
 
     private MemberDetailsDto getMemberDetailsDto(Authentication principal) {
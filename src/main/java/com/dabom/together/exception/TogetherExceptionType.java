@@ -9,7 +9,8 @@ public enum TogetherExceptionType implements ExceptionType {
     NOT_MASTER_MEMBER(HttpStatus.FORBIDDEN, "방의 만든 멤버가 아닙니다."),
     CHOICE_OPEN_STATUS(HttpStatus.BAD_REQUEST, "방의 상태를 공개로 할 것인지, 비공개로 할 것인지 선택해주세요."),
     NOT_ACCEPT_MEMBER(HttpStatus.BAD_REQUEST, "허가받은 방이 아닙니다."),
-    NOT_VALID_TOGETHER(HttpStatus.BAD_REQUEST, "허가받은 방이 아닙니다. 다시 시도해주세요.");
+    NOT_VALID_TOGETHER(HttpStatus.BAD_REQUEST, "허가받은 방이 아닙니다. 다시 시도해주세요."),
+    ALREADY_JOIN_MEMBER(HttpStatus.CONFLICT, "이미 참여한 방입니다.");
 
     private final HttpStatus httpStatus;
     private final String message;
@@ -5,4 +5,6 @@ import lombok.Getter;
 @Getter
 public class TogetherMoveVideoRequestDto {
     private Double currentTime;
+    private Boolean paused;     // null 이면 그대로
+    private Double rate;        // 재생 속도. null 이면 그대로
 }
@@ -0,0 +1,10 @@
+package com.dabom.together.model.dto.response;
+
+import java.util.List;
+
+// 큰 방에서 coalesce-interval 동안 모인 메시지를 한 프레임으로 보낸다. messages 는 보낸 순서대로
+public record TogetherChatBatchResponseDto(TogetherChatType type, List<TogetherChatResponseDto> messages) {
+    public static TogetherChatBatchResponseDto of(List<TogetherChatResponseDto> messages) {
+        return new TogetherChatBatchResponseDto(TogetherChatType.BATCH, messages);
+    }
+}
@@ -3,31 +3,28 @@ package com.dabom.together.model.dto.response;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 
-public record TogetherChatResponseDto(String name, String message, Boolean isJoin, Boolean kicked, Integer users, String now, Integer userIdx) {
-    public static TogetherChatResponseDto toDtoBySend(String name, String message, Integer users, Integer userIdx) {
-        LocalDateTime now = LocalDateTime.now();
+public record TogetherChatResponseDto(TogetherChatType type, String name, String message, Boolean isJoin, Boolean kicked, Integer users, String now, Integer userIdx) {
+
+    // 포맷 지정 (예: 14시 55분 30초)
+    private static final DateTimeFormatter FORMATTER = DateTimeFormatter.ofPattern("HH시 mm분 ss초");
 
-        // 포맷 지정 (예: 2025-08-25 14:55:30)
-        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("HH시 mm분 ss초");
-        String formattedNow = now.format(formatter);
-        return new TogetherChatResponseDto(name, message, false, false, users, formattedNow, userIdx);
+    public static TogetherChatResponseDto toDtoBySend(String name, String message, Integer users, Integer userIdx) {
+        return new TogetherChatResponseDto(TogetherChatType.CHAT, name, message, false, false, users, formattedNow(), userIdx);
     }
 
-    public static TogetherChatResponseDto toDtoByJoin(String name, Integer users) {
-        LocalDateTime now = LocalDateTime.now();
+    public static TogetherChatResponseDto toDtoByJoin(String name, Integer users, Integer userIdx) {
+        return new TogetherChatResponseDto(TogetherChatType.JOIN, name, null, true, false, users, formattedNow(), userIdx);
+    }
 
-        // 포맷 지정 (예: 2025-08-25 14:55:30)
-        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("HH시 mm분 ss초");
-        String formattedNow = now.format(formatter);
-        return new TogetherChatResponseDto(name, null, true, false, users, formattedNow, null);
+    public static TogetherChatResponseDto toDtoByLeave(String name, Integer users, Integer userIdx) {
+        return new TogetherChatResponseDto(TogetherChatType.LEAVE, name, null, false, false, users, formattedNow(), userIdx);
     }
 
     public static TogetherChatResponseDto toDtoByKick(String name, Integer users) {
-        LocalDateTime now = LocalDateTime.now();
+        return new TogetherChatResponseDto(TogetherChatType.KICK, name, null, false, true, users, formattedNow(), null);
+    }
 
-        // 포맷 지정 (예: 2025-08-25 14:55:30)
-        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("HH시 mm분 ss초");
-        String formattedNow = now.format(formatter);
-        return new TogetherChatResponseDto(name, null, false, true, users, formattedNow, null);
+    private static String formattedNow() {
+        return LocalDateTime.now().format(FORMATTER);
     }
 }
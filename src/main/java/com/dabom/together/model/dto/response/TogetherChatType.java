@@ -0,0 +1,10 @@
+package com.dabom.together.model.dto.response;
+
+// 같이보기 토픽(/topic/together/{idx})으로 나가는 메시지 종류
+public enum TogetherChatType {
+    CHAT,       // 채팅
+    JOIN,       // 회원이 방에 처음 들어옴 (같은 회원의 다른 탭은 제외)
+    LEAVE,      // 회원의 마지막 구독이 빠짐
+    KICK,       // 강퇴
+    BATCH       // 큰 방에서 모아 보낸 채팅/입퇴장 묶음 (TogetherChatBatchResponseDto)
+}
@@ -0,0 +1,8 @@
+package com.dabom.together.model.dto.response;
+
+// 방의 재생 상태. position 은 serverTime 시점의 위치(초)라서
+// 클라이언트는 position + (지금 - serverTime) * rate 로 맞추면 된다 (paused 면 position 그대로)
+// version 은 상태가 바뀔 때마다 커진다. 받은 것보다 작은 version 은 버린다
+public record TogetherPlaybackResponseDto(Integer togetherIdx, String videoUrl, double position, double rate,
+                                          boolean paused, long version, long serverTime, boolean tick) {
+}
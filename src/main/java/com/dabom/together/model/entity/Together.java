@@ -21,6 +21,8 @@ public class Together extends BaseEntity {
     private String title;
     private String videoUrl;
     private Integer maxMemberNum;
+    // 입장/퇴장은 TogetherRepository.tryAdmit / releaseSeat 로 DB 에서만 바꾼다 (엔티티 저장으로 덮어쓰지 않게)
+    @Column(updatable = false)
     private Integer joinMemberNum;
     private Boolean isOpen;
     private Boolean isDelete;
@@ -48,12 +50,9 @@ public class Together extends BaseEntity {
         this.joinMemberNum = 1;
     }
 
-    public void joinMember() {
-        this.joinMemberNum++;
-    }
-
-    public void leaveMember() {
-        this.joinMemberNum--;
+    // DB 에서 바뀐 인원 수를 응답에 쓰려고 맞춘다
+    public void syncJoinMemberNum(Integer joinMemberNum) {
+        this.joinMemberNum = joinMemberNum;
     }
 
     public void changeTitle(String title) {
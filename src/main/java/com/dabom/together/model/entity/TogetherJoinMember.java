@@ -7,8 +7,11 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
+// 같은 회원이 동시에 두 번 입장해도 참여 기록이 하나만 생기도록 (회원, 방) 에 유니크 키를 둔다
 @Entity
 @Getter
+@Table(name = "together_join_member",
+        uniqueConstraints = @UniqueConstraint(name = "uk_together_join_member", columnNames = {"member_idx", "together_idx"}))
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class TogetherJoinMember {
     @Id
@@ -4,6 +4,9 @@ import com.dabom.member.model.entity.Member;
 import com.dabom.together.model.entity.Together;
 import com.dabom.together.model.entity.TogetherJoinMember;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
 import java.util.Optional;
@@ -16,4 +19,14 @@ public interface TogetherJoinMemberRepository extends JpaRepository<TogetherJoin
     Optional<TogetherJoinMember> findByMemberAndTogetherAndIsDeleteFalse(Member member, Together together);
     List<TogetherJoinMember> findByMemberAndIsDeleteFalse(Member member);
     List<TogetherJoinMember> findByIsDeleteTrue();
+    boolean existsByMemberIdxAndTogetherIdxAndIsDeleteFalse(Integer memberIdx, Integer togetherIdx);
+
+    // 나가기/강퇴/재입장은 상태가 실제로 바뀐 한 요청만 인원 수를 바꾸도록 조건부로 바꾼다 (1 이면 바뀜)
+    @Modifying
+    @Query("UPDATE TogetherJoinMember j SET j.isDelete = true WHERE j.idx = :idx AND j.isDelete = false")
+    int markLeft(@Param("idx") Integer idx);
+
+    @Modifying
+    @Query("UPDATE TogetherJoinMember j SET j.isDelete = false WHERE j.idx = :idx AND j.isDelete = true")
+    int markRejoined(@Param("idx") Integer idx);
 }
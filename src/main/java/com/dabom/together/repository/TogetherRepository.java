@@ -5,7 +5,9 @@ import com.dabom.together.model.entity.Together;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
 import java.util.Optional;
@@ -19,4 +21,19 @@ public interface TogetherRepository extends JpaRepository<Together, Integer>, To
     List<Together> findAllTrue();
     @Query("SELECT t FROM Together t WHERE t.isOpen = true AND t.isDelete = false ORDER BY t.createdAt DESC")
     Slice<Together> findAllByIsOpenTrue(Pageable pageable);
+
+    // 정원 안에서만 한 명 늘린다. 0 이면 정원이 찼거나 없는 방 (행 잠금이 커밋까지 유지되어 동시 입장이 정원을 넘지 않는다)
+    @Modifying
+    @Query(value = "UPDATE together SET join_member_num = join_member_num + 1 " +
+            "WHERE idx = :idx AND is_delete = FALSE AND join_member_num < max_member_num", nativeQuery = true)
+    int tryAdmit(@Param("idx") Integer idx);
+
+    // 방장 자리(1)는 남긴다
+    @Modifying
+    @Query(value = "UPDATE together SET join_member_num = join_member_num - 1 " +
+            "WHERE idx = :idx AND join_member_num > 1", nativeQuery = true)
+    int releaseSeat(@Param("idx") Integer idx);
+
+    @Query(value = "SELECT join_member_num FROM together WHERE idx = :idx", nativeQuery = true)
+    Integer findJoinMemberNumByIdx(@Param("idx") Integer idx);
 }
@@ -0,0 +1,143 @@
+package com.dabom.together.service;
+
+import com.dabom.config.interceptor.SlowConsumerInterceptor;
+import com.dabom.together.model.dto.response.TogetherChatBatchResponseDto;
+import com.dabom.together.model.dto.response.TogetherChatResponseDto;
+import com.dabom.together.model.dto.response.TogetherChatType;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.messaging.MessageHeaders;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// 같이보기 채팅/입퇴장 메시지 전송.
+// 작은 방은 바로 보내고, coalesce-threshold 명 이상인 방은 coalesce-interval 동안 모아서 한 프레임(BATCH)으로 보낸다.
+// 방 인원 N 명에게 메시지 M 개를 보내면 프레임이 N * M 개라서, 몰릴 때 M 을 주기당 1 로 줄인다
+// BATCH 는 같은 /topic/together/{idx} 로 나가고 기존 메시지와 모양이 달라서(type=BATCH, messages=[...]),
+// 클라이언트가 풀어 쓸 수 있게 된 뒤에 coalesce-enabled 로 켠다. 꺼져 있으면 모든 메시지를 바로 보낸다.
+// 모아 둔 메시지가 coalesce-max-pending 을 넘으면 가장 오래된 채팅(CHAT)을 버린다. 입퇴장/강퇴는 버리지 않는다.
+// 채팅만 담긴 프레임에는 droppable 헤더를 붙여 느린 클라이언트에게는 건너뛸 수 있게 한다 (SlowConsumerInterceptor)
+@Component
+public class TogetherChatBroadcaster {
+
+    public static final String TOGETHER_TOPIC_PREFIX = "/topic/together/";
+
+    private final SimpMessagingTemplate messagingTemplate;
+    private final TogetherSessionRegistry togetherSessionRegistry;
+    private final Counter overflowDrops;
+
+    // 방별 대기열은 pending 의 compute 안에서만 바꾼다
+    private final Map<Integer, Deque<TogetherChatResponseDto>> pending = new ConcurrentHashMap<>();
+    private final AtomicInteger pendingCount = new AtomicInteger();
+
+    @Value("${app.together.traffic.coalesce-enabled}")
+    private boolean coalesceEnabled;
+    @Value("${app.together.traffic.coalesce-threshold}")
+    private int coalesceThreshold;
+    @Value("${app.together.traffic.coalesce-max-pending}")
+    private int maxPending;
+
+    public TogetherChatBroadcaster(SimpMessagingTemplate messagingTemplate, TogetherSessionRegistry togetherSessionRegistry,
+                                   MeterRegistry meterRegistry) {
+        this.messagingTemplate = messagingTemplate;
+        this.togetherSessionRegistry = togetherSessionRegistry;
+        this.overflowDrops = Counter.builder("together.chat.dropped")
+                .tag("reason", "coalesce_overflow")
+                .description("큰 방에서 모아 두다 넘쳐서 버린 같이보기 채팅 수")
+                .register(meterRegistry);
+        Gauge.builder("together.chat.coalesce.pending", pendingCount, AtomicInteger::get)
+                .description("모아 보내려고 기다리는 같이보기 채팅 수")
+                .register(meterRegistry);
+    }
+
+    public void send(Integer togetherIdx, TogetherChatResponseDto message) {
+        if (!coalesceEnabled) {
+            publish(togetherIdx, message, List.of(message));
+            return;
+        }
+        boolean[] direct = new boolean[1];
+        pending.compute(togetherIdx, (idx, queue) -> {
+            // 대기열이 있으면 순서를 지키려고 인원과 상관없이 뒤에 붙인다
+            if (queue == null && togetherSessionRegistry.memberCount(idx) < coalesceThreshold) {
+                direct[0] = true;
+                return null;
+            }
+            Deque<TogetherChatResponseDto> current = queue == null ? new ArrayDeque<>() : queue;
+            if (current.size() >= maxPending && !dropOldestChat(current)) {
+                // 버릴 채팅이 없으면 새 채팅을 버린다 (입퇴장은 한도를 넘어도 넣는다)
+                if (message.type() == TogetherChatType.CHAT) {
+                    overflowDrops.increment();
+                    return current;
+                }
+            }
+            current.addLast(message);
+            pendingCount.incrementAndGet();
+            return current;
+        });
+        if (direct[0]) {
+            publish(togetherIdx, message, List.of(message));
+        }
+    }
+
+    @Scheduled(fixedRateString = "${app.together.traffic.coalesce-interval-ms}")
+    public void flush() {
+        for (Integer togetherIdx : pending.keySet()) {
+            List<TogetherChatResponseDto> batch = new ArrayList<>();
+            pending.computeIfPresent(togetherIdx, (idx, queue) -> {
+                batch.addAll(queue);
+                return null;
+            });
+            if (batch.isEmpty()) {
+                continue;
+            }
+            pendingCount.addAndGet(-batch.size());
+            Object payload = batch.size() == 1 ? batch.get(0) : TogetherChatBatchResponseDto.of(batch);
+            publish(togetherIdx, payload, batch);
+        }
+    }
+
+    // ===== ===== //
+    // 입퇴장/강퇴가 하나라도 섞인 프레임은 버리면 안 되므로 표시하지 않는다
+    private void publish(Integer togetherIdx, Object payload, List<TogetherChatResponseDto> messages) {
+        boolean droppable = messages.stream().allMatch(message -> message.type() == TogetherChatType.CHAT);
+        if (!droppable) {
+            messagingTemplate.convertAndSend(TOGETHER_TOPIC_PREFIX + togetherIdx, payload);
+            return;
+        }
+        messagingTemplate.convertAndSend(TOGETHER_TOPIC_PREFIX + togetherIdx, payload, droppableHeaders());
+    }
+
+    private static MessageHeaders droppableHeaders() {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+        accessor.setNativeHeader(SlowConsumerInterceptor.DROPPABLE_HEADER, Boolean.TRUE.toString());
+        accessor.setLeaveMutable(true);
+        return accessor.getMessageHeaders();
+    }
+
+    private boolean dropOldestChat(Deque<TogetherChatResponseDto> queue) {
+        Iterator<TogetherChatResponseDto> iterator = queue.iterator();
+        while (iterator.hasNext()) {
+            if (iterator.next().type() == TogetherChatType.CHAT) {
+                iterator.remove();
+                pendingCount.decrementAndGet();
+                overflowDrops.increment();
+                return true;
+            }
+        }
+        return false;
+    }
+}
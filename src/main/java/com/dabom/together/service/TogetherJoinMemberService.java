@@ -14,6 +14,7 @@ import com.dabom.together.repository.TogetherJoinMemberRepository;
 import com.dabom.together.repository.TogetherRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -106,14 +107,11 @@ public class TogetherJoinMemberService {
         TogetherJoinMember togetherJoinMember
                 = togetherJoinMemberRepository.findByMemberAndTogether(member, together)
                 .orElseThrow(() -> new TogetherException(NOT_VALID_TOGETHER));
-        if(togetherJoinMember.getIsDelete()) {
+        // 이미 나갔거나 같은 요청이 동시에 처리된 경우 인원을 두 번 줄이지 않는다
+        if(togetherJoinMemberRepository.markLeft(togetherJoinMember.getIdx()) == 0) {
             return;
         }
-        togetherJoinMember.leaveTogether();
-        together.leaveMember();
-
-        togetherRepository.save(together);
-        togetherJoinMemberRepository.save(togetherJoinMember);
+        togetherRepository.releaseSeat(together.getIdx());
     }
 
     private UUID transformUUID(String code) {
@@ -125,11 +123,10 @@ public class TogetherJoinMemberService {
     }
 
     private TogetherInfoResponseDto rollBackTogether(TogetherJoinMember togetherJoinMember, Together together) {
-        if(togetherJoinMember.getIsDelete()) {
-            togetherJoinMember.comeBackTogether();
-            together.joinMember();
-            togetherRepository.save(together);
-            togetherJoinMemberRepository.save(togetherJoinMember);
+        // 정원이 찼으면 admit 의 예외로 롤백되어 재입장도 취소된다
+        if(togetherJoinMember.getIsDelete()
+                && togetherJoinMemberRepository.markRejoined(togetherJoinMember.getIdx()) == 1) {
+            admit(together);
         }
         return TogetherInfoResponseDto.toDto(together);
     }
@@ -143,13 +140,25 @@ public class TogetherJoinMemberService {
                 .build();
     }
 
+    // 자리를 먼저 잡고(방 행 잠금) 참여 기록을 남긴다.
+    // 같은 회원의 입장이 동시에 들어오면 유니크 키에 걸린 쪽은 예외로 트랜잭션이 롤백되어 잡은 자리도 돌려놓는다
     private void validTogetherAndSave(TogetherJoinMember entity, Together together) {
-        if(together.getMaxMemberNum() > together.getJoinMemberNum()){
-            togetherJoinMemberRepository.save(entity);
-            together.joinMember();
-            togetherRepository.save(together);
-            return;
+        admit(together);
+        try {
+            togetherJoinMemberRepository.saveAndFlush(entity);
+        } catch (DataIntegrityViolationException e) {
+            throw new TogetherException(ALREADY_JOIN_MEMBER);
+        }
+    }
+
+    // 정원 확인과 증가를 UPDATE 한 번으로 해서 동시에 들어와도 정원을 넘지 않는다
+    private void admit(Together together) {
+        if(together.getIsDelete()) {
+            throw new TogetherException(NOT_VALID_TOGETHER);
+        }
+        if(togetherRepository.tryAdmit(together.getIdx()) == 0) {
+            throw new TogetherException(MAX_TOGETHER_MEMBER);
         }
-        throw new TogetherException(MAX_TOGETHER_MEMBER);
+        together.syncJoinMemberNum(togetherRepository.findJoinMemberNumByIdx(together.getIdx()));
     }
 }
@@ -0,0 +1,189 @@
+package com.dabom.together.service;
+
+import com.dabom.together.exception.TogetherException;
+import com.dabom.together.model.dto.response.TogetherPlaybackResponseDto;
+import com.dabom.together.repository.TogetherRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static com.dabom.together.exception.TogetherExceptionType.NOT_VALID_TOGETHER;
+
+// 같이보기 방의 재생 상태(영상, 위치, 속도, 일시정지)를 서버가 들고 있는다.
+// - 방장 조작(moveVideos / masterControl)만 상태를 바꾸고, 바뀔 때마다 /topic/playback/together/{idx} 로 보낸다
+// - 새로 들어온 클라이언트는 구독할 때 스냅샷을 받는다 (TogetherChatController.playbackSnapshot)
+// - 재생 중인 방에는 tick-interval 마다 방당 한 번 현재 위치를 보낸다. 직전에 상태를 보낸 방은 건너뛴다
+// 위치는 "기준 시각의 위치 + 지난 시간 * 속도" 로 계산하므로 tick 사이에 따로 갱신하지 않는다
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TogetherPlaybackClock {
+
+    public static final String PLAYBACK_TOPIC_PREFIX = "/topic/playback/together/";
+
+    private static final double MAX_RATE = 4.0;
+
+    private final TogetherRepository togetherRepository;
+    private final TogetherSessionRegistry togetherSessionRegistry;
+    private final SimpMessagingTemplate messagingTemplate;
+
+    @Value("${app.together.playback.tick-interval-ms}")
+    private long tickIntervalMs;
+    @Value("${app.together.playback.idle-ttl-seconds}")
+    private long idleTtlSeconds;
+
+    // 방이 지워졌다 다시 만들어져도 version 이 줄어들지 않도록 전체에서 하나를 쓴다
+    private final AtomicLong versions = new AtomicLong();
+    private final Map<Integer, PlaybackState> states = new ConcurrentHashMap<>();
+
+    // 처음 보는 방이면 DB 의 영상 주소로 멈춘 상태를 만든다 (없거나 삭제된 방이면 NOT_VALID_TOGETHER)
+    public TogetherPlaybackResponseDto snapshot(Integer togetherIdx) {
+        return stateOf(togetherIdx).snapshot(System.currentTimeMillis(), false);
+    }
+
+    // null 인 값은 그대로 둔다. 단 paused 를 보내지 않는 예전 클라이언트의 첫 조작은 재생으로 본다
+    // (처음 만든 상태는 멈춤이라 그대로 두면 방이 계속 멈춰 있다)
+    public void seek(Integer togetherIdx, Double position, Boolean paused, Double rate) {
+        long now = System.currentTimeMillis();
+        PlaybackState state = stateOf(togetherIdx);
+        TogetherPlaybackResponseDto changed;
+        synchronized (state) {
+            state.rebase(now);
+            if (position != null && Double.isFinite(position)) {
+                state.position = Math.max(0, position);
+            }
+            if (paused != null) {
+                state.paused = paused;
+            } else if (!state.started) {
+                state.paused = false;
+            }
+            state.started = true;
+            if (rate != null && rate > 0 && rate <= MAX_RATE) {
+                state.rate = rate;
+            }
+            changed = state.touch(now, versions.incrementAndGet());
+        }
+        publish(changed);
+    }
+
+    // 영상이 바뀌면 처음부터 재생한다. REST 와 STOMP 로 같은 주소가 두 번 와도 한 번만 바꾼다
+    // (같은 영상을 처음부터 보려면 seek 으로 0 을 보낸다)
+    public void changeVideo(Integer togetherIdx, String videoUrl) {
+        long now = System.currentTimeMillis();
+        PlaybackState state = stateOf(togetherIdx);
+        TogetherPlaybackResponseDto changed;
+        synchronized (state) {
+            if (Objects.equals(state.videoUrl, videoUrl)) {
+                return;
+            }
+            state.videoUrl = videoUrl;
+            state.position = 0;
+            state.anchorAt = now;
+            state.paused = false;
+            state.started = true;
+            changed = state.touch(now, versions.incrementAndGet());
+        }
+        publish(changed);
+    }
+
+    public void evict(Integer togetherIdx) {
+        states.remove(togetherIdx);
+    }
+
+    // 재생 중이고 사람이 있는 방에만 보낸다. 멈춘 방은 위치가 변하지 않으니 보정할 것이 없다
+    @Scheduled(fixedRateString = "${app.together.playback.tick-interval-ms}")
+    public void tick() {
+        long now = System.currentTimeMillis();
+        long idleBefore = now - idleTtlSeconds * 1000;
+        states.forEach((togetherIdx, state) -> {
+            if (togetherSessionRegistry.memberCount(togetherIdx) == 0) {
+                if (state.lastActiveAt < idleBefore) {
+                    states.remove(togetherIdx, state);
+                }
+                return;
+            }
+            TogetherPlaybackResponseDto tick;
+            synchronized (state) {
+                state.lastActiveAt = now;
+                if (state.paused || now - state.lastSentAt < tickIntervalMs / 2) {
+                    return;
+                }
+                state.lastSentAt = now;
+                tick = state.snapshot(now, true);
+            }
+            publish(tick);
+        });
+    }
+
+    // ===== ===== //
+    private PlaybackState stateOf(Integer togetherIdx) {
+        PlaybackState state = states.get(togetherIdx);
+        if (state != null) {
+            return state;
+        }
+        String videoUrl = togetherRepository.findById(togetherIdx)
+                .filter(together -> !Boolean.TRUE.equals(together.getIsDelete()))
+                .orElseThrow(() -> new TogetherException(NOT_VALID_TOGETHER))
+                .getVideoUrl();
+        return states.computeIfAbsent(togetherIdx,
+                idx -> new PlaybackState(idx, videoUrl, versions.incrementAndGet(), System.currentTimeMillis()));
+    }
+
+    private void publish(TogetherPlaybackResponseDto playback) {
+        messagingTemplate.convertAndSend(PLAYBACK_TOPIC_PREFIX + playback.togetherIdx(), playback);
+    }
+
+    // 필드는 자기 자신으로 동기화한다
+    private static final class PlaybackState {
+        private final Integer togetherIdx;
+        private String videoUrl;
+        private double position;        // anchorAt 시점의 위치(초)
+        private long anchorAt;
+        private double rate = 1.0;
+        private boolean paused = true;
+        private boolean started;        // 방장이 한 번이라도 조작했는지
+        private long version;
+        private long lastSentAt;
+        private long lastActiveAt;
+
+        private PlaybackState(Integer togetherIdx, String videoUrl, long version, long now) {
+            this.togetherIdx = togetherIdx;
+            this.videoUrl = videoUrl;
+            this.version = version;
+            this.anchorAt = now;
+            this.lastActiveAt = now;
+        }
+
+        private double positionAt(long now) {
+            if (paused) {
+                return position;
+            }
+            return position + (now - anchorAt) / 1000.0 * rate;
+        }
+
+        // 속도나 일시정지를 바꾸기 전에 지금까지 흐른 시간을 위치에 반영한다
+        private void rebase(long now) {
+            position = positionAt(now);
+            anchorAt = now;
+        }
+
+        private TogetherPlaybackResponseDto touch(long now, long version) {
+            this.version = version;
+            this.lastSentAt = now;
+            this.lastActiveAt = now;
+            return snapshot(now, false);
+        }
+
+        private synchronized TogetherPlaybackResponseDto snapshot(long now, boolean tick) {
+            return new TogetherPlaybackResponseDto(togetherIdx, videoUrl, positionAt(now), rate, paused, version, now, tick);
+        }
+    }
+}
@@ -27,6 +27,7 @@ import java.util.Optional;
 import static com.dabom.member.exception.MemberExceptionType.MEMBER_NOT_FOUND;
 import static com.dabom.together.exception.TogetherExceptionType.NOT_ACCEPT_MEMBER;
 import static com.dabom.together.exception.TogetherExceptionType.NOT_MASTER_MEMBER;
+import static com.dabom.together.exception.TogetherExceptionType.NOT_VALID_TOGETHER;
 
 @Service
 @Transactional(readOnly = true)
@@ -35,6 +36,7 @@ public class TogetherService {
     private final TogetherRepository togetherRepository;
     private final TogetherJoinMemberRepository togetherJoinMemberRepository;
     private final MemberRepository memberRepository;
+    private final TogetherPlaybackClock togetherPlaybackClock;
 
     @Transactional
     public TogetherInfoResponseDto createTogether(TogetherCreateRequestDto dto, MemberDetailsDto memberDetailsDto) {
@@ -117,6 +119,19 @@ public class TogetherService {
         return TogetherMemberListResponseDto.toDto(joinMembers, master);
     }
 
+    // 방장이거나 나가지 않은 참여자만 통과한다 (재생 상태 구독 등)
+    public void validJoinMember(Integer togetherIdx, MemberDetailsDto memberDetailsDto) {
+        Together together = togetherRepository.findById(togetherIdx)
+                .filter(found -> !Boolean.TRUE.equals(found.getIsDelete()))
+                .orElseThrow(() -> new TogetherException(NOT_VALID_TOGETHER));
+        if (together.getMaster().getIdx().equals(memberDetailsDto.getIdx())) {
+            return;
+        }
+        if (!togetherJoinMemberRepository.existsByMemberIdxAndTogetherIdxAndIsDeleteFalse(memberDetailsDto.getIdx(), togetherIdx)) {
+            throw new TogetherException(NOT_ACCEPT_MEMBER);
+        }
+    }
+
     public TogetherMasterResponseDto isMaster(Integer togetherIdx, MemberDetailsDto memberDetailsDto) {
         Together together = validMasterMember(togetherIdx, memberDetailsDto);
 
@@ -130,6 +145,7 @@ public class TogetherService {
 
         together.changeVideo(dto.getVideoUrl());
         Together save = togetherRepository.save(together);
+        togetherPlaybackClock.changeVideo(togetherIdx, dto.getVideoUrl());
 
         return TogetherInfoResponseDto.toDto(save);
     }
@@ -143,15 +159,12 @@ public class TogetherService {
                 .orElseThrow(() -> new MemberException(MEMBER_NOT_FOUND));
         TogetherJoinMember kickMember = togetherJoinMemberRepository.findByMemberAndTogether(member, together)
                 .orElseThrow(() -> new TogetherException(NOT_ACCEPT_MEMBER));
-        if(kickMember.getIsDelete()) {
-            return TogetherInfoResponseDto.toDto(together);
+        // 이미 나갔거나 동시에 나간 회원이면 인원을 줄이지 않는다
+        if(togetherJoinMemberRepository.markLeft(kickMember.getIdx()) == 1) {
+            togetherRepository.releaseSeat(togetherIdx);
+            together.syncJoinMemberNum(togetherRepository.findJoinMemberNumByIdx(togetherIdx));
         }
-
-        kickMember.expel();
-        togetherJoinMemberRepository.save(kickMember);
-        together.leaveMember();
-        Together save = togetherRepository.save(together);
-        return TogetherInfoResponseDto.toDto(save);
+        return TogetherInfoResponseDto.toDto(together);
     }
 
     @Transactional
@@ -164,6 +177,7 @@ public class TogetherService {
 
         togetherJoinMemberRepository.saveAll(joinMembers);
         togetherRepository.save(together);
+        togetherPlaybackClock.evict(togetherIdx);
     }
 
     private Together validMasterMember(Integer togetherIdx, MemberDetailsDto memberDetailsDto) {
@@ -0,0 +1,113 @@
+package com.dabom.together.service;
+
+import com.dabom.together.model.dto.response.TogetherChatType;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+// 같이보기 방(/topic/together/{idx}) 구독 현황.
+// - 세션 id -> (구독 id -> 방) 역색인이 있어서 연결이 끊기면 그 세션이 들어간 방만 본다
+// - 방마다 회원별 구독 수를 세서, 탭을 여러 개 연 회원은 마지막 구독이 빠질 때 퇴장으로 본다
+// - 아무도 없는 방은 지운다
+// 세션 단위 변경은 sessions 의 compute 안에서, 방 단위 변경은 rooms 의 compute 안에서 한다 (잠금 순서: 세션 -> 방)
+@Component
+public class TogetherSessionRegistry {
+
+    private final Map<String, SessionRooms> sessions = new ConcurrentHashMap<>();
+    private final Map<Integer, Map<Integer, Integer>> rooms = new ConcurrentHashMap<>();
+
+    // 회원이 이 방에 처음 들어온 구독이면 JOIN 을 돌려준다
+    public Optional<Presence> join(String sessionId, String subscriptionId, Integer memberIdx, Integer togetherIdx) {
+        Presence[] changed = new Presence[1];
+        sessions.compute(sessionId, (id, session) -> {
+            SessionRooms current = session == null ? new SessionRooms(memberIdx) : session;
+            if (current.subscriptions.putIfAbsent(subscriptionId, togetherIdx) == null) {
+                changed[0] = increment(togetherIdx, current.memberIdx);
+            }
+            return current;
+        });
+        return Optional.ofNullable(changed[0]);
+    }
+
+    // 회원의 마지막 구독이 빠지면 LEAVE 를 돌려준다
+    public Optional<Presence> leave(String sessionId, String subscriptionId) {
+        Presence[] changed = new Presence[1];
+        sessions.computeIfPresent(sessionId, (id, session) -> {
+            Integer togetherIdx = session.subscriptions.remove(subscriptionId);
+            if (togetherIdx != null) {
+                changed[0] = decrement(togetherIdx, session.memberIdx);
+            }
+            return session.subscriptions.isEmpty() ? null : session;
+        });
+        return Optional.ofNullable(changed[0]);
+    }
+
+    // 이 세션이 구독한 방만 정리한다
+    public List<Presence> disconnect(String sessionId) {
+        SessionRooms session = sessions.remove(sessionId);
+        if (session == null) {
+            return List.of();
+        }
+        List<Presence> changes = new ArrayList<>();
+        for (Integer togetherIdx : session.subscriptions.values()) {
+            Presence changed = decrement(togetherIdx, session.memberIdx);
+            if (changed != null) {
+                changes.add(changed);
+            }
+        }
+        return changes;
+    }
+
+    // 방에 있는 회원 수 (같은 회원의 여러 탭은 한 명)
+    public int memberCount(Integer togetherIdx) {
+        Map<Integer, Integer> members = rooms.get(togetherIdx);
+        return members == null ? 0 : members.size();
+    }
+
+    public int roomCount() {
+        return rooms.size();
+    }
+
+    // ===== 방별 회원 구독 수 ===== //
+    private Presence increment(Integer togetherIdx, Integer memberIdx) {
+        int[] result = new int[2];  // [이 회원의 구독 수, 방 인원]
+        rooms.compute(togetherIdx, (idx, members) -> {
+            Map<Integer, Integer> current = members == null ? new ConcurrentHashMap<>() : members;
+            result[0] = current.merge(memberIdx, 1, Integer::sum);
+            result[1] = current.size();
+            return current;
+        });
+        return result[0] == 1 ? new Presence(TogetherChatType.JOIN, togetherIdx, memberIdx, result[1]) : null;
+    }
+
+    private Presence decrement(Integer togetherIdx, Integer memberIdx) {
+        Presence[] changed = new Presence[1];
+        rooms.computeIfPresent(togetherIdx, (idx, members) -> {
+            boolean present = members.containsKey(memberIdx);
+            Integer remaining = members.computeIfPresent(memberIdx, (member, count) -> count > 1 ? count - 1 : null);
+            if (present && remaining == null) {
+                changed[0] = new Presence(TogetherChatType.LEAVE, togetherIdx, memberIdx, members.size());
+            }
+            return members.isEmpty() ? null : members;
+        });
+        return changed[0];
+    }
+
+    // ===== ===== //
+    public record Presence(TogetherChatType type, Integer togetherIdx, Integer memberIdx, int users) {
+    }
+
+    private static final class SessionRooms {
+        private final Integer memberIdx;
+        private final Map<String, Integer> subscriptions = new HashMap<>();   // 구독 id -> 방 (sessions 의 compute 안에서만 바뀐다)
+
+        private SessionRooms(Integer memberIdx) {
+            this.memberIdx = memberIdx;
+        }
+    }
+}
@@ -1,22 +1,80 @@
 package com.dabom.video.config;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.annotation.EnableScheduling;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
 
 @EnableAsync
+@EnableScheduling
 @Configuration
 public class AsyncConfig {
 
+    @Value("${file.ffmpeg.job.workers}")
+    private int encodingWorkers;
+
+    @Value("${file.ffmpeg.chunk.parallelism}")
+    private int chunkParallelism;
+
+    @Value("${file.ffmpeg.upload.parallelism}")
+    private int uploadParallelism;
+
+    // EncodingJobWorker 가 빈 슬롯 만큼만 작업을 가져오므로 큐는 여유분만 둔다
     @Bean(name = "ffmpegExecutor")
     public ThreadPoolTaskExecutor ffmpegExecutor() {
         ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
-        executor.setCorePoolSize(2);
-        executor.setMaxPoolSize(4);
-        executor.setQueueCapacity(10);
+        executor.setCorePoolSize(encodingWorkers);
+        executor.setMaxPoolSize(encodingWorkers);
+        executor.setQueueCapacity(encodingWorkers);
         executor.setThreadNamePrefix("encoding-");
         executor.initialize();
         return executor;
     }
+
+    // 청크 인코딩 프로세스 수는 모든 작업을 합쳐 chunkParallelism 개로 제한한다 (나머지는 큐에서 대기)
+    @Bean(name = "ffmpegChunkExecutor")
+    public ThreadPoolTaskExecutor ffmpegChunkExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(chunkParallelism);
+        executor.setMaxPoolSize(chunkParallelism);
+        executor.setThreadNamePrefix("ffmpeg-chunk-");
+        executor.initialize();
+        return executor;
+    }
+
+    // ffmpeg 프로세스마다 출력(진행률/로그)을 끝까지 읽어줘야 하므로 큐 없이 프로세스 수만큼 스레드를 늘린다
+    @Bean(name = "ffmpegOutputExecutor")
+    public ThreadPoolTaskExecutor ffmpegOutputExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(encodingWorkers);
+        executor.setMaxPoolSize(encodingWorkers + chunkParallelism);
+        executor.setQueueCapacity(0);
+        executor.setThreadNamePrefix("ffmpeg-output-");
+        executor.initialize();
+        return executor;
+    }
+
+    // 작업당 동시 업로드 수는 HlsUploadBatch 의 Semaphore 가 제한하므로 큐는 제한하지 않는다
+    @Bean(name = "s3UploadExecutor")
+    public ThreadPoolTaskExecutor s3UploadExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(encodingWorkers * uploadParallelism);
+        executor.setMaxPoolSize(encodingWorkers * uploadParallelism);
+        executor.setThreadNamePrefix("s3-upload-");
+        executor.initialize();
+        return executor;
+    }
+
+    // @Scheduled 작업 전용 (웹소켓 브로커 스케줄러와 분리)
+    @Bean(name = "taskScheduler")
+    public ThreadPoolTaskScheduler taskScheduler() {
+        ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setPoolSize(4);
+        scheduler.setThreadNamePrefix("scheduler-");
+        scheduler.initialize();
+        return scheduler;
+    }
 }
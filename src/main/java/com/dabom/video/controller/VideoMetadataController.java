@@ -7,7 +7,6 @@ import com.dabom.video.constansts.SwaggerConstants;
 import com.dabom.video.model.dto.VideoMetadataRequestDto;
 import com.dabom.video.model.dto.score.VideoScoreRequestDto;
 import com.dabom.video.service.VideoService;
-import com.dabom.video.service.s3.VideoS3EncodingService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.ExampleObject;
@@ -33,8 +32,6 @@ import java.io.IOException;
 public class VideoMetadataController {
 
     private final VideoService videoService;
-    private final VideoS3EncodingService videoS3EncodingService;
-    //    private final VideoLocalEncodingService videoLocalEncodingService;
 
 
     @Operation(summary = "비디오 메타데이터 업데이트", description = "업로드된 비디오의 제목, 설명 등 메타데이터를 업데이트합니다.")
@@ -56,10 +53,9 @@ public class VideoMetadataController {
                                                             )
                                                             @RequestBody VideoMetadataRequestDto requestDto) throws IOException, InterruptedException {
 
+        // 메타데이터 저장과 함께 인코딩 작업이 큐에 등록된다 (EncodingJobWorker 가 처리)
         Integer i = videoService.mappingMetadata(requestDto);
 
-//        videoS3EncodingService.encode(videoIdx);
-
         return ResponseEntity.ok(BaseResponse.of(i, HttpStatus.OK));
     }
 
@@ -1,6 +1,8 @@
 package com.dabom.video.controller;
 
 import com.dabom.common.BaseResponse;
+import com.dabom.member.security.dto.MemberDetailsDto;
+import com.dabom.member.service.CookieService;
 import com.dabom.video.constansts.SwaggerConstants;
 import com.dabom.video.model.dto.VideoInfoResponseDto;
 import com.dabom.video.service.VideoStreamService;
@@ -11,15 +13,20 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.CookieValue;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.util.UUID;
+
 
 @Tag(name = "비디오 스트리밍 기능", description = "비디오 스트리밍 및 정보 조회 API")
 @Slf4j
@@ -28,7 +35,11 @@ import org.springframework.web.bind.annotation.RestController;
 @RequiredArgsConstructor
 public class VideoStreamController {
 
+    private static final String VIEWER_COOKIE_NAME = "viewer_id";
+    private static final long VIEWER_COOKIE_MAX_AGE_SECONDS = 60L * 60 * 24 * 365;
+
     private final VideoStreamService videoStreamService;
+    private final CookieService cookieService;
 
     @Operation(summary = "비디오 정보 조회", description = "특정 비디오의 정보를 조회합니다.")
     @ApiResponses(value = {
@@ -38,7 +49,27 @@ public class VideoStreamController {
                             examples = @ExampleObject(value = SwaggerConstants.VIDEO_INFO_RESPONSE)))
     })
     @GetMapping("/{videoId}")
-    public ResponseEntity<BaseResponse<VideoInfoResponseDto>> getVideoInfo(@PathVariable Integer videoId) {
-        VideoInfoResponseDto videoInfo = videoStreamService.getVideoInfo(videoId);        return ResponseEntity.ok(BaseResponse.of(videoInfo, HttpStatus.OK));
+    public ResponseEntity<BaseResponse<VideoInfoResponseDto>> getVideoInfo(
+            @PathVariable Integer videoId,
+            @AuthenticationPrincipal MemberDetailsDto memberDetailsDto,
+            @CookieValue(name = VIEWER_COOKIE_NAME, required = false) String viewerId,
+            HttpServletResponse response) {
+        String viewerKey = resolveViewerKey(memberDetailsDto, viewerId, response);
+        VideoInfoResponseDto videoInfo = videoStreamService.getVideoInfo(videoId, viewerKey);
+        return ResponseEntity.ok(BaseResponse.of(videoInfo, HttpStatus.OK));
+    }
+
+    // ===== ===== //
+    // 순 시청자 집계용 식별자. 비회원은 쿠키로 발급한 id 를 쓴다
+    private String resolveViewerKey(MemberDetailsDto memberDetailsDto, String viewerId, HttpServletResponse response) {
+        if (memberDetailsDto != null) {
+            return "m:" + memberDetailsDto.getIdx();
+        }
+        if (viewerId == null || viewerId.isBlank()) {
+            viewerId = UUID.randomUUID().toString();
+            cookieService.addCookieToResponse(
+                    cookieService.createCookie(VIEWER_COOKIE_NAME, viewerId, VIEWER_COOKIE_MAX_AGE_SECONDS), response);
+        }
+        return "a:" + viewerId;
     }
 }
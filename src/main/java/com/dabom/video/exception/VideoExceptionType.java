@@ -11,6 +11,7 @@ public enum VideoExceptionType implements ExceptionType {
     FILE_SIZE_EXCEEDED(BAD_REQUEST, "파일 크기는 100MB를 초과할 수 없습니다."),
     INVALID_CONTENT_TYPE(BAD_REQUEST, "비디오 파일만 업로드 가능합니다."),
     UNSUPPORTED_VIDEO_FORMAT(BAD_REQUEST, "지원하지 않는 비디오 형식입니다."),
+    INVALID_CURSOR(BAD_REQUEST, "잘못된 커서입니다."),
 
     PERMISSION_DENIED(FORBIDDEN, "권한이 없는 요청입니다."),
 
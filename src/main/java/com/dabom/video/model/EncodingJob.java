@@ -0,0 +1,120 @@
+package com.dabom.video.model;
+
+import com.dabom.common.BaseEntity;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+// 인코딩 작업 큐의 한 건. 워커는 lease 를 잡은 동안에만 작업을 실행하고,
+// lease 가 만료되면 다른 워커(또는 재시작한 서버)가 다시 가져간다.
+@Getter
+@Entity
+@Table(indexes = @Index(name = "idx_encoding_job_status_next_run", columnList = "status, next_run_at"))
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class EncodingJob extends BaseEntity {
+
+    private static final int MAX_ERROR_LENGTH = 1000;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long idx;
+
+    @Column(nullable = false, unique = true)
+    private Integer videoIdx;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private EncodingJobStatus status;
+
+    private int attempts;       // 지금까지 실행(claim)된 횟수
+    private int maxAttempts;    // 최대 실행 횟수
+
+    private LocalDateTime nextRunAt;        // 이 시각 이후에 실행 가능
+    private String leaseOwner;              // 작업을 잡고 있는 워커 id
+    private LocalDateTime leaseExpiresAt;   // heartbeat 가 끊기면 이 시각 이후 회수
+
+    @Column(length = MAX_ERROR_LENGTH)
+    private String lastError;
+
+    @Version
+    private Long version;
+
+    @Builder
+    public EncodingJob(Integer videoIdx, int maxAttempts) {
+        this.videoIdx = videoIdx;
+        this.maxAttempts = maxAttempts;
+        this.status = EncodingJobStatus.PENDING;
+        this.attempts = 0;
+        this.nextRunAt = LocalDateTime.now();
+    }
+
+    // ===== 비즈니스 로직 =====//
+    public void requeue(int maxAttempts) {
+        this.status = EncodingJobStatus.PENDING;
+        this.attempts = 0;
+        this.maxAttempts = maxAttempts;
+        this.nextRunAt = LocalDateTime.now();
+        this.lastError = null;
+        clearLease();
+    }
+
+    public void retryAt(LocalDateTime nextRunAt, String error) {
+        this.status = EncodingJobStatus.PENDING;
+        this.nextRunAt = nextRunAt;
+        this.lastError = truncate(error);
+        clearLease();
+    }
+
+    public void release(boolean refundAttempt) {
+        this.status = EncodingJobStatus.PENDING;
+        this.nextRunAt = LocalDateTime.now();
+        if (refundAttempt && this.attempts > 0) {
+            this.attempts--;
+        }
+        clearLease();
+    }
+
+    public void succeed() {
+        this.status = EncodingJobStatus.SUCCEEDED;
+        this.lastError = null;
+        clearLease();
+    }
+
+    public void fail(String error) {
+        this.status = EncodingJobStatus.FAILED;
+        this.lastError = truncate(error);
+        clearLease();
+    }
+
+    public boolean isRunning() {
+        return this.status == EncodingJobStatus.RUNNING;
+    }
+
+    public boolean isFailed() {
+        return this.status == EncodingJobStatus.FAILED;
+    }
+
+    public boolean isOwnedBy(String owner) {
+        return isRunning() && owner.equals(this.leaseOwner);
+    }
+
+    public boolean hasAttemptsLeft() {
+        return this.attempts < this.maxAttempts;
+    }
+
+    private void clearLease() {
+        this.leaseOwner = null;
+        this.leaseExpiresAt = null;
+    }
+
+    private String truncate(String error) {
+        if (error == null || error.length() <= MAX_ERROR_LENGTH) {
+            return error;
+        }
+        return error.substring(0, MAX_ERROR_LENGTH);
+    }
+}
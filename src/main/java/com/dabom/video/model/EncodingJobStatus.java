@@ -0,0 +1,15 @@
+package com.dabom.video.model;
+
+public enum EncodingJobStatus {
+
+    PENDING("실행 대기중"),
+    RUNNING("실행 중"),
+    SUCCEEDED("실행 성공"),
+    FAILED("재시도 한도 초과로 실패");
+
+    private final String description;
+
+    EncodingJobStatus(String description) {
+        this.description = description;
+    }
+}
@@ -0,0 +1,18 @@
+package com.dabom.video.model;
+
+public enum EncodingStage {
+
+    QUEUED("인코딩 대기중"),
+    DOWNLOADING("원본 다운로드 중"),
+    INSPECTING("원본 검사 중"),
+    ENCODING("인코딩 중"),
+    UPLOADING("업로드 중"),
+    COMPLETED("인코딩 완료"),
+    FAILED("인코딩 실패");
+
+    private final String description;
+
+    EncodingStage(String description) {
+        this.description = description;
+    }
+}
@@ -15,6 +15,8 @@ import java.util.List;
 
 @Getter
 @Entity
+// 최신순 공개 피드의 keyset 페이지네이션용 (VideoCursor)
+@Table(indexes = @Index(name = "idx_video_public_created_idx", columnList = "is_public, created_at, idx"))
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Video extends BaseEntity {
 
@@ -38,13 +40,30 @@ public class Video extends BaseEntity {
     private String savedPath; // 실제 저장된 경로 (로컬 경로 or S3 URL or m3u8 경로)
     private Long savedSize; // 파일 크기 (bytes)
 
-    private Long views; // 영상 조회수
+    // ffprobe 로 확인한 원본 정보 (인코딩 전 검사 단계에서 채운다)
+    private Double duration; // 영상 길이 (초)
+    private String videoCodec;
+    private String audioCodec;
+    private Integer width;
+    private Integer height;
+    private Long bitrate; // bps
+    private Double keyframeInterval; // 최대 키프레임 간격 (초)
+
+    // 아래 집계 컬럼들은 DB 에서 직접 증감하므로 JPA 의 UPDATE 에서 빼서 오래된 값으로 덮어쓰지 않게 한다
+    @Column(updatable = false)
+    private Long views; // 영상 조회수 (VideoViewCounter)
+    @Column(updatable = false)
+    private Long uniqueViewers; // 순 시청자 수 (HyperLogLog 추정치, UniqueViewerCounter 가 갱신)
 
     @Enumerated(EnumType.STRING)
     private VideoStatus videoStatus; // 영상 상태
 
+    // 평점 컬럼은 rating_aggregate 의 복사본 (VideoRepository.syncRatingSummary)
+    @Column(updatable = false)
     private Long totalReviewerCount = 0L; // 총 평가한 사람 수
+    @Column(updatable = false)
     private Long totalScore = 0L; // 총 점수
+    @Column(updatable = false)
     private double averageScore = 0; // 평점 평균
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -82,8 +101,17 @@ public class Video extends BaseEntity {
         this.title = title;
         this.description = description;
         this.isPublic = isPublic;
-        this.videoStatus = VideoStatus.ENCODING_PENDING;
         this.videoTag = videoTag;
+        // 인코딩이 진행 중이거나 끝난 영상은 메타데이터만 수정하고 상태는 유지
+        if (needsEncoding()) {
+            this.videoStatus = VideoStatus.ENCODING_PENDING;
+        }
+    }
+
+    public boolean needsEncoding() {
+        return this.videoStatus != VideoStatus.ENCODING
+                && this.videoStatus != VideoStatus.ENCODED
+                && this.videoStatus != VideoStatus.DONE;
     }
 
     public void updateVideoStatus(VideoStatus status) {
@@ -94,18 +122,23 @@ public class Video extends BaseEntity {
         this.savedPath = savedPath;
     }
 
-    public void addScore(Long newScore) {
-        this.totalReviewerCount++;
-        this.totalScore += newScore;
-        this.averageScore = ((this.averageScore * (this.totalReviewerCount - 1)) + newScore.doubleValue()) / this.totalReviewerCount;
+    public void updateSavedSize(Long savedSize) {
+        this.savedSize = savedSize;
     }
 
-    public void toggleVideoVisibility() {
-        this.isPublic = !this.isPublic;
+    public void updateMediaInfo(Double duration, String videoCodec, String audioCodec,
+                                Integer width, Integer height, Long bitrate, Double keyframeInterval) {
+        this.duration = duration;
+        this.videoCodec = videoCodec;
+        this.audioCodec = audioCodec;
+        this.width = width;
+        this.height = height;
+        this.bitrate = bitrate;
+        this.keyframeInterval = keyframeInterval;
     }
 
-    public void incrementViews() {
-        this.views = (this.views == null ? 1 : this.views + 1);
+    public void toggleVideoVisibility() {
+        this.isPublic = !this.isPublic;
     }
 
     public void updateThumbnailImage(Image thumbnail) {
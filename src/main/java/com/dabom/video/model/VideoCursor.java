@@ -0,0 +1,71 @@
+package com.dabom.video.model;
+
+import com.dabom.video.exception.VideoException;
+import com.dabom.video.exception.VideoExceptionType;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+// 최신순 목록의 keyset 커서. (created_at, idx) 가 이 값보다 작은 영상부터 이어서 읽는다.
+// 순위 목록(인기순, 키워드 검색)은 순위 위치(offset)를 같은 형식으로 담는다.
+// 클라이언트에는 내용을 알 수 없는 문자열(base64)로만 내보낸다
+public record VideoCursor(LocalDateTime createdAt, Integer idx) {
+
+    private static final String SEPARATOR = "|";
+    private static final String RANK_PREFIX = "rank" + SEPARATOR;
+
+    public static VideoCursor of(Video video) {
+        return new VideoCursor(video.getCreatedAt(), video.getIdx());
+    }
+
+    // 비어 있으면 첫 페이지(null)
+    public static VideoCursor decode(String token) {
+        if (token == null || token.isBlank()) {
+            return null;
+        }
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separator = decoded.indexOf(SEPARATOR);
+            return new VideoCursor(
+                    LocalDateTime.parse(decoded.substring(0, separator)),
+                    Integer.valueOf(decoded.substring(separator + 1)));
+        } catch (IllegalArgumentException | DateTimeParseException | IndexOutOfBoundsException e) {
+            throw new VideoException(VideoExceptionType.INVALID_CURSOR);
+        }
+    }
+
+    // 순위 목록의 다음 시작 위치. 비어 있으면 null
+    public static Integer decodeOffset(String token) {
+        if (token == null || token.isBlank()) {
+            return null;
+        }
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            if (!decoded.startsWith(RANK_PREFIX)) {
+                throw new VideoException(VideoExceptionType.INVALID_CURSOR);
+            }
+            int offset = Integer.parseInt(decoded.substring(RANK_PREFIX.length()));
+            if (offset < 0) {
+                throw new VideoException(VideoExceptionType.INVALID_CURSOR);
+            }
+            return offset;
+        } catch (IllegalArgumentException e) {
+            throw new VideoException(VideoExceptionType.INVALID_CURSOR);
+        }
+    }
+
+    public static String encodeOffset(int offset) {
+        return encodeRaw(RANK_PREFIX + offset);
+    }
+
+    public String encode() {
+        return encodeRaw(createdAt + SEPARATOR + idx);
+    }
+
+    // ===== ===== //
+    private static String encodeRaw(String raw) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
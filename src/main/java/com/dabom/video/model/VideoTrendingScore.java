@@ -0,0 +1,28 @@
+package com.dabom.video.model;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+// 인기 순위 엔진(TrendingEngine) 스냅샷. 재시작 시 이 값을 감쇠시켜 복원한다.
+// 주기적으로 전체를 덮어쓰므로 읽고 쓰기는 TrendingSnapshotRepository(JdbcTemplate) 로 한다
+@Getter
+@Entity
+@Table(name = "video_trending_score")
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class VideoTrendingScore {
+
+    @Id
+    private Integer videoIdx;
+
+    @Enumerated(EnumType.STRING)
+    private VideoTag videoTag;
+
+    private double score;           // scoredAt 기준으로 감쇠된 점수
+
+    @Column(nullable = false)
+    private LocalDateTime scoredAt;
+}
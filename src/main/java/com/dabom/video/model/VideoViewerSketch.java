@@ -0,0 +1,36 @@
+package com.dabom.video.model;
+
+import com.dabom.common.BaseEntity;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 영상별 순 시청자 HyperLogLog 레지스터 (약 4KB). 서버마다 메모리에서 갱신한 스케치를
+// 주기적으로 이 행에 합쳐(merge) 저장하므로 여러 인스턴스의 시청자도 한 번씩만 센다
+@Getter
+@Entity
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class VideoViewerSketch extends BaseEntity {
+
+    @Id
+    private Integer videoIdx;
+
+    @Lob
+    @Column(nullable = false, columnDefinition = "BLOB")
+    private byte[] registers;
+
+    private Long uniqueViewers;
+
+    @Version
+    private Long version;
+
+    public VideoViewerSketch(Integer videoIdx) {
+        this.videoIdx = videoIdx;
+    }
+
+    public void updateRegisters(byte[] registers, long uniqueViewers) {
+        this.registers = registers;
+        this.uniqueViewers = uniqueViewers;
+    }
+}
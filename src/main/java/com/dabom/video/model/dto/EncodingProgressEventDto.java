@@ -0,0 +1,17 @@
+package com.dabom.video.model.dto;
+
+import com.dabom.video.model.EncodingStage;
+import com.dabom.video.service.utils.FfmpegProgressSample;
+
+// /user/queue/encoding 으로 업로더에게 보내는 진행률
+public record EncodingProgressEventDto(Integer videoIdx, EncodingStage stage, int percent,
+                                       double speed, double fps, long etaSeconds) {
+
+    public static EncodingProgressEventDto of(Integer videoIdx, EncodingStage stage, FfmpegProgressSample sample) {
+        if (sample == null) {
+            return new EncodingProgressEventDto(videoIdx, stage, stage == EncodingStage.COMPLETED ? 100 : 0, 0, 0, 0);
+        }
+        int percent = stage == EncodingStage.COMPLETED ? 100 : sample.percent();
+        return new EncodingProgressEventDto(videoIdx, stage, percent, sample.speed(), sample.fps(), sample.etaSeconds());
+    }
+}
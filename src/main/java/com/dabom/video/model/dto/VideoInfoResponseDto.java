@@ -17,12 +17,13 @@ public class VideoInfoResponseDto {
     private String savedPath;
     private String channelName;
     private Long viewCount;
+    private Long uniqueViewers;
     private Double videoScore;
     private Long subscribeCount;
 
     @Builder(access = AccessLevel.PRIVATE)
 
-    private VideoInfoResponseDto(Integer idx, String title, String description, String savedPath, String channelName, Long viewCount, Long subscribeCount, Double videoScore) {
+    private VideoInfoResponseDto(Integer idx, String title, String description, String savedPath, String channelName, Long viewCount, Long uniqueViewers, Long subscribeCount, Double videoScore) {
 
         this.idx = idx;
         this.title = title;
@@ -30,18 +31,27 @@ public class VideoInfoResponseDto {
         this.savedPath = savedPath;
         this.channelName = channelName;
         this.viewCount = viewCount;
+        this.uniqueViewers = uniqueViewers;
         this.videoScore = videoScore;
         this.subscribeCount = subscribeCount;
     }
 
     public static VideoInfoResponseDto toDto(Video entity, String savedPath) {
+        return toDto(entity, savedPath, 0, entity.getUniqueViewers() == null ? 0 : entity.getUniqueViewers());
+    }
+
+    // pendingViews: 아직 DB 에 반영되지 않은 조회수 (VideoViewCounter)
+    // uniqueViewers: 메모리 스케치 기준 순 시청자 추정치 (UniqueViewerCounter)
+    public static VideoInfoResponseDto toDto(Video entity, String savedPath, long pendingViews, long uniqueViewers) {
+        long views = entity.getViews() == null ? 0 : entity.getViews();
         return VideoInfoResponseDto.builder()
                 .idx(entity.getIdx())
                 .title(entity.getTitle())
                 .description(entity.getDescription())
                 .savedPath(savedPath)
                 .channelName(entity.getChannel().getName())
-                .viewCount(entity.getViews())
+                .viewCount(views + pendingViews)
+                .uniqueViewers(uniqueViewers)
                 .videoScore(entity.getAverageScore())
                 .subscribeCount(entity.getChannel().getSubscribeCount())
                 .build();
@@ -16,6 +16,7 @@ public class VideoInformationResponseDto {
     private String title;
     private String description;
     private Long views;
+    private Long uniqueViewers;
     private Long totalReviewerCount;
     private double averageScore;
     private boolean isPublicVideo;
@@ -28,6 +29,7 @@ public class VideoInformationResponseDto {
                 .title(entity.getTitle())
                 .description(entity.getDescription())
                 .views(entity.getViews())
+                .uniqueViewers(entity.getUniqueViewers())
                 .totalReviewerCount(entity.getTotalReviewerCount())
                 .averageScore(entity.getAverageScore())
                 .isPublicVideo(entity.isPublic())
@@ -38,13 +40,14 @@ public class VideoInformationResponseDto {
 
 
     @Builder(access = AccessLevel.PRIVATE)
-    private VideoInformationResponseDto(Integer videoIdx, String title, String description, Long views,
+    private VideoInformationResponseDto(Integer videoIdx, String title, String description, Long views, Long uniqueViewers,
                                         Long totalReviewerCount, double averageScore,
                                         boolean isPublicVideo, LocalDateTime uploadedAt, String thumbnailImage) {
         this.videoIdx = videoIdx;
         this.title = title;
         this.description = description;
         this.views = views;
+        this.uniqueViewers = uniqueViewers;
         this.totalReviewerCount = totalReviewerCount;
         this.averageScore = averageScore;
         this.isPublicVideo = isPublicVideo;
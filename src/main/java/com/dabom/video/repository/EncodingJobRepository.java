@@ -0,0 +1,52 @@
+package com.dabom.video.repository;
+
+import com.dabom.video.model.EncodingJob;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+public interface EncodingJobRepository extends JpaRepository<EncodingJob, Long> {
+
+    Optional<EncodingJob> findByVideoIdx(Integer videoIdx);
+
+    // 실행 가능한 작업 후보 (claim 은 아래 조건부 UPDATE 로 따로 수행)
+    @Query(value = "SELECT idx FROM encoding_job WHERE status = 'PENDING' AND next_run_at <= :now " +
+            "ORDER BY next_run_at LIMIT :limit", nativeQuery = true)
+    List<Long> findRunnableJobIds(@Param("now") LocalDateTime now, @Param("limit") int limit);
+
+    // 여러 워커가 동시에 같은 작업을 잡아도 한 워커만 1 row 를 갱신한다
+    @Modifying(clearAutomatically = true)
+    @Query(value = "UPDATE encoding_job SET status = 'RUNNING', attempts = attempts + 1, " +
+            "lease_owner = :owner, lease_expires_at = :leaseUntil, version = version + 1 " +
+            "WHERE idx = :idx AND status = 'PENDING' AND next_run_at <= :now", nativeQuery = true)
+    int claim(@Param("idx") Long idx, @Param("owner") String owner,
+              @Param("now") LocalDateTime now, @Param("leaseUntil") LocalDateTime leaseUntil);
+
+    @Modifying(clearAutomatically = true)
+    @Query(value = "UPDATE encoding_job SET lease_expires_at = :leaseUntil " +
+            "WHERE idx IN (:ids) AND lease_owner = :owner AND status = 'RUNNING'", nativeQuery = true)
+    int extendLeases(@Param("ids") Collection<Long> ids, @Param("owner") String owner,
+                     @Param("leaseUntil") LocalDateTime leaseUntil);
+
+    @Query("SELECT j FROM EncodingJob j WHERE j.status = com.dabom.video.model.EncodingJobStatus.RUNNING " +
+            "AND j.leaseExpiresAt < :now")
+    List<EncodingJob> findExpiredLeases(@Param("now") LocalDateTime now);
+
+    @Query("SELECT j FROM EncodingJob j WHERE j.status = com.dabom.video.model.EncodingJobStatus.RUNNING " +
+            "AND j.leaseOwner = :owner")
+    List<EncodingJob> findByLeaseOwner(@Param("owner") String owner);
+
+    // 작업 큐 도입 이전에 ENCODING_PENDING/ENCODING 으로 멈춰있던 영상들을 큐에 다시 넣는다
+    @Modifying
+    @Query(value = "INSERT INTO encoding_job (video_idx, status, attempts, max_attempts, next_run_at, version, created_at, updated_at) " +
+            "SELECT v.idx, 'PENDING', 0, :maxAttempts, :now, 0, :now, :now FROM video v " +
+            "WHERE v.video_status IN ('ENCODING_PENDING', 'ENCODING') " +
+            "AND NOT EXISTS (SELECT 1 FROM encoding_job j WHERE j.video_idx = v.idx)", nativeQuery = true)
+    int enqueueOrphanVideos(@Param("maxAttempts") int maxAttempts, @Param("now") LocalDateTime now);
+}
@@ -0,0 +1,55 @@
+package com.dabom.video.repository;
+
+import com.dabom.video.model.VideoTag;
+import com.dabom.video.service.trending.TrendingEntry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+// video_trending_score 스냅샷을 배치로 저장하고 읽는다
+@Repository
+@RequiredArgsConstructor
+public class TrendingSnapshotRepository {
+
+    private static final String UPSERT_SQL = "INSERT INTO video_trending_score (video_idx, video_tag, score, scored_at) " +
+            "VALUES (?, ?, ?, ?) " +
+            "ON DUPLICATE KEY UPDATE video_tag = VALUES(video_tag), score = VALUES(score), scored_at = VALUES(scored_at)";
+    private static final String DELETE_STALE_SQL = "DELETE FROM video_trending_score WHERE scored_at < ?";
+    private static final String SELECT_ALL_SQL = "SELECT video_idx, video_tag, score, scored_at FROM video_trending_score";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // 이번 스냅샷에 없는 영상(점수가 다 식은 영상)은 지운다
+    @Transactional
+    public void replaceAll(List<TrendingEntry> entries, LocalDateTime scoredAt) {
+        Timestamp timestamp = Timestamp.valueOf(scoredAt);
+        List<Object[]> args = new ArrayList<>(entries.size());
+        for (TrendingEntry entry : entries) {
+            args.add(new Object[]{entry.videoIdx(), entry.videoTag().name(), entry.score(), timestamp});
+        }
+        if (!args.isEmpty()) {
+            jdbcTemplate.batchUpdate(UPSERT_SQL, args);
+        }
+        jdbcTemplate.update(DELETE_STALE_SQL, timestamp);
+    }
+
+    public List<Snapshot> findAll() {
+        return jdbcTemplate.query(SELECT_ALL_SQL, (rs, rowNum) -> new Snapshot(
+                new TrendingEntry(rs.getInt("video_idx"), toTag(rs.getString("video_tag")), rs.getDouble("score")),
+                rs.getTimestamp("scored_at").toLocalDateTime()));
+    }
+
+    public record Snapshot(TrendingEntry entry, LocalDateTime scoredAt) {
+    }
+
+    // ===== ===== //
+    private static VideoTag toTag(String name) {
+        return name == null ? VideoTag.NONE : VideoTag.valueOf(name);
+    }
+}
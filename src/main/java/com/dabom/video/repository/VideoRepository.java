@@ -4,6 +4,7 @@ import com.dabom.video.model.Video;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
@@ -11,6 +12,25 @@ import java.util.Optional;
 
 public interface VideoRepository extends JpaRepository<Video, Integer>,VideoRepositoryCustom {
 
+    // 인코딩 진행률을 보낼 업로더(채널) idx
+    @Query("SELECT v.channel.idx FROM Video v WHERE v.idx = :videoIdx")
+    Optional<Integer> findChannelIdxByIdx(@Param("videoIdx") Integer videoIdx);
+
+    // rating_aggregate 의 평점 집계를 video 의 평점 컬럼에 복사한다 (같은 트랜잭션에서 applyDelta 직후 호출)
+    @Modifying
+    @Query(value = "UPDATE video v JOIN rating_aggregate r ON r.score_type = 'VIDEO' AND r.target_idx = v.idx " +
+            "SET v.total_reviewer_count = r.rating_count, v.total_score = ROUND(r.rating_sum), " +
+            "v.average_score = CASE WHEN r.rating_count = 0 THEN 0 ELSE r.rating_sum / r.rating_count END " +
+            "WHERE v.idx = :videoIdx", nativeQuery = true)
+    int syncRatingSummary(@Param("videoIdx") Integer videoIdx);
+
+    @Modifying
+    @Query(value = "UPDATE video v JOIN rating_aggregate r ON r.score_type = 'VIDEO' AND r.target_idx = v.idx " +
+            "SET v.total_reviewer_count = r.rating_count, v.total_score = ROUND(r.rating_sum), " +
+            "v.average_score = CASE WHEN r.rating_count = 0 THEN 0 ELSE r.rating_sum / r.rating_count END",
+            nativeQuery = true)
+    int syncAllRatingSummaries();
+
     // 키워드 검색말고 그냥 비디오 전체검색임
     @Query(value = "SELECT * FROM video WHERE is_public = 1 ORDER BY created_at DESC", nativeQuery = true)
     Slice<Video> findVisibleVideosOrderByCreatedAtDesc(Pageable pageable);
@@ -1,9 +1,13 @@
 package com.dabom.video.repository;
 
 import com.dabom.video.model.Video;
+import com.dabom.video.model.VideoCursor;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
 
+import java.util.Collection;
+import java.util.List;
+
 public interface VideoRepositoryCustom {
 
     Slice<Video> searchByKeywordWithFetchJoin(String keyword, Pageable pageable);
@@ -12,4 +16,19 @@ public interface VideoRepositoryCustom {
 
     Slice<Video> searchByNameWithFetchJoin(String name, Pageable pageable);
 
+    // keyset 페이지네이션. cursor 가 null 이면 첫 페이지
+    Slice<Video> searchByKeywordWithFetchJoin(String keyword, VideoCursor cursor, int size);
+
+    Slice<Video> findVisibleVideosWithFetchJoin(VideoCursor cursor, int size);
+
+    Slice<Video> searchByNameWithFetchJoin(String name, VideoCursor cursor, int size);
+
+    // 인기 순위처럼 idx 목록이 먼저 정해진 경우. 순서는 보장하지 않는다
+    List<Video> findVisibleVideosByIdxIn(Collection<Integer> idxs);
+
+    // 검색 색인 생성용 (채널 fetch join)
+    List<Video> findAllVisibleWithChannel();
+
+    List<Video> findAllVisibleWithChannelByChannelIdx(Integer channelIdx);
+
 }
\ No newline at end of file
@@ -1,16 +1,19 @@
 package com.dabom.video.repository;
 
 import com.dabom.video.model.Video;
+import com.dabom.video.model.VideoCursor;
 import com.dabom.video.model.VideoTag;
 import com.querydsl.core.types.dsl.BooleanExpression;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.SliceImpl;
 import org.springframework.stereotype.Repository;
 
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -29,14 +32,9 @@ public class VideoRepositoryImpl implements VideoRepositoryCustom {
                 .join(video.channel ).fetchJoin()
                 .where(
                         video.isPublic.eq(true) //eq는 sql의 =연산자와 동일한 문법.
-                                .and(
-                                        video.title.containsIgnoreCase(keyword) // 이게 풀스캔 방식(대소문자무시하면서)
-                                                .or(video.description.containsIgnoreCase(keyword))
-                                                .or(video.channel.name.containsIgnoreCase(keyword))
-                                                .or(videoTagContains(keyword))
-                                )
+                                .and(keywordMatches(keyword))
                 )
-                .orderBy(video.createdAt.desc())
+                .orderBy(video.createdAt.desc(), video.idx.desc())
                 .offset(pageable.getOffset())
                 .limit(pageable.getPageSize() + 1)
                 .fetch();
@@ -50,7 +48,7 @@ public class VideoRepositoryImpl implements VideoRepositoryCustom {
                 .selectFrom(video)
                 .join(video.channel, member).fetchJoin()
                 .where(video.isPublic.eq(true))
-                .orderBy(video.createdAt.desc())
+                .orderBy(video.createdAt.desc(), video.idx.desc())
                 .offset(pageable.getOffset())
                 .limit(pageable.getPageSize() + 1)
                 .fetch();
@@ -67,7 +65,7 @@ public class VideoRepositoryImpl implements VideoRepositoryCustom {
                         video.isPublic.eq(true)
                                 .and(video.channel.name.eq(name)) // 정확히 일치
                 )
-                .orderBy(video.createdAt.desc())
+                .orderBy(video.createdAt.desc(), video.idx.desc())
                 .offset(pageable.getOffset())
                 .limit(pageable.getPageSize() + 1)
                 .fetch();
@@ -75,6 +73,100 @@ public class VideoRepositoryImpl implements VideoRepositoryCustom {
         return createSlice(videos, pageable);
     }
 
+    @Override
+    public Slice<Video> searchByKeywordWithFetchJoin(String keyword, VideoCursor cursor, int size) {
+        List<Video> videos = queryFactory
+                .selectFrom(video)
+                .join(video.channel).fetchJoin()
+                .where(
+                        video.isPublic.eq(true)
+                                .and(keywordMatches(keyword)),
+                        after(cursor)
+                )
+                .orderBy(video.createdAt.desc(), video.idx.desc())
+                .limit(size + 1)
+                .fetch();
+
+        return createSlice(videos, PageRequest.ofSize(size));
+    }
+
+    @Override
+    public Slice<Video> findVisibleVideosWithFetchJoin(VideoCursor cursor, int size) {
+        List<Video> videos = queryFactory
+                .selectFrom(video)
+                .join(video.channel, member).fetchJoin()
+                .where(video.isPublic.eq(true), after(cursor))
+                .orderBy(video.createdAt.desc(), video.idx.desc())
+                .limit(size + 1)
+                .fetch();
+
+        return createSlice(videos, PageRequest.ofSize(size));
+    }
+
+    @Override
+    public Slice<Video> searchByNameWithFetchJoin(String name, VideoCursor cursor, int size) {
+        List<Video> videos = queryFactory
+                .selectFrom(video)
+                .join(video.channel, member).fetchJoin()
+                .where(
+                        video.isPublic.eq(true)
+                                .and(video.channel.name.eq(name)),
+                        after(cursor)
+                )
+                .orderBy(video.createdAt.desc(), video.idx.desc())
+                .limit(size + 1)
+                .fetch();
+
+        return createSlice(videos, PageRequest.ofSize(size));
+    }
+
+    @Override
+    public List<Video> findVisibleVideosByIdxIn(Collection<Integer> idxs) {
+        if (idxs.isEmpty()) {
+            return List.of();
+        }
+        return queryFactory
+                .selectFrom(video)
+                .join(video.channel, member).fetchJoin()
+                .where(video.isPublic.eq(true)
+                        .and(video.idx.in(idxs)))
+                .fetch();
+    }
+
+    @Override
+    public List<Video> findAllVisibleWithChannel() {
+        return queryFactory
+                .selectFrom(video)
+                .join(video.channel, member).fetchJoin()
+                .where(video.isPublic.eq(true))
+                .fetch();
+    }
+
+    @Override
+    public List<Video> findAllVisibleWithChannelByChannelIdx(Integer channelIdx) {
+        return queryFactory
+                .selectFrom(video)
+                .join(video.channel, member).fetchJoin()
+                .where(video.isPublic.eq(true)
+                        .and(video.channel.idx.eq(channelIdx)))
+                .fetch();
+    }
+
+    private BooleanExpression keywordMatches(String keyword) {
+        return video.title.containsIgnoreCase(keyword) // 이게 풀스캔 방식(대소문자무시하면서)
+                .or(video.description.containsIgnoreCase(keyword))
+                .or(video.channel.name.containsIgnoreCase(keyword))
+                .or(videoTagContains(keyword));
+    }
+
+    // (created_at, idx) < (커서) : offset 없이 인덱스(is_public, created_at, idx)에서 바로 이어 읽는다
+    private BooleanExpression after(VideoCursor cursor) {
+        if (cursor == null) {
+            return null;
+        }
+        return video.createdAt.lt(cursor.createdAt())
+                .or(video.createdAt.eq(cursor.createdAt()).and(video.idx.lt(cursor.idx())));
+    }
 
     private BooleanExpression videoTagContains(String keyword) {
         if (keyword == null || keyword.trim().isEmpty()) {
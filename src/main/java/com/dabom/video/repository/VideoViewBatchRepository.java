@@ -0,0 +1,41 @@
+package com.dabom.video.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+// 조회수를 JPA 엔티티를 거치지 않고 한 번의 배치 UPDATE 로 더한다
+@Repository
+@RequiredArgsConstructor
+public class VideoViewBatchRepository {
+
+    private static final String ADD_VIEWS_SQL = "UPDATE video SET views = COALESCE(views, 0) + ? WHERE idx = ?";
+    private static final String UPDATE_UNIQUE_VIEWERS_SQL = "UPDATE video SET unique_viewers = ? WHERE idx = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public void addViews(Map<Integer, Long> deltas) {
+        if (deltas.isEmpty()) {
+            return;
+        }
+        // idx 순서로 잠가서 여러 인스턴스가 동시에 flush 해도 데드락이 나지 않게 한다
+        List<Object[]> args = new ArrayList<>(deltas.size());
+        new TreeMap<>(deltas).forEach((videoIdx, delta) -> args.add(new Object[]{delta, videoIdx}));
+        jdbcTemplate.batchUpdate(ADD_VIEWS_SQL, args);
+    }
+
+    // 순 시청자 수는 HyperLogLog 추정치를 그대로 덮어쓴다 (UniqueViewerCounter)
+    public void updateUniqueViewers(Map<Integer, Long> estimates) {
+        if (estimates.isEmpty()) {
+            return;
+        }
+        List<Object[]> args = new ArrayList<>(estimates.size());
+        new TreeMap<>(estimates).forEach((videoIdx, estimate) -> args.add(new Object[]{estimate, videoIdx}));
+        jdbcTemplate.batchUpdate(UPDATE_UNIQUE_VIEWERS_SQL, args);
+    }
+}
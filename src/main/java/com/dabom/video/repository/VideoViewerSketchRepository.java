@@ -0,0 +1,7 @@
+package com.dabom.video.repository;
+
+import com.dabom.video.model.VideoViewerSketch;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface VideoViewerSketchRepository extends JpaRepository<VideoViewerSketch, Integer> {
+}
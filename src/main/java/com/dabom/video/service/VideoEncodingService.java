@@ -0,0 +1,9 @@
+package com.dabom.video.service;
+
+import java.io.IOException;
+
+public interface VideoEncodingService {
+
+    // 실패 시 예외를 던져야 작업 큐가 재시도/실패 처리를 할 수 있다
+    void encode(Integer videoIdx) throws IOException;
+}
@@ -8,6 +8,8 @@ import com.dabom.s3.S3UrlBuilder;
 import com.dabom.score.model.entity.Score;
 import com.dabom.score.model.entity.ScoreType;
 import com.dabom.score.repository.ScoreRepository;
+import com.dabom.score.service.RatingAggregateService;
+import com.dabom.search.index.VideoIndexEvent;
 import com.dabom.video.exception.VideoException;
 import com.dabom.video.exception.VideoExceptionType;
 import com.dabom.video.model.Video;
@@ -16,8 +18,12 @@ import com.dabom.video.model.dto.VideoInformationResponseDto;
 import com.dabom.video.model.dto.VideoMetadataRequestDto;
 import com.dabom.video.model.dto.score.VideoScoreRequestDto;
 import com.dabom.video.repository.VideoRepository;
+import com.dabom.video.service.encoding.EncodingJobService;
+import com.dabom.video.service.trending.TrendingEvent;
+import com.dabom.video.service.trending.TrendingEventType;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -33,6 +39,9 @@ public class VideoService {
     private final ScoreRepository scoreRepository;
     private final MemberRepository memberRepository;
     private final S3UrlBuilder s3UrlBuilder;
+    private final EncodingJobService encodingJobService;
+    private final RatingAggregateService ratingAggregateService;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public Integer mappingMetadata(VideoMetadataRequestDto requestDto) {
@@ -45,6 +54,11 @@ public class VideoService {
                 requestDto.isPublic(),
                 requestDto.getVideoTag()
         );
+        // 이미 인코딩된 영상의 메타데이터 수정은 재인코딩하지 않음
+        if (video.needsEncoding()) {
+            encodingJobService.enqueue(video.getIdx());
+        }
+        eventPublisher.publishEvent(new VideoIndexEvent(video.getIdx()));
 
         return video.getIdx();
     }
@@ -92,7 +106,6 @@ public class VideoService {
             throw new VideoException(VideoExceptionType.VIDEO_ALREADY_RATED);
         }
 
-        targetVideo.addScore(requestDto.score());
         Score score = Score.builder()
                 .member(scoreSender)
                 .video(targetVideo)
@@ -100,6 +113,10 @@ public class VideoService {
                 .scoreType(ScoreType.VIDEO)
                 .build();
         scoreRepository.save(score);
+        // 평점 집계는 DB 에서 바로 더한다 (동시에 평가해도 유실 없음)
+        ratingAggregateService.add(ScoreType.VIDEO, videoIdx, score.getScore());
+        eventPublisher.publishEvent(new TrendingEvent(videoIdx, targetVideo.getVideoTag(),
+                TrendingEventType.SCORE, score.getScore() / Score.MAX_SCORE));
     }
 
     @Transactional
@@ -113,6 +130,7 @@ public class VideoService {
         }
 
         video.toggleVideoVisibility();
+        eventPublisher.publishEvent(new VideoIndexEvent(videoIdx));
 
         return videoIdx;
     }
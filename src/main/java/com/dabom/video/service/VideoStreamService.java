@@ -5,6 +5,10 @@ import com.dabom.video.exception.VideoExceptionType;
 import com.dabom.video.model.Video;
 import com.dabom.video.model.dto.VideoInfoResponseDto;
 import com.dabom.video.repository.VideoRepository;
+import com.dabom.video.service.trending.TrendingEngine;
+import com.dabom.video.service.trending.TrendingEventType;
+import com.dabom.video.service.view.UniqueViewerCounter;
+import com.dabom.video.service.view.VideoViewCounter;
 import com.dabom.s3.S3UrlBuilder;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -18,15 +22,23 @@ public class VideoStreamService {
 
     private final VideoRepository videoRepository;
     private final S3UrlBuilder s3UrlBuilder;
+    private final VideoViewCounter videoViewCounter;
+    private final UniqueViewerCounter uniqueViewerCounter;
+    private final TrendingEngine trendingEngine;
 
-    @Transactional // TODO: views 증가 로직을 위함인데, 스트림에 @Transactional이 붙어야 할까?
-    public VideoInfoResponseDto getVideoInfo(Integer videoId) {
+    // 조회수는 VideoViewCounter 에 모았다가 배치로 반영하므로 여기서는 읽기만 한다
+    // viewerKey: 순 시청자 집계용 식별자 (회원 "m:{idx}", 비회원 "a:{쿠키 id}")
+    @Transactional(readOnly = true)
+    public VideoInfoResponseDto getVideoInfo(Integer videoId, String viewerKey) {
         Video video = videoRepository.findById(videoId)
                 .orElseThrow(() -> new VideoException(VideoExceptionType.VIDEO_NOT_FOUND));
 
-        video.incrementViews();
+        videoViewCounter.increment(videoId);
+        uniqueViewerCounter.offer(videoId, viewerKey);
+        trendingEngine.record(videoId, video.getVideoTag(), TrendingEventType.VIEW);
 
         String savedPath = s3UrlBuilder.buildPublicUrl(video.getSavedPath());
-        return VideoInfoResponseDto.toDto(video, savedPath);
+        return VideoInfoResponseDto.toDto(video, savedPath, videoViewCounter.pending(videoId),
+                uniqueViewerCounter.estimate(videoId));
     }
 }
@@ -0,0 +1,173 @@
+package com.dabom.video.service.encoding;
+
+import com.dabom.video.model.EncodingJob;
+import com.dabom.video.model.VideoStatus;
+import com.dabom.video.repository.EncodingJobRepository;
+import com.dabom.video.repository.VideoRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Slf4j
+@Service
+@Transactional(readOnly = true)
+@RequiredArgsConstructor
+public class EncodingJobService {
+
+    private static final long MAX_BACKOFF_SECONDS = 60 * 60L;
+
+    private final EncodingJobRepository encodingJobRepository;
+    private final VideoRepository videoRepository;
+
+    @Value("${file.ffmpeg.job.max-attempts}")
+    private int maxAttempts;
+
+    @Value("${file.ffmpeg.job.lease-seconds}")
+    private long leaseSeconds;
+
+    @Value("${file.ffmpeg.job.backoff-seconds}")
+    private long backoffSeconds;
+
+    @Transactional
+    public void enqueue(Integer videoIdx) {
+        Optional<EncodingJob> existing = encodingJobRepository.findByVideoIdx(videoIdx);
+        if (existing.isPresent()) {
+            // 대기/실행 중이거나 이미 성공한 작업은 그대로 두고, 실패한 작업만 다시 대기열에 올림
+            EncodingJob job = existing.get();
+            if (job.isFailed()) {
+                job.requeue(maxAttempts);
+                log.info("인코딩 작업 재등록 - videoIdx: {}", videoIdx);
+            }
+            return;
+        }
+
+        encodingJobRepository.save(EncodingJob.builder()
+                .videoIdx(videoIdx)
+                .maxAttempts(maxAttempts)
+                .build());
+        log.info("인코딩 작업 등록 - videoIdx: {}", videoIdx);
+    }
+
+    public List<Long> findRunnableJobIds(int limit) {
+        return encodingJobRepository.findRunnableJobIds(LocalDateTime.now(), limit);
+    }
+
+    @Transactional
+    public Optional<EncodingJob> claim(Long jobIdx, String owner) {
+        LocalDateTime now = LocalDateTime.now();
+        if (encodingJobRepository.claim(jobIdx, owner, now, now.plusSeconds(leaseSeconds)) == 0) {
+            return Optional.empty(); // 다른 워커가 먼저 가져감
+        }
+
+        EncodingJob job = encodingJobRepository.findById(jobIdx).orElseThrow();
+        if (job.getAttempts() > job.getMaxAttempts()) {
+            // lease 만료로 회수된 작업이 재시도 한도를 넘긴 경우
+            failJob(job, "재시도 한도 초과");
+            return Optional.empty();
+        }
+
+        updateVideoStatus(job.getVideoIdx(), VideoStatus.ENCODING);
+        return Optional.of(job);
+    }
+
+    @Transactional
+    public void heartbeat(Collection<Long> jobIds, String owner) {
+        if (jobIds.isEmpty()) {
+            return;
+        }
+        encodingJobRepository.extendLeases(jobIds, owner, LocalDateTime.now().plusSeconds(leaseSeconds));
+    }
+
+    @Transactional
+    public void complete(Long jobIdx, String owner) {
+        EncodingJob job = encodingJobRepository.findById(jobIdx).orElseThrow();
+        if (!job.isOwnedBy(owner)) {
+            log.warn("lease 를 잃은 작업의 완료 보고 무시 - jobIdx: {}", jobIdx);
+            return;
+        }
+        job.succeed();
+    }
+
+    @Transactional
+    public void fail(Long jobIdx, String owner, Exception cause) {
+        EncodingJob job = encodingJobRepository.findById(jobIdx).orElseThrow();
+        if (!job.isOwnedBy(owner)) {
+            log.warn("lease 를 잃은 작업의 실패 보고 무시 - jobIdx: {}", jobIdx);
+            return;
+        }
+
+        String error = cause.getClass().getSimpleName() + ": " + cause.getMessage();
+        if (!job.hasAttemptsLeft()) {
+            failJob(job, error);
+            return;
+        }
+
+        LocalDateTime nextRunAt = LocalDateTime.now().plusSeconds(backoff(job.getAttempts()));
+        job.retryAt(nextRunAt, error);
+        updateVideoStatus(job.getVideoIdx(), VideoStatus.ENCODING_PENDING);
+        log.warn("인코딩 작업 재시도 예약 - videoIdx: {}, attempts: {}/{}, nextRunAt: {}",
+                job.getVideoIdx(), job.getAttempts(), job.getMaxAttempts(), nextRunAt);
+    }
+
+    // 서버가 죽어서 heartbeat 가 끊긴 작업을 다시 대기열로 돌린다
+    @Transactional
+    public int recoverExpiredLeases() {
+        List<EncodingJob> expired = encodingJobRepository.findExpiredLeases(LocalDateTime.now());
+        for (EncodingJob job : expired) {
+            log.warn("lease 만료 작업 회수 - videoIdx: {}, owner: {}", job.getVideoIdx(), job.getLeaseOwner());
+            job.release(false);
+            updateVideoStatus(job.getVideoIdx(), VideoStatus.ENCODING_PENDING);
+        }
+        return expired.size();
+    }
+
+    @Transactional
+    public void release(Long jobIdx, String owner) {
+        encodingJobRepository.findById(jobIdx)
+                .filter(job -> job.isOwnedBy(owner))
+                .ifPresent(job -> {
+                    job.release(true);
+                    updateVideoStatus(job.getVideoIdx(), VideoStatus.ENCODING_PENDING);
+                });
+    }
+
+    // 정상 종료 시 실행 중이던 작업을 시도 횟수 차감 없이 반납한다
+    @Transactional
+    public int releaseLeases(String owner) {
+        List<EncodingJob> owned = encodingJobRepository.findByLeaseOwner(owner);
+        for (EncodingJob job : owned) {
+            job.release(true);
+            updateVideoStatus(job.getVideoIdx(), VideoStatus.ENCODING_PENDING);
+        }
+        return owned.size();
+    }
+
+    @Transactional
+    public int enqueueOrphanVideos() {
+        return encodingJobRepository.enqueueOrphanVideos(maxAttempts, LocalDateTime.now());
+    }
+
+    // ===== ===== //
+    private void failJob(EncodingJob job, String error) {
+        job.fail(error);
+        updateVideoStatus(job.getVideoIdx(), VideoStatus.FAILED);
+        log.error("인코딩 작업 최종 실패 - videoIdx: {}, error: {}", job.getVideoIdx(), error);
+    }
+
+    private long backoff(int attempts) {
+        long delay = backoffSeconds << Math.min(Math.max(attempts - 1, 0), 10);
+        return Math.min(delay, MAX_BACKOFF_SECONDS);
+    }
+
+    private void updateVideoStatus(Integer videoIdx, VideoStatus status) {
+        videoRepository.findById(videoIdx)
+                .ifPresent(video -> video.updateVideoStatus(status));
+    }
+}
@@ -0,0 +1,107 @@
+package com.dabom.video.service.encoding;
+
+import com.dabom.video.model.EncodingJob;
+import com.dabom.video.service.VideoEncodingService;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import java.net.InetAddress;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class EncodingJobWorker {
+
+    private final EncodingJobService encodingJobService;
+    private final VideoEncodingService videoEncodingService;
+    private final ThreadPoolTaskExecutor ffmpegExecutor;
+    private final EncodingProgressTracker encodingProgressTracker;
+
+    private final String workerId = createWorkerId();
+    private final Set<Long> runningJobs = ConcurrentHashMap.newKeySet();
+    private volatile boolean shuttingDown = false;
+
+    @Value("${file.ffmpeg.job.workers}")
+    private int workers;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void recoverOnStartup() {
+        int recovered = encodingJobService.recoverExpiredLeases();
+        int orphaned = encodingJobService.enqueueOrphanVideos();
+        log.info("인코딩 워커 시작 - workerId: {}, 회수한 작업: {}, 새로 등록한 대기 영상: {}", workerId, recovered, orphaned);
+    }
+
+    @Scheduled(fixedDelayString = "${file.ffmpeg.job.poll-interval-ms}")
+    public void poll() {
+        int freeSlots = workers - runningJobs.size();
+        if (shuttingDown || freeSlots <= 0) {
+            return;
+        }
+
+        List<Long> candidates = encodingJobService.findRunnableJobIds(freeSlots);
+        for (Long jobIdx : candidates) {
+            encodingJobService.claim(jobIdx, workerId).ifPresent(this::dispatch);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${file.ffmpeg.job.heartbeat-interval-ms}")
+    public void heartbeat() {
+        encodingJobService.heartbeat(Set.copyOf(runningJobs), workerId);
+        encodingJobService.recoverExpiredLeases();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        shuttingDown = true;
+        int released = encodingJobService.releaseLeases(workerId);
+        log.info("인코딩 워커 종료 - 반납한 작업: {}", released);
+    }
+
+    // ===== ===== //
+    private void dispatch(EncodingJob job) {
+        runningJobs.add(job.getIdx());
+        try {
+            ffmpegExecutor.execute(() -> run(job));
+        } catch (TaskRejectedException e) {
+            runningJobs.remove(job.getIdx());
+            encodingJobService.release(job.getIdx(), workerId);
+        }
+    }
+
+    private void run(EncodingJob job) {
+        encodingProgressTracker.start(job.getVideoIdx(), job.getNextRunAt());
+        try {
+            videoEncodingService.encode(job.getVideoIdx());
+            encodingJobService.complete(job.getIdx(), workerId);
+            encodingProgressTracker.finish(job.getVideoIdx(), true);
+        } catch (Exception e) {
+            log.error("인코딩 작업 실패 - videoIdx: {}, attempts: {}", job.getVideoIdx(), job.getAttempts(), e);
+            encodingJobService.fail(job.getIdx(), workerId, e);
+            encodingProgressTracker.finish(job.getVideoIdx(), false);
+        } finally {
+            runningJobs.remove(job.getIdx());
+        }
+    }
+
+    private static String createWorkerId() {
+        String host;
+        try {
+            host = InetAddress.getLocalHost().getHostName();
+        } catch (Exception e) {
+            host = "unknown";
+        }
+        return host + "-" + UUID.randomUUID().toString().substring(0, 8);
+    }
+}
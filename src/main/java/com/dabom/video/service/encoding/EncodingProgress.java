@@ -0,0 +1,49 @@
+package com.dabom.video.service.encoding;
+
+import com.dabom.video.model.EncodingStage;
+import com.dabom.video.service.utils.FfmpegProgressSample;
+import lombok.Getter;
+
+// 인코딩 작업 하나의 진행 상태 (EncodingProgressTracker 가 작업 스레드와 ffmpeg 출력 스레드에서 갱신)
+@Getter
+public class EncodingProgress {
+
+    private final Integer videoIdx;
+    private final Integer memberIdx;
+
+    private volatile EncodingStage stage = EncodingStage.QUEUED;
+    private volatile long stageStartedNanos = System.nanoTime();
+    private volatile FfmpegProgressSample lastSample;
+    private volatile long lastPushedNanos = 0;
+
+    EncodingProgress(Integer videoIdx, Integer memberIdx) {
+        this.videoIdx = videoIdx;
+        this.memberIdx = memberIdx;
+    }
+
+    // 이전 단계에 머문 시간(ns) 을 돌려준다
+    long moveTo(EncodingStage next) {
+        long now = System.nanoTime();
+        long elapsed = now - stageStartedNanos;
+        stage = next;
+        stageStartedNanos = now;
+        return elapsed;
+    }
+
+    void update(FfmpegProgressSample sample) {
+        lastSample = sample;
+    }
+
+    boolean shouldPush(long intervalNanos) {
+        long now = System.nanoTime();
+        if (now - lastPushedNanos < intervalNanos) {
+            return false;
+        }
+        lastPushedNanos = now;
+        return true;
+    }
+
+    void markPushed() {
+        lastPushedNanos = System.nanoTime();
+    }
+}
@@ -0,0 +1,126 @@
+package com.dabom.video.service.encoding;
+
+import com.dabom.video.model.EncodingStage;
+import com.dabom.video.model.dto.EncodingProgressEventDto;
+import com.dabom.video.repository.VideoRepository;
+import com.dabom.video.service.utils.FfmpegProgressSample;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+// 인코딩 진행률을 메트릭으로 기록하고, 업로더에게 /user/queue/encoding 으로 일정 간격마다 알린다
+@Slf4j
+@Component
+public class EncodingProgressTracker {
+
+    private static final String USER_DESTINATION = "/queue/encoding";
+
+    private final VideoRepository videoRepository;
+    private final SimpMessagingTemplate messagingTemplate;
+    private final MeterRegistry meterRegistry;
+
+    private final Map<Integer, EncodingProgress> progresses = new ConcurrentHashMap<>();
+    private final Timer queueWaitTimer;
+    private final DistributionSummary speedSummary;
+
+    @Value("${file.ffmpeg.progress.push-interval-ms}")
+    private long pushIntervalMillis;
+
+    public EncodingProgressTracker(VideoRepository videoRepository, SimpMessagingTemplate messagingTemplate,
+                                   MeterRegistry meterRegistry) {
+        this.videoRepository = videoRepository;
+        this.messagingTemplate = messagingTemplate;
+        this.meterRegistry = meterRegistry;
+
+        this.queueWaitTimer = Timer.builder("encoding.queue.wait")
+                .description("인코딩 작업이 실행 가능해진 뒤 워커가 가져가기까지 걸린 시간")
+                .register(meterRegistry);
+        this.speedSummary = DistributionSummary.builder("encoding.speed")
+                .description("ffmpeg 인코딩 배속 (1.0 = 실시간)")
+                .register(meterRegistry);
+        meterRegistry.gauge("encoding.jobs.running", progresses, Map::size);
+    }
+
+    public void start(Integer videoIdx, LocalDateTime runnableSince) {
+        if (runnableSince != null) {
+            Duration wait = Duration.between(runnableSince, LocalDateTime.now());
+            queueWaitTimer.record(wait.isNegative() ? Duration.ZERO : wait);
+        }
+        Integer memberIdx = videoRepository.findChannelIdxByIdx(videoIdx).orElse(null);
+        progresses.put(videoIdx, new EncodingProgress(videoIdx, memberIdx));
+    }
+
+    public void stage(Integer videoIdx, EncodingStage stage) {
+        EncodingProgress progress = progresses.get(videoIdx);
+        if (progress == null) {
+            return;
+        }
+        recordStageDuration(progress.getStage(), progress.moveTo(stage));
+        push(progress);
+    }
+
+    public void progress(Integer videoIdx, FfmpegProgressSample sample) {
+        EncodingProgress progress = progresses.get(videoIdx);
+        if (progress == null) {
+            return;
+        }
+        progress.update(sample);
+        if (sample.end()) {
+            speedSummary.record(sample.speed());
+            push(progress);
+        } else if (progress.shouldPush(TimeUnit.MILLISECONDS.toNanos(pushIntervalMillis))) {
+            send(progress);
+        }
+    }
+
+    public void finish(Integer videoIdx, boolean success) {
+        EncodingProgress progress = progresses.remove(videoIdx);
+        if (progress == null) {
+            return;
+        }
+        recordStageDuration(progress.getStage(), progress.moveTo(success ? EncodingStage.COMPLETED : EncodingStage.FAILED));
+        push(progress);
+    }
+
+    // ===== ===== //
+    private void recordStageDuration(EncodingStage stage, long elapsedNanos) {
+        if (stage == EncodingStage.QUEUED) {
+            return; // 대기 시간은 encoding.queue.wait 로 따로 기록
+        }
+        Timer.builder("encoding.stage.duration")
+                .tag("stage", stage.name())
+                .register(meterRegistry)
+                .record(elapsedNanos, TimeUnit.NANOSECONDS);
+    }
+
+    // 단계 변경은 간격과 상관없이 바로 보낸다
+    private void push(EncodingProgress progress) {
+        progress.markPushed();
+        send(progress);
+    }
+
+    private void send(EncodingProgress progress) {
+        if (progress.getMemberIdx() == null) {
+            return;
+        }
+        try {
+            messagingTemplate.convertAndSendToUser(
+                    progress.getMemberIdx().toString(),
+                    USER_DESTINATION,
+                    EncodingProgressEventDto.of(progress.getVideoIdx(), progress.getStage(), progress.getLastSample())
+            );
+        } catch (Exception e) {
+            log.warn("인코딩 진행률 전송 실패 - videoIdx: {}", progress.getVideoIdx(), e);
+        }
+    }
+}
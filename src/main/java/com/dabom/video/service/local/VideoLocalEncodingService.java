@@ -1,34 +1,59 @@
 package com.dabom.video.service.local;
 
 import com.dabom.video.model.Video;
+import com.dabom.video.model.VideoStatus;
 import com.dabom.video.repository.VideoRepository;
+import com.dabom.video.service.VideoEncodingService;
 import com.dabom.video.service.utils.FfmpegEncoder;
+import com.dabom.video.service.utils.FfmpegProgressListener;
+import com.dabom.video.service.utils.FfprobeClient;
+import com.dabom.video.service.utils.HlsOutput;
+import com.dabom.video.service.utils.MediaInfo;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
 
 import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.stream.Stream;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
-public class VideoLocalEncodingService {
+public class VideoLocalEncodingService implements VideoEncodingService {
 
     private final VideoRepository videoRepository;
     private final FfmpegEncoder ffmpegEncoder;
+    private final FfprobeClient ffprobeClient;
 
-    @Async("ffmpegExecutor")
+    @Override
     public void encode(Integer videoIdx) throws IOException {
         Video video = videoRepository.findById(videoIdx)
-                .orElseThrow();
+                .orElseThrow(() -> new IOException("존재하지 않는 비디오입니다: " + videoIdx));
 
-        String encodedPath = ffmpegEncoder.encode(video.getOriginalPath());
-        String webPath = encodedPath + "/" + "index.m3u8";
+        MediaInfo mediaInfo = ffprobeClient.inspect(video.getOriginalPath());
+        video.updateMediaInfo(mediaInfo.durationSeconds(), mediaInfo.videoCodec(), mediaInfo.audioCodec(),
+                mediaInfo.width(), mediaInfo.height(), mediaInfo.bitrate(), mediaInfo.keyframeIntervalSeconds());
+
+        HlsOutput hlsOutput = ffmpegEncoder.encode(video.getOriginalPath(), ffmpegEncoder.plan(mediaInfo),
+                FfmpegProgressListener.NONE);
+        String webPath = hlsOutput.directory() + "/" + hlsOutput.playlistFileName();
         String finalWebPath = webPath.replaceFirst("^videos/", "/hls/");
 
         video.updateSavedPath(finalWebPath);
+        video.updateSavedSize(directorySize(Paths.get(hlsOutput.directory())));
+        video.updateVideoStatus(VideoStatus.ENCODED);
         log.info("saved path={}", finalWebPath);
         videoRepository.save(video); // TODO: Manager
     }
-}
\ No newline at end of file
+
+    private long directorySize(Path directory) throws IOException {
+        try (Stream<Path> files = Files.walk(directory)) {
+            return files.filter(Files::isRegularFile)
+                    .mapToLong(file -> file.toFile().length())
+                    .sum();
+        }
+    }
+}
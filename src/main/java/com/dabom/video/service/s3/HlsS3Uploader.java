@@ -0,0 +1,129 @@
+package com.dabom.video.service.s3;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.Delete;
+import software.amazon.awssdk.services.s3.model.DeleteObjectsRequest;
+import software.amazon.awssdk.services.s3.model.ListObjectsV2Request;
+import software.amazon.awssdk.services.s3.model.ObjectIdentifier;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.S3Object;
+
+import java.nio.file.Path;
+import java.util.List;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class HlsS3Uploader {
+
+    private static final int DELETE_BATCH_SIZE = 1000; // DeleteObjects 한 번에 지울 수 있는 최대 개수
+    private static final long RETRY_BASE_DELAY_MILLIS = 200;
+
+    @Value("${spring.cloud.aws.s3.bucket}")
+    private String bucketName;
+
+    @Value("${file.ffmpeg.upload.parallelism}")
+    private int parallelism;
+
+    @Value("${file.ffmpeg.upload.max-attempts}")
+    private int maxAttempts;
+
+    private final S3Client s3Client;
+    private final ThreadPoolTaskExecutor s3UploadExecutor;
+
+    public HlsUploadBatch newBatch() {
+        return new HlsUploadBatch(this, s3UploadExecutor, parallelism);
+    }
+
+    // 세그먼트 단위 재시도 (200ms, 400ms, 800ms ...)
+    public void uploadWithRetry(Path localFile, String s3Key) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                upload(localFile, s3Key);
+                return;
+            } catch (RuntimeException e) {
+                if (attempt >= maxAttempts) {
+                    throw e;
+                }
+                log.warn("S3 업로드 재시도 ({}/{}): {}", attempt, maxAttempts, s3Key);
+                sleep(RETRY_BASE_DELAY_MILLIS << (attempt - 1));
+            }
+        }
+    }
+
+    public void upload(Path localFile, String s3Key) {
+        try {
+            PutObjectRequest putRequest = PutObjectRequest.builder()
+                    .bucket(bucketName)
+                    .key(s3Key)
+                    .contentType(getContentType(s3Key))
+                    .cacheControl(getCacheControl(s3Key))
+                    .build();
+
+            s3Client.putObject(putRequest, RequestBody.fromFile(localFile));
+        } catch (Exception e) {
+            log.error("S3 개별 파일 업로드 실패: {}", localFile, e);
+            throw new RuntimeException("S3 업로드 실패: " + localFile, e);
+        }
+    }
+
+    // 업로드가 끝난 뒤 prefix 아래 전체 크기 (Video.savedSize)
+    public long totalSize(String s3Prefix) {
+        ListObjectsV2Request request = ListObjectsV2Request.builder()
+                .bucket(bucketName)
+                .prefix(s3Prefix)
+                .build();
+        return s3Client.listObjectsV2Paginator(request).contents().stream()
+                .mapToLong(S3Object::size)
+                .sum();
+    }
+
+    public void deleteAll(List<String> s3Keys) {
+        for (int from = 0; from < s3Keys.size(); from += DELETE_BATCH_SIZE) {
+            List<ObjectIdentifier> objects = s3Keys.subList(from, Math.min(from + DELETE_BATCH_SIZE, s3Keys.size()))
+                    .stream()
+                    .map(key -> ObjectIdentifier.builder().key(key).build())
+                    .toList();
+            try {
+                s3Client.deleteObjects(DeleteObjectsRequest.builder()
+                        .bucket(bucketName)
+                        .delete(Delete.builder().objects(objects).quiet(true).build())
+                        .build());
+            } catch (Exception e) {
+                log.error("S3 파일 일괄 삭제 실패 - {}개", objects.size(), e);
+            }
+        }
+    }
+
+    private String getContentType(String fileName) {
+        if (fileName.endsWith(".m3u8")) {
+            return "application/vnd.apple.mpegurl";
+        } else if (fileName.endsWith(".ts")) {
+            return "video/mp2t";
+        }
+        return "application/octet-stream";
+    }
+
+    // 인코딩 중 갱신되는 플레이리스트는 캐시되면 안 되고, 세그먼트는 한 번 쓰이면 바뀌지 않는다
+    private String getCacheControl(String fileName) {
+        if (fileName.endsWith(".m3u8")) {
+            return "no-cache";
+        }
+        return "public, max-age=31536000, immutable";
+    }
+
+    private void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("S3 업로드 재시도 대기 중단", e);
+        }
+    }
+}
@@ -0,0 +1,174 @@
+package com.dabom.video.service.s3;
+
+import com.dabom.video.service.utils.FfmpegProcess;
+import com.dabom.video.service.utils.HlsOutput;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.*;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import static java.nio.file.StandardWatchEventKinds.*;
+
+// ffmpeg 가 인코딩하는 동안 완성된 세그먼트를 바로 S3 에 올리고,
+// 플레이리스트는 참조하는 세그먼트가 모두 올라간 뒤에만 갱신(publish)한다.
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class HlsSegmentStreamer {
+
+    private static final long WATCH_POLL_MILLIS = 500;
+    private static final String TEMP_FILE_SUFFIX = ".tmp";
+
+    private final HlsS3Uploader hlsS3Uploader;
+
+    public HlsOutput stream(FfmpegProcess ffmpegProcess, String s3Prefix, Runnable onFirstPublish) throws IOException {
+        HlsUploadBatch batch = hlsS3Uploader.newBatch();
+        StreamingSession session = new StreamingSession(ffmpegProcess, batch, s3Prefix, onFirstPublish);
+
+        try (WatchService watchService = FileSystems.getDefault().newWatchService()) {
+            ffmpegProcess.getEncodingDir().register(watchService, ENTRY_CREATE, ENTRY_MODIFY);
+
+            while (ffmpegProcess.isAlive()) {
+                WatchKey key = watchService.poll(WATCH_POLL_MILLIS, TimeUnit.MILLISECONDS);
+                if (key == null) {
+                    continue;
+                }
+                for (WatchEvent<?> event : key.pollEvents()) {
+                    if (event.kind() == OVERFLOW) {
+                        session.publishTopPlaylist(false);
+                        continue;
+                    }
+                    session.handle((Path) event.context());
+                }
+                key.reset();
+            }
+        } catch (InterruptedException e) {
+            abort(ffmpegProcess, batch);
+            Thread.currentThread().interrupt();
+            throw new IOException("HLS 스트리밍 업로드 중단", e);
+        } catch (IOException | RuntimeException e) {
+            abort(ffmpegProcess, batch);
+            throw new IOException("HLS 스트리밍 업로드 실패", e);
+        }
+
+        HlsOutput output;
+        try {
+            output = ffmpegProcess.await();
+
+            // 남은 세그먼트와 #EXT-X-ENDLIST 가 붙은 최종 플레이리스트를 마지막으로 올린다
+            session.publishTopPlaylist(true);
+            batch.awaitAll();
+        } catch (IOException | RuntimeException e) {
+            abort(ffmpegProcess, batch);
+            throw new IOException("HLS 최종 플레이리스트 업로드 실패", e);
+        }
+        log.info("HLS 스트리밍 업로드 완료 - 세그먼트: {}개", session.submittedSegments.size());
+        return output;
+    }
+
+    // 일부만 올라간 결과가 남지 않도록 업로드한 파일을 모두 지운다
+    private void abort(FfmpegProcess ffmpegProcess, HlsUploadBatch batch) {
+        ffmpegProcess.destroy();
+        batch.abort();
+    }
+
+    private class StreamingSession {
+
+        private final Path encodingDir;
+        private final HlsUploadBatch batch;
+        private final String topPlaylist;
+        private final String s3Prefix;
+        private final Runnable onFirstPublish;
+
+        private final Set<String> submittedSegments = new HashSet<>();
+        private final Set<String> publishedPlaylists = new HashSet<>();
+        private boolean firstPublished = false;
+
+        private StreamingSession(FfmpegProcess ffmpegProcess, HlsUploadBatch batch, String s3Prefix, Runnable onFirstPublish) {
+            this.encodingDir = ffmpegProcess.getEncodingDir();
+            this.batch = batch;
+            this.topPlaylist = ffmpegProcess.getPlaylistFileName();
+            this.s3Prefix = s3Prefix;
+            this.onFirstPublish = onFirstPublish;
+        }
+
+        private void handle(Path fileName) throws IOException {
+            String name = fileName.toString();
+            if (name.endsWith(TEMP_FILE_SUFFIX)) {
+                return; // 아직 쓰는 중인 파일
+            }
+            if (name.endsWith(".ts")) {
+                uploadSegment(name);
+            } else if (name.endsWith(".m3u8")) {
+                publishPlaylist(name, false);
+            }
+        }
+
+        private void publishTopPlaylist(boolean force) throws IOException {
+            publishPlaylist(topPlaylist, force);
+        }
+
+        // force=true 이면 하위 플레이리스트도 다시 올린다 (최종 버전 반영)
+        // 세그먼트는 병렬로 올라가므로, 플레이리스트는 참조하는 세그먼트의 업로드가 끝날 때까지 기다린 뒤 올린다
+        private void publishPlaylist(String name, boolean force) throws IOException {
+            Path playlist = encodingDir.resolve(name);
+            if (!Files.exists(playlist)) {
+                return;
+            }
+
+            List<String> lines = readPlaylist(playlist);
+            for (String line : lines) {
+                if (line.isBlank() || line.startsWith("#")) {
+                    continue;
+                }
+                if (line.endsWith(".m3u8")) {
+                    if (!Files.exists(encodingDir.resolve(line))) {
+                        return; // 아직 생성되지 않은 화질이 있으면 master 는 다음 기회에 올린다
+                    }
+                    if (force || !publishedPlaylists.contains(line)) {
+                        publishPlaylist(line, force);
+                    }
+                } else {
+                    uploadSegment(line);
+                    batch.await(s3Prefix + line);
+                }
+            }
+
+            batch.uploadNow(playlist, s3Prefix + name);
+            publishedPlaylists.add(name);
+
+            if (name.equals(topPlaylist) && !firstPublished) {
+                firstPublished = true;
+                onFirstPublish.run();
+            }
+        }
+
+        private void uploadSegment(String name) throws IOException {
+            if (submittedSegments.contains(name)) {
+                return;
+            }
+            Path segment = encodingDir.resolve(name);
+            if (!Files.exists(segment)) {
+                return;
+            }
+
+            // 업로드한 세그먼트는 바로 지워 디스크 사용량을 줄인다
+            batch.submit(segment, s3Prefix + name, true);
+            submittedSegments.add(name);
+        }
+
+        private List<String> readPlaylist(Path playlist) {
+            try {
+                return Files.readAllLines(playlist);
+            } catch (IOException e) {
+                throw new RuntimeException("플레이리스트 읽기 실패: " + playlist, e);
+            }
+        }
+    }
+}
@@ -0,0 +1,164 @@
+package com.dabom.video.service.s3;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Semaphore;
+
+// 인코딩 작업 하나의 S3 업로드 묶음.
+// 동시에 parallelism 개까지만 업로드하고, 하나라도 실패하면 abort() 로 올린 파일을 모두 지운다.
+@Slf4j
+public class HlsUploadBatch {
+
+    private final HlsS3Uploader uploader;
+    private final Executor executor;
+    private final Semaphore permits;
+
+    private final Map<String, CompletableFuture<Void>> uploads = new ConcurrentHashMap<>();
+    // abort() 는 whenComplete 로 이은 future 가 아니라 실제 업로드 future 가 끝나길 기다려야 한다
+    private final List<CompletableFuture<Void>> rawUploads = new CopyOnWriteArrayList<>();
+    private final Set<String> uploadedKeys = ConcurrentHashMap.newKeySet();
+    private volatile Throwable failure;
+    private volatile boolean aborted;
+
+    HlsUploadBatch(HlsS3Uploader uploader, Executor executor, int parallelism) {
+        this.uploader = uploader;
+        this.executor = executor;
+        this.permits = new Semaphore(parallelism);
+    }
+
+    // 동시 업로드 수가 가득 차면 빈 자리가 날 때까지 호출 스레드가 기다린다 (backpressure)
+    public void submit(Path localFile, String s3Key, boolean deleteAfterUpload) throws IOException {
+        throwIfFailed();
+        try {
+            permits.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("S3 업로드 대기 중단", e);
+        }
+
+        CompletableFuture<Void> future;
+        try {
+            future = CompletableFuture.runAsync(() -> {
+                if (aborted) {
+                    // 롤백이 시작된 뒤 차례가 온 업로드는 올리지 않는다
+                    return;
+                }
+                uploader.uploadWithRetry(localFile, s3Key);
+                recordUploaded(s3Key);
+                if (deleteAfterUpload) {
+                    deleteQuietly(localFile);
+                }
+            }, executor);
+        } catch (RuntimeException e) {
+            permits.release();
+            throw new IOException("S3 업로드 작업 등록 실패: " + s3Key, e);
+        }
+
+        rawUploads.add(future);
+        uploads.put(s3Key, future.whenComplete((result, e) -> {
+            permits.release();
+            if (e != null && failure == null) {
+                failure = e;
+            }
+        }));
+    }
+
+    // 플레이리스트처럼 순서가 중요한 파일은 호출 스레드에서 바로 올린다
+    public void uploadNow(Path localFile, String s3Key) throws IOException {
+        throwIfFailed();
+        try {
+            uploader.uploadWithRetry(localFile, s3Key);
+            recordUploaded(s3Key);
+        } catch (RuntimeException e) {
+            failure = e;
+            throw new IOException("S3 업로드 실패: " + s3Key, e);
+        }
+    }
+
+    public void await(String s3Key) throws IOException {
+        CompletableFuture<Void> future = uploads.get(s3Key);
+        if (future != null) {
+            join(future);
+        }
+    }
+
+    public void awaitAll() throws IOException {
+        join(CompletableFuture.allOf(uploads.values().toArray(new CompletableFuture[0])));
+    }
+
+    // 진행 중인 업로드가 실제로 끝나길 기다린 뒤(실패는 무시), 이미 올라간 파일을 모두 삭제한다.
+    // 그 뒤에 끝나는 업로드는 recordUploaded 에서 바로 지운다
+    public void abort() {
+        aborted = true;
+        if (failure == null) {
+            failure = new IOException("S3 업로드 롤백됨");
+        }
+        CompletableFuture.allOf(rawUploads.toArray(new CompletableFuture[0]))
+                .handle((result, e) -> null)
+                .join();
+
+        List<String> keys;
+        synchronized (uploadedKeys) {
+            keys = new ArrayList<>(uploadedKeys);
+            uploadedKeys.clear();
+        }
+        uploader.deleteAll(keys);
+        log.warn("S3 업로드 롤백 - 삭제한 파일: {}개", keys.size());
+    }
+
+    public int uploadedCount() {
+        return uploadedKeys.size();
+    }
+
+    public List<String> uploadedKeys() {
+        return List.copyOf(uploadedKeys);
+    }
+
+    // ===== ===== //
+    private void recordUploaded(String s3Key) {
+        synchronized (uploadedKeys) {
+            if (!aborted) {
+                uploadedKeys.add(s3Key);
+                return;
+            }
+        }
+        uploader.deleteAll(List.of(s3Key));
+    }
+
+    private void join(CompletableFuture<?> future) throws IOException {
+        try {
+            future.join();
+        } catch (CompletionException e) {
+            throw new IOException("S3 업로드 실패", e.getCause());
+        } catch (RuntimeException e) {
+            throw new IOException("S3 업로드 실패", e);
+        }
+        throwIfFailed();
+    }
+
+    private void throwIfFailed() throws IOException {
+        if (failure != null) {
+            throw new IOException("S3 업로드 실패", failure);
+        }
+    }
+
+    private void deleteQuietly(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            log.warn("업로드한 파일 삭제 실패: {}", file, e);
+        }
+    }
+}
@@ -0,0 +1,131 @@
+package com.dabom.video.service.s3;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.HeadObjectRequest;
+import software.amazon.awssdk.services.s3.model.NoSuchKeyException;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Set;
+
+// S3 원본을 ffmpeg 가 직접 읽을 수 있는지 (다운로드 없이 스트리밍 가능한지) 판단하고 presigned GET URL 을 만든다
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class S3OriginalSource {
+
+    private static final int MAX_TOP_LEVEL_BOXES = 16;
+    private static final int BOX_HEADER_SIZE = 16; // size(4) + type(4) + largesize(8)
+    private static final int PROBE_SIZE = 376;     // MPEG-TS 패킷 2개
+    private static final Set<String> ISO_BMFF_TOP_BOXES = Set.of("ftyp", "moov", "mdat", "free", "skip", "wide", "uuid");
+
+    @Value("${spring.cloud.aws.s3.bucket}")
+    private String bucketName;
+
+    @Value("${file.ffmpeg.source.presigned-url-minutes}")
+    private long presignedUrlMinutes;
+
+    private final S3Client s3Client;
+    private final S3Presigner s3Presigner;
+
+    public long contentLength(String s3Key) {
+        try {
+            return s3Client.headObject(HeadObjectRequest.builder()
+                    .bucket(bucketName)
+                    .key(s3Key)
+                    .build()).contentLength();
+        } catch (NoSuchKeyException e) {
+            throw new IllegalArgumentException("S3에 파일이 존재하지 않습니다: " + s3Key);
+        }
+    }
+
+    // ffmpeg 는 HTTP 입력을 바로 디코딩하지만, moov 가 파일 끝에 있는 MP4 는
+    // 끝까지 Range 요청으로 왕복해야 하므로 임시 파일로 받는 편이 낫다
+    public boolean isStreamable(String s3Key, long contentLength) {
+        byte[] head = readRange(s3Key, 0, Math.min(PROBE_SIZE, contentLength));
+        if (head.length < 8) {
+            return false;
+        }
+
+        if (isMatroska(head) || isMpegTs(head)) {
+            return true;
+        }
+        if (ISO_BMFF_TOP_BOXES.contains(boxType(head, 0))) {
+            return isMoovBeforeMdat(s3Key, contentLength);
+        }
+        return false; // 판단할 수 없는 컨테이너는 안전하게 다운로드
+    }
+
+    public String presignedUrl(String s3Key) {
+        return s3Presigner.presignGetObject(r -> r
+                .signatureDuration(Duration.ofMinutes(presignedUrlMinutes))
+                .getObjectRequest(GetObjectRequest.builder()
+                        .bucket(bucketName)
+                        .key(s3Key)
+                        .build())
+        ).url().toString();
+    }
+
+    // ===== ===== //
+    // 최상위 box 헤더만 Range 요청으로 건너뛰며 moov / mdat 중 무엇이 먼저 나오는지 확인한다
+    private boolean isMoovBeforeMdat(String s3Key, long contentLength) {
+        long offset = 0;
+        for (int i = 0; i < MAX_TOP_LEVEL_BOXES && offset + 8 <= contentLength; i++) {
+            byte[] header = readRange(s3Key, offset, Math.min(BOX_HEADER_SIZE, contentLength - offset));
+            if (header.length < 8) {
+                return false;
+            }
+
+            String type = boxType(header, 0);
+            if ("moov".equals(type)) {
+                return true;
+            }
+            if ("mdat".equals(type)) {
+                log.info("moov 가 파일 뒤쪽에 있는 MP4 - 임시 파일로 다운로드: {}", s3Key);
+                return false;
+            }
+
+            long size = Integer.toUnsignedLong(ByteBuffer.wrap(header, 0, 4).getInt());
+            if (size == 1 && header.length >= 16) {
+                size = ByteBuffer.wrap(header, 8, 8).getLong();
+            }
+            if (size < 8) {
+                return false; // size 0 (파일 끝까지) 이거나 깨진 box
+            }
+            offset += size;
+        }
+        return false;
+    }
+
+    private byte[] readRange(String s3Key, long from, long length) {
+        if (length <= 0) {
+            return new byte[0];
+        }
+        GetObjectRequest request = GetObjectRequest.builder()
+                .bucket(bucketName)
+                .key(s3Key)
+                .range("bytes=" + from + "-" + (from + length - 1))
+                .build();
+        return s3Client.getObjectAsBytes(request).asByteArray();
+    }
+
+    private String boxType(byte[] bytes, int offset) {
+        return new String(bytes, offset + 4, 4, StandardCharsets.US_ASCII);
+    }
+
+    private boolean isMatroska(byte[] head) {
+        return (head[0] & 0xFF) == 0x1A && (head[1] & 0xFF) == 0x45
+                && (head[2] & 0xFF) == 0xDF && (head[3] & 0xFF) == 0xA3;
+    }
+
+    private boolean isMpegTs(byte[] head) {
+        return head.length >= PROBE_SIZE && head[0] == 0x47 && head[188] == 0x47;
+    }
+}
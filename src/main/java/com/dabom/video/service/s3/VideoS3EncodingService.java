@@ -1,20 +1,28 @@
 package com.dabom.video.service.s3;
 
+import com.dabom.video.model.EncodingStage;
 import com.dabom.video.model.Video;
 import com.dabom.video.model.VideoStatus;
 import com.dabom.video.repository.VideoRepository;
+import com.dabom.video.service.VideoEncodingService;
+import com.dabom.video.service.encoding.EncodingProgressTracker;
+import com.dabom.video.service.utils.ChunkedFfmpegEncoder;
+import com.dabom.video.service.utils.EncodingChunk;
+import com.dabom.video.service.utils.EncodingPlan;
 import com.dabom.video.service.utils.FfmpegEncoder;
+import com.dabom.video.service.utils.FfmpegProcess;
+import com.dabom.video.service.utils.FfprobeClient;
+import com.dabom.video.service.utils.HlsOutput;
+import com.dabom.video.service.utils.MediaInfo;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.scheduling.annotation.Async;
+import org.springframework.context.annotation.Primary;
 import org.springframework.stereotype.Service;
-import software.amazon.awssdk.core.sync.RequestBody;
 import software.amazon.awssdk.services.s3.S3Client;
 import software.amazon.awssdk.services.s3.model.GetObjectRequest;
 import software.amazon.awssdk.services.s3.model.HeadObjectRequest;
 import software.amazon.awssdk.services.s3.model.NoSuchKeyException;
-import software.amazon.awssdk.services.s3.model.PutObjectRequest;
 
 import java.io.*;
 import java.nio.file.Files;
@@ -23,13 +31,16 @@ import java.nio.file.Paths;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
 import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
 import java.util.UUID;
 import java.util.stream.Stream;
 
 @Slf4j
+@Primary
 @Service
 @RequiredArgsConstructor
-public class VideoS3EncodingService {
+public class VideoS3EncodingService implements VideoEncodingService {
 
     private static final String TEMP_DOWNLOAD_DIR = "temp/";
     private static final String VIDEO_HLS_PATH = "videos/hls/";
@@ -40,35 +51,78 @@ public class VideoS3EncodingService {
     private final VideoRepository videoRepository;
     private final FfmpegEncoder ffmpegEncoder;
     private final S3Client s3Client;
+    private final HlsS3Uploader hlsS3Uploader;
+    private final HlsSegmentStreamer hlsSegmentStreamer;
+    private final S3OriginalSource s3OriginalSource;
+    private final EncodingProgressTracker encodingProgressTracker;
+    private final ChunkedFfmpegEncoder chunkedFfmpegEncoder;
+    private final FfprobeClient ffprobeClient;
 
-    @Async("ffmpegExecutor")
-    public void encode(Integer videoIdx) {
+    @Value("${file.ffmpeg.hls.streaming-upload}")
+    private boolean streamingUpload;
+
+    @Value("${file.ffmpeg.source.mode}")
+    private String sourceMode; // auto | stream | download
+
+    @Override
+    public void encode(Integer videoIdx) throws IOException {
         log.info("===== Video S3 인코딩 시작 - videoIdx: {} =====", videoIdx);
 
+        String downloadPath = null;
+        HlsOutput hlsOutput = null;
+        Video video = null;
+        String previousSavedPath = null;
         try {
             // 1. Video Entity 조회
-            Video video = getVideoEntity(videoIdx);
+            video = getVideoEntity(videoIdx);
+            previousSavedPath = video.getSavedPath();
 
-            // 2. S3에서 원본 파일 다운로드
-            String downloadPath = downloadOriginalFromS3(video);
+            // 2. 원본 입력 준비 (스트리밍 가능한 원본은 presigned URL 로 바로 읽고, 아니면 임시 파일로 다운로드)
+            if (!shouldStreamOriginal(video)) {
+                encodingProgressTracker.stage(videoIdx, EncodingStage.DOWNLOADING);
+                downloadPath = downloadOriginalFromS3(video);
+            }
+            String input = downloadPath != null ? downloadPath : s3OriginalSource.presignedUrl(video.getOriginalPath());
 
-            // 3. ffmpeg 인코딩 수행
-            String encodingDir = ffmpegEncoding(downloadPath);
+            // 2-1. 원본 검사 후 가장 싼 인코딩 방식 선택 (remux / 음성만 변환 / 전체 사다리)
+            MediaInfo mediaInfo = inspectOriginal(video, input);
+            EncodingPlan plan = ffmpegEncoder.plan(mediaInfo);
+            log.info("인코딩 방식 선택 - videoIdx: {}, {}", videoIdx, plan.pipeline());
 
-            // 4. 인코딩된 파일들을 S3에 업로드
-            String s3EncodedPath = uploadEncodedFilesToS3(encodingDir);
+            // 긴 영상은 키프레임 경계로 나눠 병렬 인코딩한다 (세그먼트가 순서대로 나오지 않아 스트리밍 업로드와는 같이 쓰지 않는다)
+            List<EncodingChunk> chunks = chunkedFfmpegEncoder.plan(input, plan, mediaInfo);
 
-            // 5. Video Entity 업데이트
-            updateVideoEntity(video, s3EncodedPath);
+            String s3PrefixPath = generateS3UploadPathPrefix();
+            if (streamingUpload && chunks.isEmpty()) {
+                // 3~4. 인코딩하면서 완성된 세그먼트부터 S3에 업로드
+                hlsOutput = ffmpegEncodingWithStreamingUpload(video, input, plan, s3PrefixPath);
+            } else {
+                // 3. ffmpeg 인코딩 수행
+                hlsOutput = chunks.isEmpty()
+                        ? ffmpegEncoding(videoIdx, input, plan)
+                        : ffmpegChunkedEncoding(videoIdx, input, plan, chunks);
+
+                // 4. 인코딩된 파일들을 S3에 업로드
+                encodingProgressTracker.stage(videoIdx, EncodingStage.UPLOADING);
+                uploadEncodedFilesToS3(hlsOutput, s3PrefixPath);
+            }
 
-            // 6. 로컬 임시 파일 정리
-            cleanupLocalFiles(downloadPath, encodingDir);
+            // 5. Video Entity 업데이트 (메인 플레이리스트 master.m3u8 또는 index.m3u8)
+            updateVideoEntity(video, s3PrefixPath + hlsOutput.playlistFileName(), hlsS3Uploader.totalSize(s3PrefixPath));
 
             log.info("===== Video S3 인코딩 완료 ===== - videoIdx: {} ", videoIdx);
 
+        } catch (IOException e) {
+            log.error("Video S3 인코딩 실패 - videoIdx: {}", videoIdx, e);
+            revertSavedPath(video, previousSavedPath);
+            throw e;
         } catch (Exception e) {
             log.error("Video S3 인코딩 실패 - videoIdx: {}", videoIdx, e);
-            updateVideoEntityToFailed(videoIdx);
+            revertSavedPath(video, previousSavedPath);
+            throw new IOException("Video S3 인코딩 실패 - videoIdx: " + videoIdx, e);
+        } finally {
+            // 6. 로컬 임시 파일 정리 (재시도 시 디스크가 쌓이지 않도록 실패해도 정리)
+            cleanupLocalFiles(downloadPath, hlsOutput != null ? hlsOutput.directory() : null);
         }
     }
 
@@ -79,7 +133,29 @@ public class VideoS3EncodingService {
                 .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 비디오입니다: " + videoIdx));
     }
 
-    // ===== 2단계: S3에서 원본 파일 다운로드 =====
+    // ===== 2단계: S3 원본 입력 준비 =====
+    private boolean shouldStreamOriginal(Video video) {
+        String s3Key = video.getOriginalPath();
+        if ("download".equalsIgnoreCase(sourceMode)) {
+            return false;
+        }
+
+        try {
+            long contentLength = s3OriginalSource.contentLength(s3Key);
+            boolean streamable = "stream".equalsIgnoreCase(sourceMode)
+                    || s3OriginalSource.isStreamable(s3Key, contentLength);
+            log.info("##### 2. S3 원본 입력 방식 ##### -> {} ({} bytes, {})",
+                    s3Key, contentLength, streamable ? "스트리밍" : "다운로드");
+            return streamable;
+        } catch (IllegalArgumentException e) {
+            throw e;
+        } catch (Exception e) {
+            // 헤더 확인에 실패하면 기존 방식(다운로드)으로 처리한다
+            log.warn("S3 원본 스트리밍 가능 여부 확인 실패, 다운로드로 진행: {}", s3Key, e);
+            return false;
+        }
+    }
+
     private String downloadOriginalFromS3(Video video) throws IOException {
         String s3Key = video.getOriginalPath();
         log.info("##### 2. S3 원본 영상 다운로드 ##### -> {} ", s3Key);
@@ -163,26 +239,84 @@ public class VideoS3EncodingService {
         }
     }
 
+    // ===== 2-1단계: 원본 검사 =====
+    private MediaInfo inspectOriginal(Video video, String input) throws IOException {
+        log.info("##### 2-1. 원본 검사 (ffprobe) #####");
+        encodingProgressTracker.stage(video.getIdx(), EncodingStage.INSPECTING);
+
+        MediaInfo mediaInfo = ffprobeClient.inspect(input);
+        video.updateMediaInfo(
+                mediaInfo.durationSeconds(),
+                mediaInfo.videoCodec(),
+                mediaInfo.audioCodec(),
+                mediaInfo.width(),
+                mediaInfo.height(),
+                mediaInfo.bitrate(),
+                mediaInfo.keyframeIntervalSeconds()
+        );
+        videoRepository.save(video);
+        log.info("원본 정보 - {}", mediaInfo);
+        return mediaInfo;
+    }
+
     // ===== 3단계: ffmpeg 인코딩 수행 =====
-    private String ffmpegEncoding(String downloadPath) throws IOException, InterruptedException {
-        log.info("##### 3. ffmpeg 인코딩 시작 ##### -> {} ", downloadPath);
-        return ffmpegEncoder.encode(downloadPath);
+    // input 은 로컬 경로 또는 presigned URL (서명이 로그에 남지 않도록 로그에는 찍지 않는다)
+    private HlsOutput ffmpegEncoding(Integer videoIdx, String input, EncodingPlan plan) throws IOException {
+        log.info("##### 3. ffmpeg 인코딩 시작 #####");
+        encodingProgressTracker.stage(videoIdx, EncodingStage.ENCODING);
+        return ffmpegEncoder.encode(input, plan, sample -> encodingProgressTracker.progress(videoIdx, sample));
+    }
+
+    private HlsOutput ffmpegChunkedEncoding(Integer videoIdx, String input, EncodingPlan plan,
+                                            List<EncodingChunk> chunks) throws IOException {
+        log.info("##### 3. ffmpeg 청크 병렬 인코딩 시작 ##### -> 청크: {}개", chunks.size());
+        encodingProgressTracker.stage(videoIdx, EncodingStage.ENCODING);
+        return chunkedFfmpegEncoder.encode(input, plan, chunks,
+                sample -> encodingProgressTracker.progress(videoIdx, sample));
+    }
+
+    private HlsOutput ffmpegEncodingWithStreamingUpload(Video video, String input, EncodingPlan plan,
+                                                        String s3PrefixPath) throws IOException {
+        log.info("##### 3~4. ffmpeg 인코딩 + 세그먼트 스트리밍 업로드 #####");
+        encodingProgressTracker.stage(video.getIdx(), EncodingStage.ENCODING);
+        FfmpegProcess ffmpegProcess = ffmpegEncoder.start(input, plan, true,
+                sample -> encodingProgressTracker.progress(video.getIdx(), sample));
+
+        // 첫 플레이리스트가 올라가는 순간부터 인코딩이 끝나기 전에도 재생할 수 있다
+        String playlistPath = s3PrefixPath + ffmpegProcess.getPlaylistFileName();
+        return hlsSegmentStreamer.stream(ffmpegProcess, s3PrefixPath, () -> publishSavedPath(video, playlistPath));
+    }
+
+    private void publishSavedPath(Video video, String s3PlaylistPath) {
+        video.updateSavedPath(s3PlaylistPath);
+        videoRepository.save(video);
+        log.info("인코딩 중 플레이리스트 공개 - savedPath: {}", s3PlaylistPath);
+    }
+
+    // 인코딩 중에 공개한 플레이리스트는 실패하면 업로드 배치가 지우므로, savedPath 를 인코딩 전 값으로 되돌린다
+    private void revertSavedPath(Video video, String previousSavedPath) {
+        if (video == null || Objects.equals(video.getSavedPath(), previousSavedPath)) {
+            return;
+        }
+        try {
+            video.updateSavedPath(previousSavedPath);
+            videoRepository.save(video);
+            log.info("인코딩 실패로 savedPath 복구 - videoIdx: {}, savedPath: {}", video.getIdx(), previousSavedPath);
+        } catch (Exception e) {
+            // 원래 실패 원인을 가리지 않도록 복구 실패는 로그만 남긴다
+            log.warn("savedPath 복구 실패 - videoIdx: {}", video.getIdx(), e);
+        }
     }
 
     // ===== 4단계: 인코딩된 파일들 S3 업로드 =====
-    private String uploadEncodedFilesToS3(String localEncodingDir) throws IOException {
+    private void uploadEncodedFilesToS3(HlsOutput hlsOutput, String s3PrefixPath) throws IOException {
+        String localEncodingDir = hlsOutput.directory();
         log.info("##### 4. 인코딩 파일 S3에 업로드 ##### -> {} ", localEncodingDir);
 
         try {
-            // 1. S3 업로드 경로 생성
-            String s3PrefixPath = generateS3UploadPathPrefix();
-
-            // 2. 로컬 디렉터리의 모든 파일을 S3에 업로드
+            // 로컬 디렉터리의 모든 파일을 S3에 업로드
             uploadDirectoryToS3(localEncodingDir, s3PrefixPath);
 
-            // 3. 메인 플레이리스트(index.m3u8) S3 경로 반환
-            return s3PrefixPath + "index.m3u8";
-
         } catch (Exception e) {
             log.error("S3 업로드 실패: {}", localEncodingDir, e);
             throw new IOException("S3 업로드 실패", e);
@@ -197,62 +331,45 @@ public class VideoS3EncodingService {
         return  VIDEO_HLS_PATH + todayPath + "/" + uuid + "/";
     }
 
+    // 세그먼트를 병렬로 올린 뒤 플레이리스트를 마지막에 올린다.
+    // 하나라도 실패하면 이미 올라간 파일을 지워 절반만 올라간 결과가 남지 않게 한다
     private void uploadDirectoryToS3(String localDir, String s3PrefixPath) throws IOException {
         Path localPath = Paths.get(localDir);
+        HlsUploadBatch batch = hlsS3Uploader.newBatch();
 
+        List<Path> playlists;
         try (Stream<Path> files = Files.walk(localPath)) {
-            files.filter(Files::isRegularFile)
-                    .forEach(file -> uploadSingleFileToS3(file, s3PrefixPath));
-        }
-    }
-
-    private void uploadSingleFileToS3(Path localFile, String s3Prefix) {
-        try {
-            String fileName = localFile.getFileName().toString();
-            String s3Key = s3Prefix + fileName;
-
-            PutObjectRequest putRequest = PutObjectRequest.builder()
-                    .bucket(bucketName)
-                    .key(s3Key)
-                    .contentType(getContentType(fileName))
-                    .build();
-
-            s3Client.putObject(putRequest, RequestBody.fromFile(localFile));
-        } catch (Exception e) {
-            log.error("S3 개별 파일 업로드 실패: {}", localFile, e);
-            throw new RuntimeException("S3 업로드 실패: " + localFile, e);
-        }
-    }
+            List<Path> regularFiles = files.filter(Files::isRegularFile).toList();
+            playlists = regularFiles.stream()
+                    .filter(file -> file.getFileName().toString().endsWith(".m3u8"))
+                    .toList();
+
+            for (Path file : regularFiles) {
+                if (!playlists.contains(file)) {
+                    batch.submit(file, s3PrefixPath + file.getFileName(), false);
+                }
+            }
+            batch.awaitAll();
 
-    private String getContentType(String fileName) {
-        if (fileName.endsWith(".m3u8")) {
-            return "application/vnd.apple.mpegurl";
-        } else if (fileName.endsWith(".ts")) {
-            return "video/mp2t";
+            for (Path playlist : playlists) {
+                batch.uploadNow(playlist, s3PrefixPath + playlist.getFileName());
+            }
+        } catch (IOException | RuntimeException e) {
+            batch.abort();
+            throw e;
         }
-        return "application/octet-stream";
+        log.info("S3 업로드 완료 - 파일: {}개", batch.uploadedCount());
     }
 
     // ===== 5단계: Video Entity 업데이트 =====
-    private void updateVideoEntity(Video video, String s3EncodedPath) {
+    private void updateVideoEntity(Video video, String s3EncodedPath, long savedSize) {
         video.updateSavedPath(s3EncodedPath);
+        video.updateSavedSize(savedSize);
         video.updateVideoStatus(VideoStatus.ENCODED);
         videoRepository.save(video);
         log.info("Video Entity 업데이트 완료 - savedPath: {}", s3EncodedPath);
     }
 
-    private void updateVideoEntityToFailed(Integer videoIdx) {
-        try {
-            Video video = videoRepository.findById(videoIdx).orElse(null);
-            if (video != null) {
-                video.updateVideoStatus(VideoStatus.FAILED);
-                videoRepository.save(video);
-            }
-        } catch (Exception e) {
-            log.error("Video Entity 실패 상태 업데이트 실패: {}", videoIdx, e);
-        }
-    }
-
     // ===== 6단계: 로컬 파일 정리 =====
     private void cleanupLocalFiles(String... paths) {
         for (String path : paths) {
@@ -0,0 +1,116 @@
+package com.dabom.video.service.trending;
+
+import java.util.HashMap;
+import java.util.Map;
+
+// 점수 상위 K 개만 유지하는 최소 힙. 루트가 K 개 중 가장 낮은 점수다.
+// 점수는 늘어나기만 하므로(전방 감쇠) 힙에서 밀려난 영상이 다시 들어와야 할 때는
+// 반드시 offer 로 점수가 갱신되는 순간이고, 그래서 상위 K 개가 정확히 유지된다
+final class TopKHeap {
+
+    private final int capacity;
+    private final int[] ids;
+    private final double[] scores;
+    private final Map<Integer, Integer> positions;
+    private int size;
+
+    TopKHeap(int capacity) {
+        this.capacity = capacity;
+        this.ids = new int[capacity];
+        this.scores = new double[capacity];
+        this.positions = new HashMap<>(capacity * 2);
+    }
+
+    void offer(int videoIdx, double score) {
+        Integer position = positions.get(videoIdx);
+        if (position != null) {
+            scores[position] = score;
+            siftDown(siftUp(position));
+            return;
+        }
+        if (size < capacity) {
+            place(size, videoIdx, score);
+            siftUp(size++);
+            return;
+        }
+        if (score > scores[0]) {
+            positions.remove(ids[0]);
+            place(0, videoIdx, score);
+            siftDown(0);
+        }
+    }
+
+    void remove(int videoIdx) {
+        Integer position = positions.remove(videoIdx);
+        if (position == null) {
+            return;
+        }
+        size--;
+        if (position == size) {
+            return;
+        }
+        place(position, ids[size], scores[size]);
+        siftDown(siftUp(position));
+    }
+
+    void clear() {
+        positions.clear();
+        size = 0;
+    }
+
+    int size() {
+        return size;
+    }
+
+    // 힙 내용을 그대로 복사한다 (정렬되지 않음). 복사한 개수를 돌려준다
+    int copyTo(int[] outIds, double[] outScores) {
+        System.arraycopy(ids, 0, outIds, 0, size);
+        System.arraycopy(scores, 0, outScores, 0, size);
+        return size;
+    }
+
+    // ===== ===== //
+    private void place(int position, int videoIdx, double score) {
+        ids[position] = videoIdx;
+        scores[position] = score;
+        positions.put(videoIdx, position);
+    }
+
+    private int siftUp(int position) {
+        while (position > 0) {
+            int parent = (position - 1) >>> 1;
+            if (scores[parent] <= scores[position]) {
+                break;
+            }
+            swap(parent, position);
+            position = parent;
+        }
+        return position;
+    }
+
+    private void siftDown(int position) {
+        while (true) {
+            int smallest = position;
+            int left = position * 2 + 1;
+            int right = left + 1;
+            if (left < size && scores[left] < scores[smallest]) {
+                smallest = left;
+            }
+            if (right < size && scores[right] < scores[smallest]) {
+                smallest = right;
+            }
+            if (smallest == position) {
+                return;
+            }
+            swap(position, smallest);
+            position = smallest;
+        }
+    }
+
+    private void swap(int a, int b) {
+        int id = ids[a];
+        double score = scores[a];
+        place(a, ids[b], scores[b]);
+        place(b, id, score);
+    }
+}
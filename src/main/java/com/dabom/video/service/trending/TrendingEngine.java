@@ -0,0 +1,214 @@
+package com.dabom.video.service.trending;
+
+import com.dabom.video.model.VideoTag;
+import com.dabom.video.repository.TrendingSnapshotRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+// 조회/평점/댓글 이벤트로 영상별 인기 점수를 메모리에서 계산한다.
+// 점수는 반감기(half-life)로 지수 감쇠하며, 전방 감쇠(forward decay)로 저장한다:
+//   저장 점수 = Σ 가중치 × e^(λ·(이벤트 시각 - 기준 시각))
+// 시간이 흘러도 영상 간 순서가 바뀌지 않으므로 전체 점수를 다시 계산하지 않고
+// 태그별 상위 K 힙만 이벤트마다 갱신하면 된다. 기준 시각은 스냅샷 때마다 현재로 옮긴다
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TrendingEngine {
+
+    private static final VideoTag[] TAGS = VideoTag.values();
+
+    private final TrendingSnapshotRepository trendingSnapshotRepository;
+
+    @Value("${app.video.trending.half-life-hours}")
+    private double halfLifeHours;
+    @Value("${app.video.trending.top-k}")
+    private int topK;
+    @Value("${app.video.trending.min-score}")
+    private double minScore;
+    @Value("${app.video.trending.weight.view}")
+    private double viewWeight;
+    @Value("${app.video.trending.weight.score}")
+    private double scoreWeight;
+    @Value("${app.video.trending.weight.comment}")
+    private double commentWeight;
+
+    private final Object lock = new Object();
+    private double lambda;          // 밀리초당 감쇠율 (ln2 / 반감기)
+    private long epochMillis;       // 전방 감쇠 기준 시각
+    private TrendingScoreTable table;
+    private TopKHeap overall;
+    private final Map<VideoTag, TopKHeap> byTag = new EnumMap<>(VideoTag.class);
+
+    @PostConstruct
+    void init() {
+        lambda = Math.log(2) / Duration.ofMinutes(Math.round(halfLifeHours * 60)).toMillis();
+        epochMillis = System.currentTimeMillis();
+        table = new TrendingScoreTable(1024);
+        overall = new TopKHeap(topK);
+        for (VideoTag tag : TAGS) {
+            byTag.put(tag, new TopKHeap(topK));
+        }
+        restore();
+    }
+
+    public void record(Integer videoIdx, VideoTag videoTag, TrendingEventType type) {
+        record(videoIdx, videoTag, type, 1.0);
+    }
+
+    // amount: 이벤트 크기 (평점은 0~1 로 정규화한 값)
+    public void record(Integer videoIdx, VideoTag videoTag, TrendingEventType type, double amount) {
+        double weight = weightOf(type) * amount;
+        if (videoIdx == null || weight <= 0) {
+            return;
+        }
+        int tag = tagOf(videoTag).ordinal();
+        long now = System.currentTimeMillis();
+
+        synchronized (lock) {
+            double delta = weight * Math.exp(lambda * (now - epochMillis));
+            int previousTag = table.tagOf(videoIdx);
+            double score = table.add(videoIdx, tag, delta);
+            if (previousTag >= 0 && previousTag != tag) {
+                // 태그가 바뀐 영상. 이전 태그 힙의 빈자리는 다음 스냅샷 때 다시 채워진다
+                byTag.get(TAGS[previousTag]).remove(videoIdx);
+            }
+            overall.offer(videoIdx, score);
+            byTag.get(TAGS[tag]).offer(videoIdx, score);
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEvent(TrendingEvent event) {
+        record(event.videoIdx(), event.videoTag(), event.type(), event.amount());
+    }
+
+    // 인기 순위 상위 limit 개 (최대 top-k). videoTag 가 null 이면 전체 순위
+    public List<TrendingEntry> top(VideoTag videoTag, int limit) {
+        int[] ids = new int[topK];
+        double[] scores = new double[topK];
+        int count;
+        long epoch;
+        synchronized (lock) {
+            TopKHeap heap = videoTag == null ? overall : byTag.get(videoTag);
+            count = heap.copyTo(ids, scores);
+            epoch = epochMillis;
+        }
+
+        double decay = Math.exp(-lambda * (System.currentTimeMillis() - epoch));
+        List<TrendingEntry> ranking = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            ranking.add(new TrendingEntry(ids[i], videoTag, scores[i] * decay));
+        }
+        ranking.sort(Comparator.comparingDouble(TrendingEntry::score).reversed());
+        return ranking.size() > limit ? ranking.subList(0, Math.max(limit, 0)) : ranking;
+    }
+
+    // 기준 시각을 현재로 옮기면서 다 식은 영상을 정리하고 힙을 다시 만든 뒤 DB 에 저장한다
+    @Scheduled(fixedDelayString = "${app.video.trending.snapshot-interval-ms}")
+    public void snapshot() {
+        long now = System.currentTimeMillis();
+        List<TrendingEntry> entries;
+        synchronized (lock) {
+            entries = rebase(now);
+        }
+
+        try {
+            trendingSnapshotRepository.replaceAll(entries, toLocalDateTime(now));
+            log.debug("인기 순위 스냅샷 저장 - 영상: {}개", entries.size());
+        } catch (Exception e) {
+            log.error("인기 순위 스냅샷 저장 실패 - 영상: {}개", entries.size(), e);
+        }
+    }
+
+    @PreDestroy
+    public void snapshotOnShutdown() {
+        snapshot();
+        log.info("종료 전 인기 순위 스냅샷 저장 완료");
+    }
+
+    // ===== ===== //
+    private List<TrendingEntry> rebase(long now) {
+        double decay = Math.exp(-lambda * (now - epochMillis));
+        TrendingScoreTable rebased = new TrendingScoreTable(table.size());
+        List<TrendingEntry> entries = new ArrayList<>(table.size());
+        table.forEach((videoIdx, tag, score) -> {
+            double current = score * decay;
+            if (current >= minScore) {
+                rebased.add(videoIdx, tag, current);
+                entries.add(new TrendingEntry(videoIdx, TAGS[tag], current));
+            }
+        });
+
+        table = rebased;
+        epochMillis = now;
+        rebuildHeaps(entries);
+        return entries;
+    }
+
+    private void rebuildHeaps(List<TrendingEntry> entries) {
+        overall.clear();
+        byTag.values().forEach(TopKHeap::clear);
+        for (TrendingEntry entry : entries) {
+            overall.offer(entry.videoIdx(), entry.score());
+            byTag.get(entry.videoTag()).offer(entry.videoIdx(), entry.score());
+        }
+    }
+
+    private void restore() {
+        try {
+            long now = System.currentTimeMillis();
+            int restored = 0;
+            for (TrendingSnapshotRepository.Snapshot snapshot : trendingSnapshotRepository.findAll()) {
+                long elapsed = Math.max(0, now - toEpochMillis(snapshot.scoredAt()));
+                double current = snapshot.entry().score() * Math.exp(-lambda * elapsed);
+                if (current >= minScore) {
+                    table.add(snapshot.entry().videoIdx(), snapshot.entry().videoTag().ordinal(), current);
+                    restored++;
+                }
+            }
+            List<TrendingEntry> entries = new ArrayList<>(restored);
+            table.forEach((videoIdx, tag, score) -> entries.add(new TrendingEntry(videoIdx, TAGS[tag], score)));
+            rebuildHeaps(entries);
+            log.info("인기 순위 복원 - 영상: {}개", restored);
+        } catch (Exception e) {
+            // 스냅샷이 없거나 읽지 못해도 빈 순위로 시작한다
+            log.warn("인기 순위 복원 실패, 빈 순위로 시작", e);
+        }
+    }
+
+    private double weightOf(TrendingEventType type) {
+        return switch (type) {
+            case VIEW -> viewWeight;
+            case SCORE -> scoreWeight;
+            case COMMENT -> commentWeight;
+        };
+    }
+
+    private static VideoTag tagOf(VideoTag videoTag) {
+        return videoTag == null ? VideoTag.NONE : videoTag;
+    }
+
+    private static LocalDateTime toLocalDateTime(long epochMillis) {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMillis), ZoneId.systemDefault());
+    }
+
+    private static long toEpochMillis(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
@@ -0,0 +1,7 @@
+package com.dabom.video.service.trending;
+
+import com.dabom.video.model.VideoTag;
+
+// score: 조회 시점 기준으로 감쇠된 인기 점수. 전체 순위에서 꺼낸 항목은 videoTag 가 null
+public record TrendingEntry(Integer videoIdx, VideoTag videoTag, double score) {
+}
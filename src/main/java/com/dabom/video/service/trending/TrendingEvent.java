@@ -0,0 +1,7 @@
+package com.dabom.video.service.trending;
+
+import com.dabom.video.model.VideoTag;
+
+// 쓰기 트랜잭션 안에서 생긴 인기 점수 이벤트. 롤백되면 반영하지 않도록 커밋 후 TrendingEngine 이 기록한다
+public record TrendingEvent(Integer videoIdx, VideoTag videoTag, TrendingEventType type, double amount) {
+}
@@ -0,0 +1,8 @@
+package com.dabom.video.service.trending;
+
+// 인기 점수에 반영되는 이벤트. 가중치는 app.video.trending.weight.* 로 정한다
+public enum TrendingEventType {
+    VIEW,
+    SCORE,
+    COMMENT
+}
@@ -0,0 +1,92 @@
+package com.dabom.video.service.trending;
+
+// videoIdx(int) -> (태그, 점수) 를 박싱 없이 담는 open addressing 해시 테이블.
+// 삭제는 지원하지 않고, 오래된 항목은 스냅샷 때 새 테이블로 옮기면서 걸러낸다.
+// 동기화는 호출하는 TrendingEngine 이 맡는다
+final class TrendingScoreTable {
+
+    private static final int NO_TAG = -1;
+
+    private int[] keys;
+    private byte[] tags;        // 태그 ordinal + 1 (0 이면 빈 칸)
+    private double[] scores;
+    private int size;
+
+    TrendingScoreTable(int expectedSize) {
+        int capacity = Integer.highestOneBit(Math.max(16, expectedSize * 2 - 1)) << 1;
+        keys = new int[capacity];
+        tags = new byte[capacity];
+        scores = new double[capacity];
+    }
+
+    // 점수를 더하고 태그를 최신 값으로 바꾼다. 더한 뒤의 점수를 돌려준다
+    double add(int videoIdx, int tag, double delta) {
+        if ((size + 1) * 2 > keys.length) {
+            resize(keys.length << 1);
+        }
+        int slot = slotOf(videoIdx, keys, tags);
+        if (tags[slot] == 0) {
+            keys[slot] = videoIdx;
+            size++;
+        }
+        tags[slot] = (byte) (tag + 1);
+        scores[slot] += delta;
+        return scores[slot];
+    }
+
+    // 없으면 -1
+    int tagOf(int videoIdx) {
+        int slot = slotOf(videoIdx, keys, tags);
+        return tags[slot] == 0 ? NO_TAG : tags[slot] - 1;
+    }
+
+    int size() {
+        return size;
+    }
+
+    void forEach(EntryConsumer consumer) {
+        for (int slot = 0; slot < keys.length; slot++) {
+            if (tags[slot] != 0) {
+                consumer.accept(keys[slot], tags[slot] - 1, scores[slot]);
+            }
+        }
+    }
+
+    @FunctionalInterface
+    interface EntryConsumer {
+        void accept(int videoIdx, int tag, double score);
+    }
+
+    // ===== ===== //
+    private void resize(int capacity) {
+        int[] oldKeys = keys;
+        byte[] oldTags = tags;
+        double[] oldScores = scores;
+        keys = new int[capacity];
+        tags = new byte[capacity];
+        scores = new double[capacity];
+        for (int slot = 0; slot < oldKeys.length; slot++) {
+            if (oldTags[slot] != 0) {
+                int target = slotOf(oldKeys[slot], keys, tags);
+                keys[target] = oldKeys[slot];
+                tags[target] = oldTags[slot];
+                scores[target] = oldScores[slot];
+            }
+        }
+    }
+
+    private static int slotOf(int videoIdx, int[] keys, byte[] tags) {
+        int mask = keys.length - 1;
+        int slot = mix(videoIdx) & mask;
+        while (tags[slot] != 0 && keys[slot] != videoIdx) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    // 연속된 idx 가 한 곳에 몰리지 않도록 섞는다
+    private static int mix(int key) {
+        int h = key * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+}
@@ -0,0 +1,301 @@
+package com.dabom.video.service.utils;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Stream;
+
+// 긴 영상을 키프레임(GOP) 경계에서 여러 청크로 나눠 병렬로 인코딩한 뒤,
+// 화질별 플레이리스트의 세그먼트 목록을 순서대로 이어 붙여 하나의 HLS 로 만든다
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ChunkedFfmpegEncoder {
+
+    private static final double KEYFRAME_WINDOW_SECONDS = 10;
+
+    @Value("${file.ffmpeg.chunk.enabled}")
+    private boolean enabled;
+
+    @Value("${file.ffmpeg.chunk.min-duration-seconds}")
+    private double minDurationSeconds;
+
+    @Value("${file.ffmpeg.chunk.target-seconds}")
+    private double targetSeconds;
+
+    @Value("${file.ffmpeg.chunk.parallelism}")
+    private int parallelism;
+
+    private final FfmpegEncoder ffmpegEncoder;
+    private final FfprobeClient ffprobeClient;
+    private final ThreadPoolTaskExecutor ffmpegChunkExecutor;
+
+    // 청크가 2개 이상일 때만 청크 인코딩을 한다 (빈 목록이면 단일 프로세스로 인코딩)
+    public List<EncodingChunk> plan(String input, EncodingPlan encodingPlan, MediaInfo mediaInfo) {
+        if (!enabled || !encodingPlan.isLadder()) {
+            return List.of(); // 복사(remux) 는 나눌 이유가 없다
+        }
+
+        try {
+            double duration = mediaInfo.durationSeconds();
+            if (duration < minDurationSeconds) {
+                return List.of();
+            }
+
+            List<Double> targets = new ArrayList<>();
+            for (double point = targetSeconds; point < duration - targetSeconds / 2; point += targetSeconds) {
+                targets.add(point);
+            }
+            List<Double> keyframes = ffprobeClient.probeKeyframesAround(input, targets, KEYFRAME_WINDOW_SECONDS);
+            return planChunks(keyframes, targets, duration);
+        } catch (IOException e) {
+            log.warn("청크 분할 정보 확인 실패, 단일 프로세스로 인코딩", e);
+            return List.of();
+        }
+    }
+
+    public HlsOutput encode(String input, EncodingPlan encodingPlan, List<EncodingChunk> chunks,
+                            FfmpegProgressListener listener) throws IOException {
+        Path encodingDir = ffmpegEncoder.makeEncodingDir();
+        int threads = Math.max(1, Runtime.getRuntime().availableProcessors() / parallelism);
+        ChunkProgress progress = new ChunkProgress(chunks, listener);
+        ChunkProcesses processes = new ChunkProcesses();
+
+        log.info(">>>>>> start chunked ffmpeg encoder - 청크: {}개, 청크당 스레드: {} >>>>>>", chunks.size(), threads);
+        // 하나라도 실패하면 그 자리에서 나머지 청크를 멈춘다 (allOf 는 모든 청크가 끝나야 완료된다)
+        List<CompletableFuture<Void>> futures = chunks.stream()
+                .map(chunk -> CompletableFuture
+                        .runAsync(() -> encodeChunk(input, encodingDir, chunk, encodingPlan, threads, progress, processes),
+                                ffmpegChunkExecutor)
+                        .whenComplete((result, e) -> {
+                            if (e != null) {
+                                processes.fail(e);
+                            }
+                        }))
+                .toList();
+
+        // 멈춘 청크까지 모두 끝난 뒤에 디렉터리를 지워야 ffmpeg 가 지운 자리에 다시 쓰지 않는다
+        CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).handle((result, e) -> null).join();
+        if (processes.failure() != null) {
+            deleteDirectory(encodingDir);
+            throw new IOException("청크 인코딩 실패", processes.failure());
+        }
+
+        try {
+            stitch(encodingDir, encodingPlan, chunks);
+        } catch (IOException | RuntimeException e) {
+            deleteDirectory(encodingDir);
+            throw new IOException("청크 플레이리스트 병합 실패", e);
+        }
+        progress.complete();
+        return new HlsOutput(encodingDir.toString(), FfmpegEncoder.MASTER_FILE_NAME);
+    }
+
+    // 각 목표 지점에 가장 가까운 키프레임에서 자른다. 너무 짧은 청크가 생기는 지점은 건너뛴다
+    static List<EncodingChunk> planChunks(List<Double> keyframes, List<Double> targets, double duration) {
+        List<Double> boundaries = new ArrayList<>();
+        double previous = 0;
+        for (double target : targets) {
+            double minGap = (target - previous) / 2;
+            keyframes.stream()
+                    .filter(keyframe -> keyframe - previous >= minGap && duration - keyframe >= minGap)
+                    .min(Comparator.comparingDouble(keyframe -> Math.abs(keyframe - target)))
+                    .ifPresent(boundaries::add);
+            if (!boundaries.isEmpty()) {
+                previous = boundaries.get(boundaries.size() - 1);
+            }
+        }
+        if (boundaries.isEmpty()) {
+            return List.of();
+        }
+
+        List<EncodingChunk> chunks = new ArrayList<>();
+        double start = 0;
+        for (double boundary : boundaries) {
+            if (boundary > start) {
+                chunks.add(new EncodingChunk(chunks.size(), start, boundary));
+                start = boundary;
+            }
+        }
+        chunks.add(new EncodingChunk(chunks.size(), start, duration));
+        return chunks;
+    }
+
+    // ===== ===== //
+    private void encodeChunk(String input, Path encodingDir, EncodingChunk chunk, EncodingPlan encodingPlan, int threads,
+                             ChunkProgress progress, ChunkProcesses processes) {
+        if (processes.failure() != null) {
+            throw new CancellationException("다른 청크 인코딩 실패");
+        }
+        try {
+            FfmpegProcess process = ffmpegEncoder.startChunk(input, encodingDir, chunk, encodingPlan, threads,
+                    sample -> progress.update(chunk.index(), sample));
+            processes.add(process);
+            process.await();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // c000_720p.m3u8, c001_720p.m3u8 ... → 720p.m3u8 / c000_master.m3u8 → master.m3u8.
+    // -output_ts_offset 로 PTS 를 원본 위치에 맞춰도 청크마다 AAC 앞쪽 지연(priming)이 새로 붙어
+    // 경계에서 타임스탬프가 정확히 이어지지 않으므로 청크 사이에 #EXT-X-DISCONTINUITY 를 넣는다
+    private void stitch(Path encodingDir, EncodingPlan encodingPlan, List<EncodingChunk> chunks) throws IOException {
+        String firstPrefix = chunks.get(0).filePrefix();
+        for (HlsRendition rendition : encodingPlan.renditions()) {
+            String playlistName = rendition.name() + ".m3u8";
+
+            List<String> segments = new ArrayList<>();
+            int targetDuration = ffmpegEncoder.segmentDuration();
+            for (EncodingChunk chunk : chunks) {
+                if (chunk.index() > 0) {
+                    segments.add("#EXT-X-DISCONTINUITY");
+                }
+                for (String line : Files.readAllLines(encodingDir.resolve(chunk.filePrefix() + playlistName))) {
+                    if (line.startsWith("#EXT-X-TARGETDURATION:")) {
+                        targetDuration = Math.max(targetDuration, Integer.parseInt(line.substring(22).trim()));
+                    } else if (line.startsWith("#EXTINF:") || (!line.isBlank() && !line.startsWith("#"))) {
+                        segments.add(line);
+                    }
+                }
+            }
+
+            List<String> playlist = new ArrayList<>(List.of(
+                    "#EXTM3U",
+                    "#EXT-X-VERSION:3",
+                    "#EXT-X-TARGETDURATION:" + targetDuration,
+                    "#EXT-X-MEDIA-SEQUENCE:0",
+                    "#EXT-X-PLAYLIST-TYPE:VOD"
+            ));
+            playlist.addAll(segments);
+            playlist.add("#EXT-X-ENDLIST");
+            Files.write(encodingDir.resolve(playlistName), playlist);
+        }
+
+        List<String> master = Files.readAllLines(encodingDir.resolve(firstPrefix + FfmpegEncoder.MASTER_FILE_NAME)).stream()
+                .map(line -> line.startsWith(firstPrefix) ? line.substring(firstPrefix.length()) : line)
+                .toList();
+        Files.write(encodingDir.resolve(FfmpegEncoder.MASTER_FILE_NAME), master);
+
+        // 청크별 플레이리스트는 업로드 대상이 아니다
+        for (EncodingChunk chunk : chunks) {
+            try (Stream<Path> files = Files.list(encodingDir)) {
+                for (Path file : files.filter(file -> isChunkPlaylist(file, chunk)).toList()) {
+                    Files.delete(file);
+                }
+            }
+        }
+    }
+
+    private boolean isChunkPlaylist(Path file, EncodingChunk chunk) {
+        String name = file.getFileName().toString();
+        return name.startsWith(chunk.filePrefix()) && name.endsWith(".m3u8");
+    }
+
+    private void deleteDirectory(Path directory) {
+        try (Stream<Path> files = Files.walk(directory)) {
+            files.sorted(Comparator.reverseOrder())
+                    .forEach(path -> path.toFile().delete());
+        } catch (IOException e) {
+            log.warn("실패한 인코딩 디렉터리 정리 실패: {}", directory, e);
+        }
+    }
+
+    // 실행 중인 청크 프로세스. 실패가 기록된 뒤에 시작된 프로세스도 add 에서 바로 멈춘다
+    private static class ChunkProcesses {
+
+        private final List<FfmpegProcess> processes = new CopyOnWriteArrayList<>();
+        private final AtomicReference<Throwable> failure = new AtomicReference<>();
+
+        private void add(FfmpegProcess process) {
+            processes.add(process);
+            if (failure.get() != null) {
+                process.destroy();
+            }
+        }
+
+        // 처음 실패한 원인만 남긴다 (멈춘 청크의 실패는 원인이 아니다)
+        private void fail(Throwable e) {
+            Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+            if (failure.compareAndSet(null, cause)) {
+                processes.forEach(FfmpegProcess::destroy);
+            }
+        }
+
+        private Throwable failure() {
+            return failure.get();
+        }
+    }
+
+    // 청크별 진행률을 원본 전체 기준 하나의 진행률로 합친다
+    private static class ChunkProgress {
+
+        private final List<EncodingChunk> chunks;
+        private final long totalMillis;
+        private final FfmpegProgressListener listener;
+        private final long[] encodedMillis;
+        private final double[] speeds;
+        private final double[] fps;
+        private final long startedNanos = System.nanoTime();
+
+        private ChunkProgress(List<EncodingChunk> chunks, FfmpegProgressListener listener) {
+            this.chunks = chunks;
+            this.listener = listener;
+            this.encodedMillis = new long[chunks.size()];
+            this.speeds = new double[chunks.size()];
+            this.fps = new double[chunks.size()];
+            this.totalMillis = (long) (chunks.get(chunks.size() - 1).endSeconds() * 1000);
+        }
+
+        private synchronized void update(int index, FfmpegProgressSample sample) {
+            EncodingChunk chunk = chunks.get(index);
+            long chunkMillis = (long) (chunk.durationSeconds() * 1000);
+            long encoded = sample.encodedMillis();
+            if (encoded > chunkMillis + 1000) {
+                encoded -= (long) (chunk.startSeconds() * 1000); // ffmpeg 버전에 따라 out_time 에 -output_ts_offset 이 포함된다
+            }
+
+            encodedMillis[index] = sample.end() ? chunkMillis : Math.min(Math.max(encoded, 0), chunkMillis);
+            speeds[index] = sample.end() ? 0 : sample.speed(); // 끝난 청크는 전체 배속에서 뺀다
+            fps[index] = sample.end() ? 0 : sample.fps();
+            listener.onProgress(new FfmpegProgressSample(sum(encodedMillis), totalMillis, sum(speeds), sum(fps), false));
+        }
+
+        // 최종 배속은 전체 영상 길이 / 실제 걸린 시간
+        private synchronized void complete() {
+            double elapsedMillis = Math.max(1, (System.nanoTime() - startedNanos) / 1_000_000.0);
+            listener.onProgress(new FfmpegProgressSample(totalMillis, totalMillis, totalMillis / elapsedMillis, 0, true));
+        }
+
+        private long sum(long[] values) {
+            long total = 0;
+            for (long value : values) {
+                total += value;
+            }
+            return total;
+        }
+
+        private double sum(double[] values) {
+            double total = 0;
+            for (double value : values) {
+                total += value;
+            }
+            return total;
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package com.dabom.video.service.utils;
+
+import java.util.List;
+import java.util.Locale;
+
+// 원본의 [startSeconds, endSeconds) 구간. 시작점은 원본 키프레임에 맞춘다
+public record EncodingChunk(int index, double startSeconds, double endSeconds) {
+
+    public double durationSeconds() {
+        return endSeconds - startSeconds;
+    }
+
+    // 청크별 출력 파일 접두사 (c000_720p.m3u8, c000_720p_segment_00000001.ts ...)
+    public String filePrefix() {
+        return String.format("c%03d_", index);
+    }
+
+    // 입력 측 -ss 는 키프레임으로 바로 seek 하므로 앞쪽을 디코딩하며 버리는 비용이 없다
+    List<String> inputOptions() {
+        return List.of(
+                "-ss", format(startSeconds),
+                "-t", format(durationSeconds())
+        );
+    }
+
+    // 청크마다 0 부터 시작하는 타임스탬프를 원본 위치로 옮겨 이어 붙였을 때 PTS 가 연속되게 한다
+    List<String> outputOptions() {
+        return List.of("-output_ts_offset", format(startSeconds));
+    }
+
+    private static String format(double seconds) {
+        return String.format(Locale.ROOT, "%.3f", seconds);
+    }
+}
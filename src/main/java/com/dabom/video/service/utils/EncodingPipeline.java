@@ -0,0 +1,14 @@
+package com.dabom.video.service.utils;
+
+public enum EncodingPipeline {
+
+    REMUX("영상/음성 모두 복사 (-c copy)"),
+    AUDIO_TRANSCODE("영상은 복사하고 음성만 AAC 로 변환"),
+    LADDER("화질별 ABR 사다리로 전체 인코딩");
+
+    private final String description;
+
+    EncodingPipeline(String description) {
+        this.description = description;
+    }
+}
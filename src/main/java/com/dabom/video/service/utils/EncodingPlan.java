@@ -0,0 +1,13 @@
+package com.dabom.video.service.utils;
+
+import java.util.List;
+
+// 원본에 맞춰 고른 인코딩 방식. LADDER 일 때만 renditions 를 사용한다.
+// durationSeconds 는 진행률 계산용 원본 길이 (모르면 0)
+public record EncodingPlan(EncodingPipeline pipeline, List<HlsRendition> renditions, boolean hasAudio,
+                           double durationSeconds) {
+
+    public boolean isLadder() {
+        return pipeline == EncodingPipeline.LADDER;
+    }
+}
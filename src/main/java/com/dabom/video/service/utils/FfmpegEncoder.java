@@ -1,87 +1,300 @@
 package com.dabom.video.service.utils;
 
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.stereotype.Service;
 
-import java.io.BufferedReader;
 import java.io.IOException;
-import java.io.InputStreamReader;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
 import java.util.UUID;
 
 @Slf4j
 @Service
+@RequiredArgsConstructor
 public class FfmpegEncoder {
 
     private static final String VIDEO_UPLOAD_DIR = "videos/";
     private static final String INDEX_FILE_NAME = "index.m3u8";
     private static final String SEGMENT_PATTERN = "segment_%08d.ts";
 
+    // ABR 출력: master.m3u8 + 화질별 {name}.m3u8 / {name}_segment_%08d.ts (한 디렉터리에 평탄하게 저장)
+    static final String MASTER_FILE_NAME = "master.m3u8";
+
+    // 사다리가 비어 있는데 브라우저가 재생할 수 없는 원본이면 이 화질 하나로 인코딩한다
+    private static final HlsRendition FALLBACK_RENDITION = new HlsRendition(720, 2800, 128);
+    private static final String TRANSCODED_AUDIO_BITRATE = "128k";
+    private static final String VARIANT_PLAYLIST_PATTERN = "%v.m3u8";
+    private static final String VARIANT_SEGMENT_PATTERN = "%v_segment_%08d.ts";
+
     @Value("${file.ffmpeg.path}")
     private String ffmpegPath;
 
     @Value("${file.ffmpeg.hls.segment-duration}")
     private int hlsSegmentDuration;
 
-    public String encode(String originalPath) throws IOException {
-        log.info(">>>>>> start ffmpeg encoder >>>>>>");
+    @Value("${file.ffmpeg.hls.ladder}")
+    private String hlsLadder;
 
-        try {
-            Path encodingDir = makeEncodingDir();
-            Process process = buildProcessingCommand(originalPath, encodingDir);
+    @Value("${file.ffmpeg.hls.preset}")
+    private String x264Preset;
 
-            int exitCode = process.waitFor();
-            if (exitCode != 0) {
-                log.error("Video 인코딩 실패 (exitCode={})", exitCode);
-            }
-            return encodingDir.toString();
-        } catch (Exception e) {
-            log.error("Video 인코딩 중 예외 발생", e);
+    @Value("${file.ffmpeg.hls.remux-compatible}")
+    private boolean remuxCompatible;
+
+    private final ThreadPoolTaskExecutor ffmpegOutputExecutor;
+
+    // 원본 정보 없이 설정된 사다리대로 인코딩한다
+    public HlsOutput encode(String originalPath) throws IOException {
+        return encode(originalPath, defaultPlan(), FfmpegProgressListener.NONE);
+    }
+
+    public HlsOutput encode(String originalPath, EncodingPlan plan, FfmpegProgressListener listener) throws IOException {
+        return start(originalPath, plan, false, listener).await();
+    }
+
+    // streaming=true 이면 세그먼트/플레이리스트를 임시 파일에 쓰고 완성 시 rename 하므로
+    // 디렉터리에 나타난 .ts / .m3u8 은 바로 업로드해도 안전하다 (HlsSegmentStreamer 참고)
+    public FfmpegProcess start(String originalPath, EncodingPlan plan, boolean streaming,
+                               FfmpegProgressListener listener) throws IOException {
+        log.info(">>>>>> start ffmpeg encoder - {} >>>>>>", plan.pipeline());
+
+        Path encodingDir = makeEncodingDir();
+        List<String> command = plan.isLadder()
+                ? buildLadderCommand(originalPath, encodingDir, plan, streaming, null, 0)
+                : buildProcessingCommand(originalPath, encodingDir, plan, streaming);
+
+        Process process = startProcess(command);
+        FfmpegOutputReader outputReader = readOutput(process, listener, (long) (plan.durationSeconds() * 1000));
+
+        String playlist = plan.isLadder() ? MASTER_FILE_NAME : INDEX_FILE_NAME;
+        return new FfmpegProcess(process, encodingDir, playlist, outputReader, true);
+    }
+
+    // 원본의 한 구간만 같은 ABR 사다리로 인코딩한다 (ChunkedFfmpegEncoder 가 청크마다 호출)
+    FfmpegProcess startChunk(String originalPath, Path encodingDir, EncodingChunk chunk, EncodingPlan plan, int threads,
+                             FfmpegProgressListener listener) throws IOException {
+        List<String> command = buildLadderCommand(originalPath, encodingDir, plan, false, chunk, threads);
+
+        Process process = startProcess(command);
+        FfmpegOutputReader outputReader = readOutput(process, listener, (long) (chunk.durationSeconds() * 1000));
+        return new FfmpegProcess(process, encodingDir, chunk.filePrefix() + MASTER_FILE_NAME, outputReader, false);
+    }
+
+    // 가장 싼 방식부터 고른다: 그대로 복사 > 음성만 변환 > 전체 인코딩
+    public EncodingPlan plan(MediaInfo mediaInfo) {
+        List<HlsRendition> ladder = renditions();
+        boolean copyableVideo = mediaInfo.isHlsCompatibleVideo() && mediaInfo.hasSegmentableGop(hlsSegmentDuration);
+        // 사다리를 돌려도 원본보다 낮은 화질이 하나도 안 생기면 영상을 다시 인코딩할 이유가 없다
+        boolean ladderAddsNothing = ladder.stream().noneMatch(rendition -> rendition.height() < mediaInfo.height());
+
+        if (copyableVideo && (remuxCompatible || ladderAddsNothing)) {
+            EncodingPipeline pipeline = mediaInfo.isHlsCompatibleAudio()
+                    ? EncodingPipeline.REMUX
+                    : EncodingPipeline.AUDIO_TRANSCODE;
+            return new EncodingPlan(pipeline, List.of(), mediaInfo.hasAudio(), mediaInfo.durationSeconds());
+        }
+        return new EncodingPlan(EncodingPipeline.LADDER, fitLadder(ladder, mediaInfo.height()), mediaInfo.hasAudio(),
+                mediaInfo.durationSeconds());
+    }
+
+    public EncodingPlan defaultPlan() {
+        List<HlsRendition> ladder = renditions();
+        if (ladder.isEmpty()) {
+            return new EncodingPlan(EncodingPipeline.REMUX, List.of(), true, 0);
         }
-        return originalPath;
+        return new EncodingPlan(EncodingPipeline.LADDER, ladder, true, 0);
+    }
+
+    List<HlsRendition> renditions() {
+        return HlsRendition.parseLadder(hlsLadder);
+    }
+
+    int segmentDuration() {
+        return hlsSegmentDuration;
     }
 
     // ===== ===== //
-    private Process buildProcessingCommand(String originalPath, Path encodingDir) throws IOException {
+    // REMUX: 영상/음성 복사, AUDIO_TRANSCODE: 영상만 복사하고 음성은 AAC 로 변환
+    private List<String> buildProcessingCommand(String originalPath, Path encodingDir, EncodingPlan plan,
+                                                boolean streaming) {
         Path segmentPattern = encodingDir.resolve(SEGMENT_PATTERN);
         Path indexFile = encodingDir.resolve(INDEX_FILE_NAME);
 
-        ProcessBuilder pb = new ProcessBuilder(
-                ffmpegPath,
-                "-i", originalPath,
-                "-c", "copy",
+        List<String> command = new ArrayList<>();
+        command.add(ffmpegPath);
+        command.addAll(inputOptions(originalPath));
+        command.addAll(List.of("-map", "0:v:0", "-map", "0:a:0?", "-c:v", "copy"));
+        command.addAll(plan.pipeline() == EncodingPipeline.AUDIO_TRANSCODE
+                ? List.of("-c:a", "aac", "-b:a", TRANSCODED_AUDIO_BITRATE, "-ac", "2")
+                : List.of("-c:a", "copy"));
+        command.addAll(List.of(
                 "-hls_time", String.valueOf(hlsSegmentDuration),
                 "-hls_list_size", "0",
-                "-f", "hls",
+                "-f", "hls"
+        ));
+        command.addAll(streaming ? streamingOptions() : List.of("-hls_playlist_type", "vod"));
+        command.addAll(List.of(
                 "-hls_segment_filename", segmentPattern.toString(),
                 "-y",
                 indexFile.toString()
+        ));
+
+        return command;
+    }
+
+    // 한 번 디코딩한 영상을 split 으로 나눠 화질별로 스케일/인코딩하고 master.m3u8 로 묶는다
+    // chunk 가 있으면 그 구간만 인코딩하고 출력 파일 이름에 청크 접두사를 붙인다
+    private List<String> buildLadderCommand(String originalPath, Path encodingDir, EncodingPlan plan,
+                                            boolean streaming, EncodingChunk chunk, int threads) {
+        List<HlsRendition> renditions = plan.renditions();
+        String prefix = chunk == null ? "" : chunk.filePrefix();
+
+        List<String> command = new ArrayList<>();
+        command.add(ffmpegPath);
+        if (chunk != null) {
+            command.addAll(chunk.inputOptions());
+        }
+        command.addAll(inputOptions(originalPath));
+
+        command.add("-filter_complex");
+        command.add(buildSplitFilter(renditions));
+
+        for (int i = 0; i < renditions.size(); i++) {
+            HlsRendition rendition = renditions.get(i);
+            command.addAll(List.of(
+                    "-map", "[v" + i + "out]",
+                    "-c:v:" + i, "libx264",
+                    "-b:v:" + i, rendition.videoBitrateKbps() + "k",
+                    "-maxrate:v:" + i, rendition.maxRateKbps() + "k",
+                    "-bufsize:v:" + i, rendition.bufferSizeKbps() + "k"
+            ));
+            if (plan.hasAudio()) {
+                command.addAll(List.of(
+                        "-map", "0:a:0",
+                        "-c:a:" + i, "aac",
+                        "-b:a:" + i, rendition.audioBitrateKbps() + "k",
+                        "-ac:a:" + i, "2"
+                ));
+            }
+        }
+
+        // 모든 화질의 키프레임을 세그먼트 경계에 맞춰야 플레이어가 끊김 없이 화질을 전환한다
+        command.addAll(List.of(
+                "-preset", x264Preset,
+                "-sc_threshold", "0",
+                "-force_key_frames", "expr:gte(t,n_forced*" + hlsSegmentDuration + ")",
+                "-f", "hls",
+                "-hls_time", String.valueOf(hlsSegmentDuration),
+                "-hls_list_size", "0"
+        ));
+        command.addAll(streaming ? streamingOptions() : List.of("-hls_playlist_type", "vod"));
+        if (chunk != null) {
+            command.addAll(chunk.outputOptions());
+            command.addAll(List.of("-threads", String.valueOf(threads)));
+        }
+        command.addAll(List.of(
+                "-hls_segment_filename", encodingDir.resolve(prefix + VARIANT_SEGMENT_PATTERN).toString(),
+                "-master_pl_name", prefix + MASTER_FILE_NAME,
+                "-var_stream_map", buildVarStreamMap(renditions, plan.hasAudio()),
+                "-y",
+                encodingDir.resolve(prefix + VARIANT_PLAYLIST_PATTERN).toString()
+        ));
+
+        return command;
+    }
+
+    // 원본보다 높은 화질은 만들지 않는다 (원본이 가장 낮은 단계보다도 작으면 원본 높이 그대로 한 단계만)
+    private List<HlsRendition> fitLadder(List<HlsRendition> ladder, int sourceHeight) {
+        if (sourceHeight <= 0) {
+            return ladder.isEmpty() ? List.of(FALLBACK_RENDITION) : ladder;
+        }
+        List<HlsRendition> fitted = ladder.stream()
+                .filter(rendition -> rendition.height() <= sourceHeight)
+                .toList();
+        if (!fitted.isEmpty()) {
+            return fitted;
+        }
+
+        HlsRendition lowest = ladder.stream()
+                .min(Comparator.comparingInt(HlsRendition::height))
+                .orElse(FALLBACK_RENDITION);
+        int height = Math.min(sourceHeight, lowest.height()) / 2 * 2; // libx264 는 짝수 높이만 허용
+        return List.of(new HlsRendition(height, lowest.videoBitrateKbps(), lowest.audioBitrateKbps()));
+    }
+
+    // presigned URL 입력은 네트워크가 잠깐 끊겨도 같은 위치부터 다시 읽도록 재연결을 켠다
+    private List<String> inputOptions(String originalPath) {
+        if (!originalPath.startsWith("http://") && !originalPath.startsWith("https://")) {
+            return List.of("-i", originalPath);
+        }
+        return List.of(
+                "-reconnect", "1",
+                "-reconnect_on_network_error", "1",
+                "-reconnect_delay_max", "10",
+                "-i", originalPath
         );
+    }
+
+    // EVENT 플레이리스트는 인코딩 중에도 재생을 시작할 수 있고, 종료 시 #EXT-X-ENDLIST 가 붙는다
+    private List<String> streamingOptions() {
+        return List.of("-hls_playlist_type", "event", "-hls_flags", "temp_file");
+    }
+
+    private String buildSplitFilter(List<HlsRendition> renditions) {
+        StringBuilder filter = new StringBuilder("[0:v]split=").append(renditions.size());
+        for (int i = 0; i < renditions.size(); i++) {
+            filter.append("[v").append(i).append("]");
+        }
+        for (int i = 0; i < renditions.size(); i++) {
+            filter.append(";[v").append(i).append("]scale=-2:").append(renditions.get(i).height())
+                    .append("[v").append(i).append("out]");
+        }
+        return filter.toString();
+    }
 
+    private String buildVarStreamMap(List<HlsRendition> renditions, boolean hasAudio) {
+        List<String> streams = new ArrayList<>();
+        for (int i = 0; i < renditions.size(); i++) {
+            String audio = hasAudio ? ",a:" + i : "";
+            streams.add("v:" + i + audio + ",name:" + renditions.get(i).name());
+        }
+        return String.join(" ", streams);
+    }
+
+    // -progress pipe:1 로 진행 상황을 key=value 형태로 받는다 (-nostats 로 기존 통계 줄은 끈다).
+    // 입력 정보 로그에는 presigned URL 이 그대로 찍히므로 -loglevel error 로 오류만 남긴다
+    private Process startProcess(List<String> command) throws IOException {
+        List<String> withProgress = new ArrayList<>(command);
+        withProgress.addAll(1, List.of("-hide_banner", "-loglevel", "error", "-nostats", "-progress", "pipe:1"));
+
+        ProcessBuilder pb = new ProcessBuilder(withProgress);
         pb.redirectErrorStream(true);
-        Process process = pb.start();
-
-        // FFmpeg 출력 로그 실시간 확인
-        new Thread(() -> {
-            try (BufferedReader reader = new BufferedReader(new InputStreamReader(process.getInputStream()))) {
-                String line;
-                while ((line = reader.readLine()) != null) {
-                    log.info("FFmpeg: {}", line);
-                }
-            } catch (IOException e) {
-                log.error("FFmpeg 로그 읽기 실패", e);
-            }
-        }).start();
+        return pb.start();
+    }
 
-        return process;
+    // 출력은 읽어주지 않으면 파이프가 가득 차 ffmpeg 가 멈추므로 프로세스마다 전용 스레드 풀에서 읽는다
+    private FfmpegOutputReader readOutput(Process process, FfmpegProgressListener listener,
+                                          long totalMillis) throws IOException {
+        FfmpegOutputReader outputReader = new FfmpegOutputReader(process.getInputStream(), listener, totalMillis);
+        try {
+            ffmpegOutputExecutor.execute(outputReader);
+        } catch (RuntimeException e) {
+            process.destroyForcibly();
+            throw new IOException("FFmpeg 출력 읽기 작업 등록 실패", e);
+        }
+        return outputReader;
     }
 
-    private Path makeEncodingDir() throws IOException {
+    Path makeEncodingDir() throws IOException {
         UUID uuid = UUID.randomUUID();
 
         Path encodingDir = Paths.get(
@@ -0,0 +1,132 @@
+package com.dabom.video.service.utils;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+// ffmpeg 출력(stdout: -progress, stderr: 로그)을 읽어 진행률로 바꾼다.
+// 일반 로그는 DEBUG 로만 남기고, 실패 시 원인을 볼 수 있도록 마지막 몇 줄만 보관한다.
+// 오류 메시지에도 입력 경로가 섞일 수 있어 presigned URL 의 서명 파라미터(X-Amz-*)는 가린 뒤 남긴다
+@Slf4j
+class FfmpegOutputReader implements Runnable {
+
+    private static final int TAIL_LINES = 20;
+    private static final Pattern DURATION_PATTERN = Pattern.compile("Duration: (\\d+):(\\d{2}):(\\d{2})\\.(\\d{2})");
+    private static final Pattern PRESIGNED_PARAM_PATTERN = Pattern.compile("(X-Amz-[A-Za-z-]+)=[^&\\s'\"]*");
+
+    private final InputStream output;
+    private final FfmpegProgressListener listener;
+    private final Deque<String> tail = new ArrayDeque<>();
+
+    private long totalMillis = 0;
+    private long encodedMillis = 0;
+    private double speed = 0;
+    private double fps = 0;
+
+    // totalMillis 는 ffprobe 로 미리 구한 길이 (0 이면 출력의 Duration 줄에서 찾는다)
+    FfmpegOutputReader(InputStream output, FfmpegProgressListener listener, long totalMillis) {
+        this.output = output;
+        this.listener = listener;
+        this.totalMillis = Math.max(0, totalMillis);
+    }
+
+    static String redact(String line) {
+        return PRESIGNED_PARAM_PATTERN.matcher(line).replaceAll("$1=***");
+    }
+
+    @Override
+    public void run() {
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(output, StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                handle(line.trim());
+            }
+        } catch (IOException e) {
+            log.warn("FFmpeg 출력 읽기 실패", e);
+        }
+    }
+
+    synchronized List<String> tail() {
+        return List.copyOf(tail);
+    }
+
+    // ===== ===== //
+    private void handle(String line) {
+        int separator = line.indexOf('=');
+        if (separator > 0 && line.indexOf(' ') < 0) {
+            handleProgress(line.substring(0, separator), line.substring(separator + 1));
+            return;
+        }
+
+        if (totalMillis == 0) {
+            Matcher matcher = DURATION_PATTERN.matcher(line);
+            if (matcher.find()) {
+                totalMillis = parseDuration(matcher);
+            }
+        }
+        String redacted = redact(line);
+        remember(redacted);
+        log.debug("FFmpeg: {}", redacted);
+    }
+
+    private void handleProgress(String key, String value) {
+        switch (key) {
+            // out_time_ms 도 실제로는 마이크로초 단위다 (ffmpeg 의 오래된 이름)
+            case "out_time_us", "out_time_ms" -> encodedMillis = parseLong(value, encodedMillis * 1000) / 1000;
+            case "speed" -> speed = parseDouble(value.replace("x", ""), speed);
+            case "fps" -> fps = parseDouble(value, fps);
+            case "progress" -> notifyListener("end".equals(value));
+            default -> {
+                // frame, bitrate, total_size 등은 사용하지 않는다
+            }
+        }
+    }
+
+    private void notifyListener(boolean end) {
+        try {
+            listener.onProgress(new FfmpegProgressSample(encodedMillis, totalMillis, speed, fps, end));
+        } catch (Exception e) {
+            log.warn("FFmpeg 진행률 처리 실패", e); // 진행률 실패가 인코딩을 멈추게 하지 않는다
+        }
+    }
+
+    private synchronized void remember(String line) {
+        if (tail.size() == TAIL_LINES) {
+            tail.removeFirst();
+        }
+        tail.addLast(line);
+    }
+
+    private long parseDuration(Matcher matcher) {
+        long hours = Long.parseLong(matcher.group(1));
+        long minutes = Long.parseLong(matcher.group(2));
+        long seconds = Long.parseLong(matcher.group(3));
+        long centis = Long.parseLong(matcher.group(4));
+        return ((hours * 60 + minutes) * 60 + seconds) * 1000 + centis * 10;
+    }
+
+    private long parseLong(String value, long fallback) {
+        try {
+            return Long.parseLong(value);
+        } catch (NumberFormatException e) {
+            return fallback; // N/A
+        }
+    }
+
+    private double parseDouble(String value, double fallback) {
+        try {
+            return Double.parseDouble(value);
+        } catch (NumberFormatException e) {
+            return fallback; // N/A
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package com.dabom.video.service.utils;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.stream.Stream;
+
+// 실행 중인 ffmpeg 프로세스와 그 출력 디렉터리.
+// 청크 인코딩처럼 여러 프로세스가 한 디렉터리를 같이 쓰면 ownsEncodingDir=false 로 만들고, 정리는 만든 쪽이 한다
+@Slf4j
+@Getter
+public class FfmpegProcess {
+
+    private final Process process;
+    private final Path encodingDir;
+    private final String playlistFileName;
+    private final FfmpegOutputReader outputReader;
+    @Getter(AccessLevel.NONE)
+    private final boolean ownsEncodingDir;
+
+    FfmpegProcess(Process process, Path encodingDir, String playlistFileName, FfmpegOutputReader outputReader,
+                  boolean ownsEncodingDir) {
+        this.process = process;
+        this.encodingDir = encodingDir;
+        this.playlistFileName = playlistFileName;
+        this.outputReader = outputReader;
+        this.ownsEncodingDir = ownsEncodingDir;
+    }
+
+    public boolean isAlive() {
+        return process.isAlive();
+    }
+
+    public HlsOutput await() throws IOException {
+        try {
+            int exitCode = process.waitFor();
+            if (exitCode != 0) {
+                log.error("Video 인코딩 실패 (exitCode={})\n{}", exitCode, String.join("\n", outputReader.tail()));
+                deleteEncodingDir();
+                throw new IOException("ffmpeg 인코딩 실패 (exitCode=" + exitCode + ")");
+            }
+            return new HlsOutput(encodingDir.toString(), playlistFileName);
+        } catch (InterruptedException e) {
+            process.destroyForcibly();
+            deleteEncodingDir();
+            Thread.currentThread().interrupt();
+            throw new IOException("ffmpeg 인코딩 중단", e);
+        }
+    }
+
+    // 업로드 실패 등으로 중간에 포기할 때 프로세스를 죽이고 출력 디렉터리를 지운다
+    public void destroy() {
+        process.destroyForcibly();
+        try {
+            process.waitFor();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        deleteEncodingDir();
+    }
+
+    private void deleteEncodingDir() {
+        if (!ownsEncodingDir) {
+            return;
+        }
+        try (Stream<Path> files = Files.walk(encodingDir)) {
+            files.sorted(Comparator.reverseOrder())
+                    .forEach(path -> path.toFile().delete());
+        } catch (IOException e) {
+            log.warn("실패한 인코딩 디렉터리 정리 실패: {}", encodingDir, e);
+        }
+    }
+}
@@ -0,0 +1,10 @@
+package com.dabom.video.service.utils;
+
+@FunctionalInterface
+public interface FfmpegProgressListener {
+
+    FfmpegProgressListener NONE = sample -> {
+    };
+
+    void onProgress(FfmpegProgressSample sample);
+}
@@ -0,0 +1,23 @@
+package com.dabom.video.service.utils;
+
+// ffmpeg -progress 출력 한 블록 (progress=continue|end 단위)
+public record FfmpegProgressSample(long encodedMillis, long totalMillis, double speed, double fps, boolean end) {
+
+    public int percent() {
+        if (end) {
+            return 100;
+        }
+        if (totalMillis <= 0) {
+            return 0;
+        }
+        return (int) Math.min(99, encodedMillis * 100 / totalMillis);
+    }
+
+    // 남은 시간 = 남은 영상 길이 / 인코딩 배속
+    public long etaSeconds() {
+        if (end || totalMillis <= 0 || speed <= 0) {
+            return 0;
+        }
+        return (long) ((totalMillis - encodedMillis) / 1000.0 / speed);
+    }
+}
@@ -0,0 +1,158 @@
+package com.dabom.video.service.utils;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class FfprobeClient {
+
+    private static final long PROBE_TIMEOUT_SECONDS = 60;
+    private static final int GOP_SAMPLE_SECONDS = 30;
+
+    @Value("${file.ffmpeg.ffprobe-path}")
+    private String ffprobePath;
+
+    private final ObjectMapper objectMapper;
+
+    // ffprobe 한 번으로 컨테이너/스트림 정보와 앞부분 패킷(키프레임 간격 계산용)을 함께 읽는다
+    public MediaInfo inspect(String input) throws IOException {
+        List<String> lines = run(List.of(
+                "-read_intervals", "%+" + GOP_SAMPLE_SECONDS,
+                "-show_entries", "format=duration,bit_rate"
+                        + ":stream=index,codec_type,codec_name,pix_fmt,width,height"
+                        + ":packet=stream_index,pts_time,flags",
+                "-of", "json",
+                input
+        ));
+        JsonNode root = objectMapper.readTree(String.join("\n", lines));
+
+        JsonNode video = null;
+        JsonNode audio = null;
+        for (JsonNode stream : root.path("streams")) {
+            String type = stream.path("codec_type").asText();
+            if (video == null && "video".equals(type)) {
+                video = stream;
+            } else if (audio == null && "audio".equals(type)) {
+                audio = stream;
+            }
+        }
+        if (video == null) {
+            throw new IOException("영상 스트림이 없는 파일입니다");
+        }
+
+        JsonNode format = root.path("format");
+        return new MediaInfo(
+                format.path("duration").asDouble(0),
+                format.path("bit_rate").asLong(0),
+                video.path("codec_name").asText(null),
+                video.path("pix_fmt").asText(null),
+                video.path("width").asInt(0),
+                video.path("height").asInt(0),
+                keyframeInterval(root.path("packets"), video.path("index").asInt()),
+                audio == null ? null : audio.path("codec_name").asText(null)
+        );
+    }
+
+    // 파일 전체를 훑지 않고 각 지점 주변 windowSeconds 만 읽어 키프레임 시각을 찾는다
+    public List<Double> probeKeyframesAround(String input, List<Double> points, double windowSeconds) throws IOException {
+        if (points.isEmpty()) {
+            return List.of();
+        }
+        String intervals = points.stream()
+                .map(point -> String.format(Locale.ROOT, "%.3f%%+%.3f", point, windowSeconds))
+                .collect(Collectors.joining(","));
+
+        List<String> lines = run(List.of(
+                "-select_streams", "v:0",
+                "-read_intervals", intervals,
+                "-show_entries", "packet=pts_time,flags",
+                "-of", "csv=p=0",
+                input
+        ));
+
+        List<Double> keyframes = new ArrayList<>();
+        for (String line : lines) {
+            String[] columns = line.trim().split(",");
+            if (columns.length < 2 || !columns[1].startsWith("K")) {
+                continue;
+            }
+            try {
+                keyframes.add(Double.parseDouble(columns[0]));
+            } catch (NumberFormatException ignored) {
+                // pts_time=N/A
+            }
+        }
+        return keyframes.stream().distinct().sorted().toList();
+    }
+
+    // ===== ===== //
+    private double keyframeInterval(JsonNode packets, int videoIndex) {
+        List<Double> keyframes = new ArrayList<>();
+        for (JsonNode packet : packets) {
+            if (packet.path("stream_index").asInt(-1) == videoIndex
+                    && packet.path("flags").asText("").startsWith("K")
+                    && packet.hasNonNull("pts_time")) {
+                keyframes.add(packet.path("pts_time").asDouble());
+            }
+        }
+        if (keyframes.size() < 2) {
+            return 0; // 앞부분에 키프레임이 하나뿐이면 GOP 가 매우 길다고 보고 알 수 없음으로 둔다
+        }
+        keyframes.sort(Double::compare);
+        double maxGap = 0;
+        for (int i = 1; i < keyframes.size(); i++) {
+            maxGap = Math.max(maxGap, keyframes.get(i) - keyframes.get(i - 1));
+        }
+        return maxGap;
+    }
+
+    // stdout 을 파이프로 읽으면 ffprobe 가 멈췄을 때 읽기에서 막혀 시간 제한이 걸리지 않으므로
+    // 임시 파일로 받고 waitFor 로 먼저 기다린다
+    private List<String> run(List<String> arguments) throws IOException {
+        List<String> command = new ArrayList<>();
+        command.add(ffprobePath);
+        command.addAll(List.of("-v", "error"));
+        command.addAll(arguments);
+
+        Path output = Files.createTempFile("ffprobe-", ".out");
+        try {
+            Process process = new ProcessBuilder(command)
+                    .redirectOutput(output.toFile())
+                    .redirectError(ProcessBuilder.Redirect.DISCARD)
+                    .start();
+
+            try {
+                if (!process.waitFor(PROBE_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                    process.destroyForcibly();
+                    throw new IOException("ffprobe 시간 초과");
+                }
+            } catch (InterruptedException e) {
+                process.destroyForcibly();
+                Thread.currentThread().interrupt();
+                throw new IOException("ffprobe 중단", e);
+            }
+            if (process.exitValue() != 0) {
+                throw new IOException("ffprobe 실패 (exitCode=" + process.exitValue() + ")");
+            }
+            return Files.readAllLines(output, StandardCharsets.UTF_8);
+        } finally {
+            Files.deleteIfExists(output);
+        }
+    }
+}
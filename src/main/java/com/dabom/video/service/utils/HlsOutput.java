@@ -0,0 +1,5 @@
+package com.dabom.video.service.utils;
+
+// 인코딩 결과 디렉터리와 플레이어가 열어야 할 플레이리스트 (master.m3u8 또는 index.m3u8)
+public record HlsOutput(String directory, String playlistFileName) {
+}
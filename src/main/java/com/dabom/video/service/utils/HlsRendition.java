@@ -0,0 +1,40 @@
+package com.dabom.video.service.utils;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// ABR 사다리의 한 단계. 예) "720:2800:128" -> 720p, 영상 2800kbps, 음성 128kbps
+public record HlsRendition(int height, int videoBitrateKbps, int audioBitrateKbps) {
+
+    public String name() {
+        return height + "p";
+    }
+
+    // 순간 비트레이트 상한 (플레이어가 BANDWIDTH 로 선택할 값의 기준)
+    public int maxRateKbps() {
+        return videoBitrateKbps * 107 / 100;
+    }
+
+    public int bufferSizeKbps() {
+        return videoBitrateKbps * 3 / 2;
+    }
+
+    public static List<HlsRendition> parseLadder(String ladder) {
+        List<HlsRendition> renditions = new ArrayList<>();
+        if (ladder == null || ladder.isBlank()) {
+            return renditions;
+        }
+
+        for (String step : ladder.split(",")) {
+            String[] values = step.trim().split(":");
+            if (values.length != 3) {
+                throw new IllegalArgumentException("잘못된 HLS 사다리 설정입니다: " + step);
+            }
+            renditions.add(new HlsRendition(
+                    Integer.parseInt(values[0].trim()),
+                    Integer.parseInt(values[1].trim()),
+                    Integer.parseInt(values[2].trim())));
+        }
+        return renditions;
+    }
+}
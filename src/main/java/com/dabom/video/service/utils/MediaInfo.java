@@ -0,0 +1,31 @@
+package com.dabom.video.service.utils;
+
+import java.util.Set;
+
+// ffprobe 로 확인한 원본 정보. 값을 알 수 없으면 0 / null
+public record MediaInfo(double durationSeconds, long bitrate,
+                        String videoCodec, String pixelFormat, int width, int height, double keyframeIntervalSeconds,
+                        String audioCodec) {
+
+    private static final Set<String> HLS_VIDEO_CODECS = Set.of("h264");
+    private static final Set<String> HLS_PIXEL_FORMATS = Set.of("yuv420p", "yuvj420p");
+    private static final Set<String> HLS_AUDIO_CODECS = Set.of("aac", "mp3");
+
+    public boolean hasAudio() {
+        return audioCodec != null;
+    }
+
+    // 브라우저(hls.js / Safari) 에서 그대로 재생할 수 있는 영상인지
+    public boolean isHlsCompatibleVideo() {
+        return HLS_VIDEO_CODECS.contains(videoCodec) && HLS_PIXEL_FORMATS.contains(pixelFormat);
+    }
+
+    public boolean isHlsCompatibleAudio() {
+        return !hasAudio() || HLS_AUDIO_CODECS.contains(audioCodec);
+    }
+
+    // -c copy 는 원본 키프레임에서만 자를 수 있으므로 GOP 가 너무 길면 세그먼트가 들쭉날쭉해진다
+    public boolean hasSegmentableGop(int segmentDurationSeconds) {
+        return keyframeIntervalSeconds > 0 && keyframeIntervalSeconds <= segmentDurationSeconds;
+    }
+}
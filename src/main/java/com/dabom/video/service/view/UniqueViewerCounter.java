@@ -0,0 +1,125 @@
+package com.dabom.video.service.view;
+
+import com.dabom.video.repository.VideoViewBatchRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+// 영상별 순 시청자 수를 HyperLogLog 로 추정한다.
+// 시청자 목록을 저장하지 않고 영상당 4KB 로 오차 약 1.6% 의 추정치를 얻는다.
+// 메모리에서 갱신하고 주기적으로 DB 스케치와 합쳐 저장한다 (VideoViewCounter 와 같은 write-behind)
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class UniqueViewerCounter {
+
+    private final VideoViewerSketchService videoViewerSketchService;
+    private final VideoViewBatchRepository videoViewBatchRepository;
+
+    private final Map<Integer, SketchEntry> sketches = new ConcurrentHashMap<>();
+
+    // viewerKey: 회원은 "m:{idx}", 비회원은 "a:{쿠키 id}"
+    public void offer(Integer videoIdx, String viewerKey) {
+        while (true) {
+            SketchEntry entry = entry(videoIdx);
+            synchronized (entry) {
+                if (entry.evicted) {
+                    continue;
+                }
+                entry.touched = true;
+                if (entry.sketch.offer(viewerKey)) {
+                    entry.dirty = true;
+                }
+                return;
+            }
+        }
+    }
+
+    public long estimate(Integer videoIdx) {
+        SketchEntry entry = entry(videoIdx);
+        synchronized (entry) {
+            return entry.sketch.estimate();
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.video.views.sketch-flush-interval-ms}")
+    public void flush() {
+        Map<Integer, Long> estimates = new HashMap<>();
+        sketches.forEach((videoIdx, entry) -> {
+            HyperLogLog snapshot;
+            synchronized (entry) {
+                if (!entry.dirty) {
+                    // 한 주기 동안 조회가 없던 영상은 메모리에서 내린다. 다음 조회 때 DB 에서 다시 읽는다
+                    if (!entry.touched && sketches.remove(videoIdx, entry)) {
+                        entry.evicted = true;
+                    }
+                    entry.touched = false;
+                    return;
+                }
+                snapshot = entry.sketch.copy();
+                entry.dirty = false;
+                entry.touched = false;
+            }
+
+            try {
+                HyperLogLog merged = videoViewerSketchService.merge(videoIdx, snapshot);
+                synchronized (entry) {
+                    // 다른 인스턴스가 센 시청자까지 메모리 스케치에 반영한다
+                    entry.sketch.merge(merged);
+                }
+                estimates.put(videoIdx, merged.estimate());
+            } catch (Exception e) {
+                synchronized (entry) {
+                    entry.dirty = true;
+                }
+                log.warn("순 시청자 스케치 저장 실패 - 영상: {}, 다음 주기에 재시도", videoIdx, e);
+            }
+        });
+
+        if (estimates.isEmpty()) {
+            return;
+        }
+        try {
+            videoViewBatchRepository.updateUniqueViewers(estimates);
+            log.debug("순 시청자 수 반영 - 영상: {}개", estimates.size());
+        } catch (Exception e) {
+            // 스케치는 이미 저장됐으므로 다음 조회 때 다시 반영된다
+            log.error("순 시청자 수 반영 실패 - 영상: {}개", estimates.size(), e);
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+        log.info("종료 전 순 시청자 스케치 저장 완료");
+    }
+
+    // ===== ===== //
+    // DB 조회가 ConcurrentHashMap 의 잠금 안에서 일어나지 않도록 computeIfAbsent 대신 putIfAbsent 를 쓴다
+    private SketchEntry entry(Integer videoIdx) {
+        SketchEntry entry = sketches.get(videoIdx);
+        if (entry != null) {
+            return entry;
+        }
+        SketchEntry loaded = new SketchEntry(videoViewerSketchService.load(videoIdx));
+        SketchEntry previous = sketches.putIfAbsent(videoIdx, loaded);
+        return previous == null ? loaded : previous;
+    }
+
+    private static class SketchEntry {
+        private final HyperLogLog sketch;
+        private boolean dirty;
+        private boolean touched = true;
+        private boolean evicted;
+
+        private SketchEntry(HyperLogLog sketch) {
+            this.sketch = sketch;
+        }
+    }
+}
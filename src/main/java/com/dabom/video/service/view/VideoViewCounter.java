@@ -0,0 +1,79 @@
+package com.dabom.video.service.view;
+
+import com.dabom.video.repository.VideoViewBatchRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+// 조회수를 메모리(LongAdder)에 모았다가 주기적으로 한 번에 DB 에 더한다 (write-behind)
+// 재생 요청마다 video 행을 잠그고 UPDATE 하지 않으므로 인기 영상에서도 요청이 줄 서지 않는다
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class VideoViewCounter {
+
+    private final VideoViewBatchRepository videoViewBatchRepository;
+
+    private final Map<Integer, LongAdder> pendingViews = new ConcurrentHashMap<>();
+
+    public void increment(Integer videoIdx) {
+        pendingViews.computeIfAbsent(videoIdx, key -> new LongAdder()).increment();
+    }
+
+    // 아직 DB 에 반영되지 않은 조회수
+    public long pending(Integer videoIdx) {
+        LongAdder adder = pendingViews.get(videoIdx);
+        return adder == null ? 0 : adder.sum();
+    }
+
+    @Scheduled(fixedDelayString = "${app.video.views.flush-interval-ms}")
+    public void flush() {
+        Map<Integer, Long> deltas = drain();
+        if (deltas.isEmpty()) {
+            return;
+        }
+
+        try {
+            videoViewBatchRepository.addViews(deltas);
+            log.debug("조회수 반영 - 영상: {}개", deltas.size());
+        } catch (Exception e) {
+            // 반영하지 못한 조회수는 다음 flush 때 다시 시도한다
+            deltas.forEach((videoIdx, delta) -> pendingViews.computeIfAbsent(videoIdx, key -> new LongAdder()).add(delta));
+            log.error("조회수 반영 실패 - 영상: {}개", deltas.size(), e);
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+        log.info("종료 전 조회수 반영 완료");
+    }
+
+    // ===== ===== //
+    private Map<Integer, Long> drain() {
+        Map<Integer, Long> deltas = new HashMap<>();
+        pendingViews.forEach((videoIdx, adder) -> {
+            long delta = adder.sumThenReset();
+            if (delta > 0) {
+                deltas.put(videoIdx, delta);
+                return;
+            }
+            // 한 주기 동안 조회가 없던 영상은 맵에서 정리한다.
+            // 정리 직전에 들어온 증가분은 새 카운터로 옮겨 잃지 않도록 한다
+            if (pendingViews.remove(videoIdx, adder)) {
+                long late = adder.sumThenReset();
+                if (late > 0) {
+                    pendingViews.computeIfAbsent(videoIdx, key -> new LongAdder()).add(late);
+                }
+            }
+        });
+        return deltas;
+    }
+}
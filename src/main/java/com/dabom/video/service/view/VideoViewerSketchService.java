@@ -0,0 +1,37 @@
+package com.dabom.video.service.view;
+
+import com.dabom.video.model.VideoViewerSketch;
+import com.dabom.video.repository.VideoViewerSketchRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class VideoViewerSketchService {
+
+    private final VideoViewerSketchRepository videoViewerSketchRepository;
+
+    public HyperLogLog load(Integer videoIdx) {
+        return videoViewerSketchRepository.findById(videoIdx)
+                .map(sketch -> HyperLogLog.fromBytes(sketch.getRegisters()))
+                .orElseGet(HyperLogLog::new);
+    }
+
+    // 메모리 스케치를 DB 스케치에 합쳐 저장하고, 합친 결과를 돌려준다.
+    // 다른 인스턴스가 먼저 저장했다면 @Version 충돌로 실패하고 다음 flush 때 다시 합친다
+    @Transactional
+    public HyperLogLog merge(Integer videoIdx, HyperLogLog local) {
+        VideoViewerSketch sketch = videoViewerSketchRepository.findById(videoIdx)
+                .orElseGet(() -> new VideoViewerSketch(videoIdx));
+
+        HyperLogLog merged = local.copy();
+        if (sketch.getRegisters() != null) {
+            merged.merge(HyperLogLog.fromBytes(sketch.getRegisters()));
+        }
+        sketch.updateRegisters(merged.toBytes(), merged.estimate());
+        videoViewerSketchRepository.save(sketch);
+        return merged;
+    }
+}
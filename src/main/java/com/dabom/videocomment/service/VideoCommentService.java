@@ -3,9 +3,11 @@ package com.dabom.videocomment.service;
 import com.dabom.member.model.entity.Member;
 import com.dabom.member.repository.MemberRepository;
 import com.dabom.member.security.dto.MemberDetailsDto;
-import com.dabom.member.service.MemberService;
+import com.dabom.member.service.MemberProfileResolver;
 import com.dabom.video.model.Video;
 import com.dabom.video.repository.VideoRepository;
+import com.dabom.video.service.trending.TrendingEngine;
+import com.dabom.video.service.trending.TrendingEventType;
 import com.dabom.videocomment.model.dto.VideoCommentRegisterDto;
 import com.dabom.videocomment.model.dto.VideoCommentResponseDto;
 import com.dabom.videocomment.model.dto.VideoCommentUpdateDto;
@@ -19,6 +21,9 @@ import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Map;
+import java.util.Objects;
+
 @Slf4j
 @Service
 @Transactional(readOnly = true)
@@ -28,7 +33,8 @@ public class VideoCommentService {
     private final VideoCommentRepository videoCommentRepository;
     private final VideoRepository videoRepository;
     private final MemberRepository memberRepository;
-    private final MemberService memberService;
+    private final MemberProfileResolver memberProfileResolver;
+    private final TrendingEngine trendingEngine;
 
     private static final String DEFAULT_PROFILE_IMAGE = "/Image/Dabompng.png";
 
@@ -41,7 +47,9 @@ public class VideoCommentService {
                 .orElseThrow(() -> new EntityNotFoundException("회원을 찾을 수 없습니다: " + memberIdx));
 
         VideoComment videoComment = dto.toEntity(video, member);
-        return videoCommentRepository.save(videoComment).getIdx();
+        Integer commentIdx = videoCommentRepository.save(videoComment).getIdx();
+        trendingEngine.record(videoIdx, video.getVideoTag(), TrendingEventType.COMMENT);
+        return commentIdx;
     }
 
     @Transactional
@@ -60,8 +68,18 @@ public class VideoCommentService {
             result = videoCommentRepository.findByVideo_IdxAndIsDeletedFalse(videoIdx, pageable);
         }
 
+        // 댓글 작성자 프로필은 페이지 단위로 한 번에 조회한다
+        Map<Integer, String> profiles = memberProfileResolver.resolveAll(result.getContent().stream()
+                .map(VideoComment::getMember)
+                .filter(Objects::nonNull)
+                .map(Member::getIdx)
+                .toList());
+
         return result.map(comment -> {
-            String profileImg = getProfileImgSafely(comment);
+            String profileImg = comment.getMember() == null ? null : profiles.get(comment.getMember().getIdx());
+            if (profileImg == null || profileImg.trim().isEmpty()) {
+                profileImg = DEFAULT_PROFILE_IMAGE;
+            }
             return VideoCommentResponseDto.from(comment, profileImg, memberDetailsDto);
         });
     }
@@ -81,18 +99,4 @@ public class VideoCommentService {
         return videoCommentRepository.findById(commentIdx)
                 .orElseThrow(() -> new EntityNotFoundException("댓글을 찾을 수 없습니다: " + commentIdx));
     }
-
-    private String getProfileImgSafely(VideoComment comment) {
-        try {
-            if (comment.getMember() != null) {
-                String profileImg = memberService.getProfileImg(comment.getMember().getIdx());
-                if (profileImg != null && !profileImg.trim().isEmpty()) {
-                    return profileImg;
-                }
-            }
-        } catch (Exception e) {
-            log.warn("프로필 이미지 조회 실패");
-        }
-        return DEFAULT_PROFILE_IMAGE;
-    }
-}
\ No newline at end of file
+}
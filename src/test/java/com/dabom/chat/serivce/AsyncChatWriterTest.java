@@ -0,0 +1,140 @@
+package com.dabom.chat.serivce;
+
+import com.dabom.chat.model.PendingChat;
+import com.dabom.chat.repository.ChatBatchRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doAnswer;
+
+@ExtendWith(MockitoExtension.class)
+class AsyncChatWriterTest {
+
+    private static final int CAPACITY = 10;
+    private static final int BATCH_SIZE = 2;
+
+    @Mock
+    private ChatBatchRepository chatBatchRepository;
+
+    private AsyncChatWriter asyncChatWriter;
+    // saveAll 에 넘어온 idx 목록 (재시도 목록은 쓰고 나면 비워지므로 호출 시점에 복사해 둔다)
+    private final List<List<Long>> writes = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        asyncChatWriter = new AsyncChatWriter(chatBatchRepository, CAPACITY, BATCH_SIZE);
+    }
+
+    @Test
+    @DisplayName(value = "일시적인 DB 오류면 같은 묶음을 다시 쓰고, 그동안 뒤 메시지를 먼저 쓰지 않는다")
+    public void retryKeepsOrder() {
+        // given
+        failFirstCallWith(new QueryTimeoutException("timeout"));
+        enqueue(1L, 2L, 3L);
+
+        // when
+        asyncChatWriter.flush();
+        enqueue(4L);
+        asyncChatWriter.flush(); // 재시도 대기 중이라 아무것도 하지 않는다
+        ReflectionTestUtils.setField(asyncChatWriter, "retryAfter", 0L);
+        asyncChatWriter.flush();
+
+        // then
+        assertThat(writes).containsExactly(List.of(1L, 2L), List.of(1L, 2L), List.of(3L, 4L));
+        assertThat(asyncChatWriter.backlog()).isZero();
+    }
+
+    @Test
+    @DisplayName(value = "특정 행 때문에 묶음 저장이 실패하면 한 건씩 다시 써서 그 행만 버린다")
+    public void dataIntegrityViolationFallsBackToOneByOne() {
+        // given
+        doAnswer(invocation -> {
+            List<Long> ids = record(invocation.getArgument(0));
+            if ((ids.contains(1L) && ids.size() > 1) || ids.equals(List.of(2L))) {
+                throw new DataIntegrityViolationException("fk");
+            }
+            return null;
+        }).when(chatBatchRepository).saveAll(anyList());
+        enqueue(1L, 2L);
+
+        // when
+        asyncChatWriter.flush();
+
+        // then
+        assertThat(writes).containsExactly(List.of(1L, 2L), List.of(1L), List.of(2L));
+        assertThat(asyncChatWriter.backlog()).isZero();
+    }
+
+    @Test
+    @DisplayName(value = "종료 시 재시도 대기와 상관없이 버퍼를 모두 쓴다")
+    public void flushOnShutdownDrainsEverything() {
+        // given
+        failFirstCallWith(new QueryTimeoutException("timeout"));
+        enqueue(1L, 2L, 3L, 4L, 5L);
+        asyncChatWriter.flush(); // 첫 묶음 실패로 재시도 대기 상태가 된다
+
+        // when
+        asyncChatWriter.flushOnShutdown();
+
+        // then
+        assertThat(writes).containsExactly(
+                List.of(1L, 2L), List.of(1L, 2L), List.of(3L, 4L), List.of(5L));
+        assertThat(asyncChatWriter.backlog()).isZero();
+    }
+
+    @Test
+    @DisplayName(value = "버퍼가 가득 차면 기다리지 않고 바로 거절한다")
+    public void enqueueRejectsWhenFull() {
+        // given
+        for (long idx = 1; idx <= CAPACITY; idx++) {
+            assertThat(asyncChatWriter.enqueue(chat(idx))).isTrue();
+        }
+
+        // when
+        boolean accepted = asyncChatWriter.enqueue(chat(CAPACITY + 1L));
+
+        // then
+        assertThat(accepted).isFalse();
+        assertThat(asyncChatWriter.backlog()).isEqualTo(CAPACITY);
+    }
+
+    // ===== ===== //
+    private void failFirstCallWith(RuntimeException failure) {
+        doAnswer(invocation -> {
+            record(invocation.getArgument(0));
+            if (writes.size() == 1) {
+                throw failure;
+            }
+            return null;
+        }).when(chatBatchRepository).saveAll(anyList());
+    }
+
+    private List<Long> record(List<PendingChat> batch) {
+        List<Long> ids = batch.stream().map(PendingChat::idx).toList();
+        writes.add(ids);
+        return ids;
+    }
+
+    private void enqueue(Long... ids) {
+        for (Long idx : ids) {
+            assertThat(asyncChatWriter.enqueue(chat(idx))).isTrue();
+        }
+    }
+
+    private PendingChat chat(Long idx) {
+        return new PendingChat(idx, 1L, 1, 2, "message" + idx, LocalDateTime.now());
+    }
+}
@@ -0,0 +1,56 @@
+package com.dabom.config.interceptor;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SlowConsumerInterceptorTest {
+
+    private static final String SESSION_ID = "session-1";
+
+    private SlowConsumerInterceptor interceptor;
+
+    @BeforeEach
+    void setUp() {
+        interceptor = new SlowConsumerInterceptor(new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(interceptor, "maxBacklog", 2L);
+        interceptor.register(SESSION_ID);
+    }
+
+    @Test
+    @DisplayName(value = "전송 버퍼가 밀린 세션에는 droppable 표시가 붙은 메시지만 보내지 않는다")
+    public void dropOnlyMarkedFrames() {
+        // given
+        interceptor.preSend(message(false), null);
+        interceptor.preSend(message(false), null);
+
+        // when / then
+        assertThat(interceptor.preSend(message(true), null)).isNull();
+        assertThat(interceptor.preSend(message(false), null)).isNotNull();
+    }
+
+    @Test
+    @DisplayName(value = "전송 버퍼가 여유 있으면 droppable 메시지도 보낸다")
+    public void keepMarkedFramesUnderBacklog() {
+        // when / then
+        assertThat(interceptor.preSend(message(true), null)).isNotNull();
+    }
+
+    private Message<byte[]> message(boolean droppable) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+        accessor.setSessionId(SESSION_ID);
+        accessor.setDestination("/topic/together/1");
+        if (droppable) {
+            accessor.setNativeHeader(SlowConsumerInterceptor.DROPPABLE_HEADER, "true");
+        }
+        return MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+    }
+}
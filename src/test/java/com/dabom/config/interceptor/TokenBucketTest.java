@@ -0,0 +1,42 @@
+package com.dabom.config.interceptor;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TokenBucketTest {
+
+    private static final long SECOND = 1_000_000_000L;
+
+    @Test
+    @DisplayName(value = "처음에는 capacity 만큼 한 번에 보낼 수 있고, 그 뒤로는 거절한다")
+    public void burstUpToCapacity() {
+        // given
+        TokenBucket bucket = new TokenBucket(3, 1, 0);
+
+        // when / then
+        assertThat(bucket.tryAcquire(0)).isTrue();
+        assertThat(bucket.tryAcquire(0)).isTrue();
+        assertThat(bucket.tryAcquire(0)).isTrue();
+        assertThat(bucket.tryAcquire(0)).isFalse();
+    }
+
+    @Test
+    @DisplayName(value = "지난 시간만큼 다시 차고 capacity 를 넘지 않는다")
+    public void refillOverTime() {
+        // given
+        TokenBucket bucket = new TokenBucket(2, 2, 0);
+        bucket.tryAcquire(0);
+        bucket.tryAcquire(0);
+
+        // when / then
+        assertThat(bucket.tryAcquire(SECOND / 4)).isFalse();
+        assertThat(bucket.tryAcquire(SECOND / 2)).isTrue();
+        assertThat(bucket.isFull(SECOND / 2)).isFalse();
+        assertThat(bucket.isFull(10 * SECOND)).isTrue();
+        assertThat(bucket.tryAcquire(10 * SECOND)).isTrue();
+        assertThat(bucket.tryAcquire(10 * SECOND)).isTrue();
+        assertThat(bucket.tryAcquire(10 * SECOND)).isFalse();
+    }
+}
@@ -0,0 +1,69 @@
+package com.dabom.member.service;
+
+import com.dabom.image.service.ImageService;
+import com.dabom.member.repository.MemberRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class MemberProfileResolverTest {
+    @InjectMocks
+    private MemberProfileResolver memberProfileResolver;
+
+    @Mock
+    private MemberRepository memberRepository;
+    @Mock
+    private ImageService imageService;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(memberProfileResolver, "ttlSeconds", 300L);
+        ReflectionTestUtils.setField(memberProfileResolver, "maxSize", 100);
+    }
+
+    @Test
+    @DisplayName(value = "조회 중에 프로필이 바뀌면 조회한 값을 캐시하지 않는다")
+    public void evictDuringLoadSkipsCaching() {
+        // given
+        Integer memberIdx = 1;
+        when(memberRepository.findAllWithProfileImageByIdxIn(anyList())).thenAnswer(invocation -> {
+            memberProfileResolver.evict(memberIdx);
+            return List.of();
+        });
+
+        // when
+        memberProfileResolver.resolve(memberIdx);
+        memberProfileResolver.resolve(memberIdx);
+
+        // then
+        verify(memberRepository, times(2)).findAllWithProfileImageByIdxIn(anyList());
+    }
+
+    @Test
+    @DisplayName(value = "바뀐 것이 없으면 두 번째 조회는 캐시에서 읽는다")
+    public void cachedWithoutEviction() {
+        // given
+        Integer memberIdx = 1;
+        when(memberRepository.findAllWithProfileImageByIdxIn(anyList())).thenReturn(List.of());
+
+        // when
+        memberProfileResolver.resolve(memberIdx);
+        memberProfileResolver.resolve(memberIdx);
+
+        // then
+        verify(memberRepository, times(1)).findAllWithProfileImageByIdxIn(anyList());
+    }
+}
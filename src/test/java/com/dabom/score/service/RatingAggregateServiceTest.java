@@ -0,0 +1,53 @@
+package com.dabom.score.service;
+
+import com.dabom.score.model.entity.ScoreType;
+import com.dabom.score.repository.RatingAggregateRepository;
+import com.dabom.video.repository.VideoRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class RatingAggregateServiceTest {
+    @InjectMocks
+    private RatingAggregateService ratingAggregateService;
+
+    @Mock
+    private RatingAggregateRepository ratingAggregateRepository;
+    @Mock
+    private VideoRepository videoRepository;
+
+    @Test
+    @DisplayName(value = "평점 수정은 개수는 그대로 두고 이전 구간에서 빼고 새 구간에 더한다")
+    public void change() {
+        // given
+        Integer videoIdx = 7;
+
+        // when
+        ratingAggregateService.change(ScoreType.VIDEO, videoIdx, 2.0, 4.6);
+
+        // then
+        verify(ratingAggregateRepository).applyDelta("VIDEO", videoIdx, 0, 4.6 - 2.0, 0, -1, 0, 0, 1);
+        verify(videoRepository).syncRatingSummary(videoIdx);
+    }
+
+    @Test
+    @DisplayName(value = "채널 평점 삭제는 개수와 합계를 줄이고 영상 컬럼은 건드리지 않는다")
+    public void removeChannelScore() {
+        // given
+        Integer channelIdx = 3;
+
+        // when
+        ratingAggregateService.remove(ScoreType.CHANNEL, channelIdx, 0.3);
+
+        // then
+        verify(ratingAggregateRepository).applyDelta("CHANNEL", channelIdx, -1, -0.3, -1, 0, 0, 0, 0);
+        verify(videoRepository, never()).syncRatingSummary(channelIdx);
+    }
+}
@@ -0,0 +1,88 @@
+package com.dabom.search.index;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class InvertedIndexTest {
+
+    private final InvertedIndex index = new InvertedIndex(0.0, 30);
+
+    @Test
+    @DisplayName(value = "띄어쓰기와 조사가 달라도 bigram 으로 찾는다")
+    public void hangulBigram() {
+        // given
+        index.put(document(1, "자바강의를 시작합니다", "스프링 기초", "코딩채널"));
+        index.put(document(2, "파이썬 입문", "데이터 분석", "데이터채널"));
+
+        // when / then
+        assertThat(index.search("자바 강의", 10)).containsExactly(1);
+        assertThat(index.search("데이터", 10)).containsExactly(2);
+        assertThat(index.search("강", 10)).containsExactly(1);
+    }
+
+    @Test
+    @DisplayName(value = "대소문자와 전각 문자를 정규화해서 찾는다")
+    public void normalization() {
+        // given
+        index.put(document(1, "Java 강의", "", "코딩채널"));
+        index.put(document(2, "ＳＰＲＩＮＧ 부트", "", "코딩채널"));
+
+        // when / then
+        assertThat(index.search("JAVA", 10)).containsExactly(1);
+        assertThat(index.search("java", 10)).containsExactly(1);
+        assertThat(index.search("Spring", 10)).containsExactly(2);
+    }
+
+    @Test
+    @DisplayName(value = "제목에 많이 나온 영상이 먼저 나온다 (BM25)")
+    public void ranking() {
+        // given
+        index.put(document(1, "여행 브이로그", "제주 여행 여행 여행", "채널A"));
+        index.put(document(2, "제주 맛집", "여행 중 들른 곳", "채널B"));
+        index.put(document(3, "요리", "집밥", "채널C"));
+
+        // when / then
+        assertThat(index.search("여행", 10)).containsExactly(1, 2);
+    }
+
+    @Test
+    @DisplayName(value = "수정하거나 삭제한 영상은 이전 내용으로 검색되지 않는다")
+    public void update() {
+        // given
+        index.put(document(1, "옛날 제목", "", "채널"));
+
+        // when
+        index.put(document(1, "새 제목", "", "채널"));
+        index.put(document(2, "옛날 이야기", "", "채널"));
+        index.remove(2);
+
+        // then
+        assertThat(index.search("옛날", 10)).isEmpty();
+        assertThat(index.search("새 제목", 10)).containsExactly(1);
+        assertThat(index.size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName(value = "삭제가 많아져 압축해도 검색 결과가 유지된다")
+    public void compact() {
+        // given
+        for (int round = 0; round < 3; round++) {
+            for (int videoIdx = 1; videoIdx <= 1000; videoIdx++) {
+                index.put(document(videoIdx, "영상 " + videoIdx + " 회차" + round, "", "채널"));
+            }
+        }
+
+        // when / then
+        assertThat(index.size()).isEqualTo(1000);
+        assertThat(index.search("회차2", 2000)).hasSize(1000);
+        assertThat(index.search("회차0", 10)).isEmpty();
+    }
+
+    private static VideoDocument document(int videoIdx, String title, String description, String channelName) {
+        return new VideoDocument(videoIdx, title, description, channelName, null, LocalDateTime.now());
+    }
+}
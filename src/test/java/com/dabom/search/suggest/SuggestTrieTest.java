@@ -0,0 +1,95 @@
+package com.dabom.search.suggest;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SuggestTrieTest {
+
+    private final SuggestTrie trie = new SuggestTrie(3);
+
+    @Test
+    @DisplayName(value = "접두어로 시작하는 후보를 조회수 순으로 돌려준다")
+    public void completeByWeight() {
+        // given
+        trie.put(video(1, "자바 강의", 10));
+        trie.put(video(2, "자바스크립트 입문", 30));
+        trie.put(video(3, "파이썬 강의", 50));
+        trie.put(new Suggestion(SuggestionType.CHANNEL, 7, "자바채널", 20));
+
+        // when / then
+        assertThat(texts(trie.complete("자바", 10))).containsExactly("자바스크립트 입문", "자바채널", "자바 강의");
+        assertThat(texts(trie.complete("자바 ", 10))).containsExactly("자바 강의");
+        assertThat(trie.complete("러스트", 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName(value = "한글은 글자를 다 치기 전(자모)에도 찾는다")
+    public void hangulJamoPrefix() {
+        // given
+        trie.put(video(1, "강의", 10));
+        trie.put(video(2, "가방", 5));
+
+        // when / then
+        assertThat(texts(trie.complete("가", 10))).containsExactly("강의", "가방");
+        assertThat(texts(trie.complete("ㄱ", 10))).containsExactly("강의", "가방");
+        assertThat(texts(trie.complete("강", 10))).containsExactly("강의");
+    }
+
+    @Test
+    @DisplayName(value = "대소문자, 악센트, 문장부호는 무시한다")
+    public void normalize() {
+        // given
+        trie.put(video(1, "Let's Play Café!", 10));
+
+        // when / then
+        assertThat(texts(trie.complete("LET S", 10))).containsExactly("Let's Play Café!");
+        assertThat(texts(trie.complete("let's play cafe", 10))).containsExactly("Let's Play Café!");
+    }
+
+    @Test
+    @DisplayName(value = "노드마다 상위 k 개만 들고 있어도 삭제 후에는 다음 후보가 올라온다")
+    public void removeRecomputesTopK() {
+        // given
+        for (int i = 1; i <= 5; i++) {
+            trie.put(video(i, "게임 " + i, i * 10));
+        }
+
+        // when
+        trie.remove(SuggestionType.VIDEO, 5);
+        trie.remove(SuggestionType.VIDEO, 4);
+
+        // then
+        assertThat(texts(trie.complete("게임", 10))).containsExactly("게임 3", "게임 2", "게임 1");
+        assertThat(trie.size()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName(value = "제목이나 조회수가 바뀌면 기존 후보를 대체한다")
+    public void putReplaces() {
+        // given
+        trie.put(video(1, "여행 브이로그", 10));
+        trie.put(video(2, "여행 맛집", 20));
+
+        // when
+        trie.put(video(1, "캠핑 브이로그", 10));
+        trie.put(video(2, "여행 맛집", 5));
+        trie.put(video(3, "여행 준비물", 7));
+
+        // then
+        assertThat(texts(trie.complete("여행", 10))).containsExactly("여행 준비물", "여행 맛집");
+        assertThat(texts(trie.complete("캠", 10))).containsExactly("캠핑 브이로그");
+        assertThat(trie.complete("여행 브", 10)).isEmpty();
+    }
+
+    private static Suggestion video(int idx, String title, long views) {
+        return new Suggestion(SuggestionType.VIDEO, idx, title, views);
+    }
+
+    private static List<String> texts(List<Suggestion> suggestions) {
+        return suggestions.stream().map(Suggestion::text).toList();
+    }
+}
@@ -0,0 +1,198 @@
+package com.dabom.together.service;
+
+import com.dabom.member.model.entity.Member;
+import com.dabom.member.repository.MemberRepository;
+import com.dabom.member.security.dto.MemberDetailsDto;
+import com.dabom.together.exception.TogetherException;
+import com.dabom.together.exception.TogetherExceptionType;
+import com.dabom.together.model.entity.Together;
+import com.dabom.together.repository.TogetherJoinMemberRepository;
+import com.dabom.together.repository.TogetherRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+import static com.dabom.together.exception.TogetherExceptionType.ALREADY_JOIN_MEMBER;
+import static com.dabom.together.exception.TogetherExceptionType.MAX_TOGETHER_MEMBER;
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 실제 DB 의 행 잠금으로 정원을 지키는지 보는 테스트라 DB 가 있을 때만 돈다
+// DB_URL=... ./gradlew test --tests '*TogetherAdmissionConcurrencyTest*'
+@SpringBootTest
+@EnabledIfEnvironmentVariable(named = "DB_URL", matches = ".+")
+class TogetherAdmissionConcurrencyTest {
+
+    private static final int MAX_MEMBER = 20;
+    private static final int JOINERS = 300;
+    private static final int THREADS = 64;
+
+    @Autowired
+    private TogetherJoinMemberService togetherJoinMemberService;
+    @Autowired
+    private TogetherRepository togetherRepository;
+    @Autowired
+    private TogetherJoinMemberRepository togetherJoinMemberRepository;
+    @Autowired
+    private MemberRepository memberRepository;
+
+    private final List<Member> joiners = new ArrayList<>();
+    private Member master;
+    private Together together;
+
+    @BeforeEach
+    void setUp() {
+        String prefix = UUID.randomUUID().toString().substring(0, 8);
+        master = memberRepository.save(member(prefix, "master"));
+        List<Member> members = new ArrayList<>();
+        for (int i = 0; i < JOINERS; i++) {
+            members.add(member(prefix, "joiner" + i));
+        }
+        joiners.addAll(memberRepository.saveAll(members));
+        together = togetherRepository.save(Together.builder()
+                .title("동시 입장 테스트")
+                .videoUrl("testUrl")
+                .master(master)
+                .isOpen(true)
+                .isDelete(false)
+                .maxMemberNum(MAX_MEMBER)
+                .build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        togetherJoinMemberRepository.deleteAll(togetherJoinMemberRepository.findByTogether(together));
+        togetherRepository.delete(together);
+        memberRepository.deleteAll(joiners);
+        memberRepository.delete(master);
+    }
+
+    @Test
+    @DisplayName(value = "수백 명이 동시에 입장해도 정원을 넘지 않고 인원 수도 어긋나지 않는다")
+    public void concurrentJoinsRespectCap() throws InterruptedException {
+        // when
+        Outcome outcome = runConcurrently(joiners, MAX_TOGETHER_MEMBER,
+                member -> togetherJoinMemberService.joinNewTogetherMember(together.getIdx(), detailsOf(member)));
+
+        // then (방장이 한 자리를 쓴다)
+        assertThat(outcome.unexpected).isEmpty();
+        assertThat(outcome.succeeded.get()).isEqualTo(MAX_MEMBER - 1);
+        assertThat(outcome.rejected.get()).isEqualTo(JOINERS - (MAX_MEMBER - 1));
+        assertThat(togetherRepository.findJoinMemberNumByIdx(together.getIdx())).isEqualTo(MAX_MEMBER);
+        assertThat(activeJoinCount()).isEqualTo(MAX_MEMBER - 1);
+    }
+
+    @Test
+    @DisplayName(value = "같은 회원의 나가기가 동시에 겹쳐도 인원은 한 번만 줄고 방장 자리 아래로 내려가지 않는다")
+    public void concurrentLeavesNeverDrift() throws InterruptedException {
+        // given
+        List<Member> admitted = joiners.subList(0, MAX_MEMBER - 1);
+        admitted.forEach(member -> togetherJoinMemberService.joinNewTogetherMember(together.getIdx(), detailsOf(member)));
+        List<Member> leaves = new ArrayList<>(admitted);
+        leaves.addAll(admitted);
+        leaves.addAll(admitted);
+
+        // when
+        Outcome outcome = runConcurrently(leaves, null,
+                member -> togetherJoinMemberService.leaveTogetherMember(together.getIdx(), detailsOf(member)));
+
+        // then
+        assertThat(outcome.unexpected).isEmpty();
+        assertThat(togetherRepository.findJoinMemberNumByIdx(together.getIdx())).isEqualTo(1);
+        assertThat(activeJoinCount()).isZero();
+    }
+
+    @Test
+    @DisplayName(value = "같은 회원의 입장이 동시에 겹쳐도 참여 기록은 하나이고 자리도 하나만 쓴다")
+    public void concurrentDuplicateJoinsTakeOneSeat() throws InterruptedException {
+        // given
+        Member member = joiners.get(0);
+        List<Member> joins = new ArrayList<>();
+        for (int i = 0; i < THREADS; i++) {
+            joins.add(member);
+        }
+
+        // when
+        Outcome outcome = runConcurrently(joins, ALREADY_JOIN_MEMBER,
+                joiner -> togetherJoinMemberService.joinNewTogetherMember(together.getIdx(), detailsOf(joiner)));
+
+        // then (먼저 들어간 요청이 끝난 뒤 온 요청은 기존 기록을 보고 그대로 성공한다)
+        assertThat(outcome.unexpected).isEmpty();
+        assertThat(outcome.succeeded.get()).isPositive();
+        assertThat(outcome.succeeded.get() + outcome.rejected.get()).isEqualTo(THREADS);
+        assertThat(togetherJoinMemberRepository.findByTogether(together)).hasSize(1);
+        assertThat(togetherRepository.findJoinMemberNumByIdx(together.getIdx())).isEqualTo(2);
+    }
+
+    // ===== ===== //
+    // expectedRejection 으로 실패한 요청은 rejected 로, 나머지 실패는 unexpected 로 센다
+    private Outcome runConcurrently(List<Member> members, TogetherExceptionType expectedRejection,
+                                    Consumer<Member> action) throws InterruptedException {
+        Outcome outcome = new Outcome();
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(members.size());
+        for (Member member : members) {
+            executor.submit(() -> {
+                try {
+                    start.await();
+                    action.accept(member);
+                    outcome.succeeded.incrementAndGet();
+                } catch (TogetherException e) {
+                    if (e.getExceptionType() == expectedRejection) {
+                        outcome.rejected.incrementAndGet();
+                    } else {
+                        outcome.unexpected.add(e);
+                    }
+                } catch (Throwable e) {
+                    outcome.unexpected.add(e);
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+        start.countDown();
+        assertThat(done.await(60, TimeUnit.SECONDS)).isTrue();
+        executor.shutdown();
+        return outcome;
+    }
+
+    private long activeJoinCount() {
+        return togetherJoinMemberRepository.findByTogether(together).stream()
+                .filter(joinMember -> !joinMember.getIsDelete())
+                .count();
+    }
+
+    private MemberDetailsDto detailsOf(Member member) {
+        return MemberDetailsDto.createFromToken(member.getIdx(), member.getName(), "USER");
+    }
+
+    private Member member(String prefix, String name) {
+        return Member.builder()
+                .name(prefix + "-" + name)
+                .email(prefix + "-" + name + "@test.com")
+                .memberRole("USER")
+                .password("testPassword")
+                .build();
+    }
+
+    private static final class Outcome {
+        private final AtomicInteger succeeded = new AtomicInteger();
+        private final AtomicInteger rejected = new AtomicInteger();
+        private final ConcurrentLinkedQueue<Throwable> unexpected = new ConcurrentLinkedQueue<>();
+    }
+}
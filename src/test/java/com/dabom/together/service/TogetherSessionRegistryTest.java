@@ -0,0 +1,76 @@
+package com.dabom.together.service;
+
+import com.dabom.together.model.dto.response.TogetherChatType;
+import com.dabom.together.service.TogetherSessionRegistry.Presence;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TogetherSessionRegistryTest {
+
+    private final TogetherSessionRegistry registry = new TogetherSessionRegistry();
+
+    @Test
+    @DisplayName(value = "같은 회원이 탭 두 개로 들어오면 한 명으로 세고, 마지막 탭이 나갈 때 퇴장한다")
+    public void multipleTabsCountedOnce() {
+        // given
+        Optional<Presence> first = registry.join("s1", "sub-1", 1, 10);
+        Optional<Presence> second = registry.join("s2", "sub-1", 1, 10);
+
+        // when
+        List<Presence> firstClosed = registry.disconnect("s1");
+        List<Presence> lastClosed = registry.disconnect("s2");
+
+        // then
+        assertThat(first).contains(new Presence(TogetherChatType.JOIN, 10, 1, 1));
+        assertThat(second).isEmpty();
+        assertThat(firstClosed).isEmpty();
+        assertThat(lastClosed).containsExactly(new Presence(TogetherChatType.LEAVE, 10, 1, 0));
+    }
+
+    @Test
+    @DisplayName(value = "연결이 끊기면 그 세션이 구독한 방에서만 빠지고, 빈 방은 지운다")
+    public void disconnectOnlyTouchesSubscribedRooms() {
+        // given
+        registry.join("s1", "sub-1", 1, 10);
+        registry.join("s1", "sub-2", 1, 20);
+        registry.join("s2", "sub-1", 2, 20);
+        registry.join("s3", "sub-1", 3, 30);
+
+        // when
+        List<Presence> changes = registry.disconnect("s1");
+
+        // then
+        assertThat(changes).containsExactlyInAnyOrder(
+                new Presence(TogetherChatType.LEAVE, 10, 1, 0),
+                new Presence(TogetherChatType.LEAVE, 20, 1, 1));
+        assertThat(registry.memberCount(10)).isZero();
+        assertThat(registry.memberCount(20)).isEqualTo(1);
+        assertThat(registry.memberCount(30)).isEqualTo(1);
+        assertThat(registry.roomCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName(value = "구독 해제는 해당 구독의 방에서만 빠지고, 끊긴 뒤에는 다시 빠지지 않는다")
+    public void unsubscribeThenDisconnect() {
+        // given
+        registry.join("s1", "sub-1", 1, 10);
+        registry.join("s1", "sub-2", 1, 20);
+
+        // when
+        Optional<Presence> left = registry.leave("s1", "sub-1");
+        Optional<Presence> unknown = registry.leave("s1", "sub-1");
+        List<Presence> changes = registry.disconnect("s1");
+
+        // then
+        assertThat(left).contains(new Presence(TogetherChatType.LEAVE, 10, 1, 0));
+        assertThat(unknown).isEmpty();
+        assertThat(changes).containsExactly(new Presence(TogetherChatType.LEAVE, 20, 1, 0));
+        assertThat(registry.disconnect("s1")).isEmpty();
+        assertThat(registry.roomCount()).isZero();
+    }
+}
@@ -0,0 +1,75 @@
+package com.dabom.video.model;
+
+import com.dabom.video.exception.VideoException;
+import com.dabom.video.exception.VideoExceptionType;
+import org.assertj.core.api.ThrowableAssert.ThrowingCallable;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class VideoCursorTest {
+
+    @Test
+    @DisplayName(value = "인코딩한 커서를 디코딩하면 같은 (created_at, idx) 가 나온다")
+    public void roundTrip() {
+        // given
+        VideoCursor cursor = new VideoCursor(LocalDateTime.of(2025, 8, 1, 12, 30, 15, 123_000_000), 42);
+
+        // when
+        VideoCursor decoded = VideoCursor.decode(cursor.encode());
+
+        // then
+        assertThat(decoded).isEqualTo(cursor);
+    }
+
+    @Test
+    @DisplayName(value = "인코딩한 순위 위치를 디코딩하면 같은 offset 이 나온다")
+    public void offsetRoundTrip() {
+        // when
+        Integer offset = VideoCursor.decodeOffset(VideoCursor.encodeOffset(40));
+
+        // then
+        assertThat(offset).isEqualTo(40);
+    }
+
+    @Test
+    @DisplayName(value = "비어 있는 커서는 첫 페이지(null)로 본다")
+    public void blankToken() {
+        // then
+        assertThat(VideoCursor.decode(null)).isNull();
+        assertThat(VideoCursor.decode(" ")).isNull();
+        assertThat(VideoCursor.decodeOffset("")).isNull();
+    }
+
+    @Test
+    @DisplayName(value = "형식이 맞지 않는 커서는 INVALID_CURSOR 예외를 던진다")
+    public void invalidToken() {
+        // then
+        assertInvalidCursor(() -> VideoCursor.decode("!!not-base64!!"));
+        assertInvalidCursor(() -> VideoCursor.decode("bm8tc2VwYXJhdG9y"));   // "no-separator"
+        assertInvalidCursor(() -> VideoCursor.decodeOffset("bm8tc2VwYXJhdG9y"));
+    }
+
+    @Test
+    @DisplayName(value = "최신순 커서와 순위 커서는 서로 바꿔 쓸 수 없다")
+    public void mismatchedKind() {
+        // given
+        String keyset = new VideoCursor(LocalDateTime.of(2025, 8, 1, 12, 0), 7).encode();
+        String rank = VideoCursor.encodeOffset(20);
+
+        // then
+        assertInvalidCursor(() -> VideoCursor.decode(rank));
+        assertInvalidCursor(() -> VideoCursor.decodeOffset(keyset));
+    }
+
+    private void assertInvalidCursor(ThrowingCallable call) {
+        assertThatThrownBy(call)
+                .isInstanceOf(VideoException.class)
+                .extracting(e -> ((VideoException) e).getExceptionType())
+                .isEqualTo(VideoExceptionType.INVALID_CURSOR);
+    }
+}
@@ -0,0 +1,176 @@
+package com.dabom.video.service.encoding;
+
+import com.dabom.video.model.EncodingJob;
+import com.dabom.video.model.EncodingJobStatus;
+import com.dabom.video.model.Video;
+import com.dabom.video.model.VideoStatus;
+import com.dabom.video.repository.EncodingJobRepository;
+import com.dabom.video.repository.VideoRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class EncodingJobServiceTest {
+    @InjectMocks
+    private EncodingJobService encodingJobService;
+
+    @Mock
+    private EncodingJobRepository encodingJobRepository;
+    @Mock
+    private VideoRepository videoRepository;
+
+    private static final Long JOB_IDX = 1L;
+    private static final Integer VIDEO_IDX = 10;
+    private static final String OWNER = "worker-a";
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(encodingJobService, "maxAttempts", 3);
+        ReflectionTestUtils.setField(encodingJobService, "leaseSeconds", 120L);
+        ReflectionTestUtils.setField(encodingJobService, "backoffSeconds", 30L);
+    }
+
+    @Test
+    @DisplayName(value = "다른 워커가 먼저 가져간 작업(claim 0건)은 읽지도 않고 건너뛴다")
+    public void claimRace() {
+        // given
+        when(encodingJobRepository.claim(eq(JOB_IDX), eq(OWNER), any(), any())).thenReturn(0);
+
+        // when
+        Optional<EncodingJob> claimed = encodingJobService.claim(JOB_IDX, OWNER);
+
+        // then
+        assertThat(claimed).isEmpty();
+        verify(encodingJobRepository, never()).findById(anyLong());
+        verify(videoRepository, never()).findById(any());
+    }
+
+    @Test
+    @DisplayName(value = "claim 으로 시도 횟수가 한도를 넘으면 실행하지 않고 실패 처리한다")
+    public void claimOverMaxAttempts() {
+        // given
+        EncodingJob job = job(EncodingJobStatus.RUNNING, 4, OWNER);
+        Video video = mock(Video.class);
+        when(encodingJobRepository.claim(eq(JOB_IDX), eq(OWNER), any(), any())).thenReturn(1);
+        when(encodingJobRepository.findById(JOB_IDX)).thenReturn(Optional.of(job));
+        when(videoRepository.findById(VIDEO_IDX)).thenReturn(Optional.of(video));
+
+        // when
+        Optional<EncodingJob> claimed = encodingJobService.claim(JOB_IDX, OWNER);
+
+        // then
+        assertThat(claimed).isEmpty();
+        assertThat(job.getStatus()).isEqualTo(EncodingJobStatus.FAILED);
+        assertThat(job.getLeaseOwner()).isNull();
+        verify(video).updateVideoStatus(VideoStatus.FAILED);
+    }
+
+    @Test
+    @DisplayName(value = "재시도 간격은 시도마다 2배로 늘고 MAX_BACKOFF_SECONDS 에서 멈춘다")
+    public void backoffCapped() {
+        // given
+        EncodingJob early = job(EncodingJobStatus.RUNNING, 3, OWNER);
+        EncodingJob late = job(EncodingJobStatus.RUNNING, 9, OWNER);
+        ReflectionTestUtils.setField(early, "maxAttempts", 10);
+        ReflectionTestUtils.setField(late, "maxAttempts", 10);
+        when(encodingJobRepository.findById(JOB_IDX)).thenReturn(Optional.of(early), Optional.of(late));
+        when(videoRepository.findById(VIDEO_IDX)).thenReturn(Optional.empty());
+
+        // when
+        LocalDateTime before = LocalDateTime.now();
+        encodingJobService.fail(JOB_IDX, OWNER, new IllegalStateException("ffmpeg"));
+        encodingJobService.fail(JOB_IDX, OWNER, new IllegalStateException("ffmpeg"));
+        LocalDateTime after = LocalDateTime.now();
+
+        // then
+        assertThat(early.getStatus()).isEqualTo(EncodingJobStatus.PENDING);
+        assertThat(early.getNextRunAt()).isBetween(before.plusSeconds(30 * 4), after.plusSeconds(30 * 4));
+        assertThat(late.getStatus()).isEqualTo(EncodingJobStatus.PENDING);
+        assertThat(late.getNextRunAt()).isBetween(before.plusSeconds(60 * 60), after.plusSeconds(60 * 60));
+    }
+
+    @Test
+    @DisplayName(value = "lease 가 만료된 작업은 시도 횟수를 그대로 두고 대기열로 돌린다")
+    public void recoverExpiredLeases() {
+        // given
+        EncodingJob job = job(EncodingJobStatus.RUNNING, 2, "dead-worker");
+        Video video = mock(Video.class);
+        when(encodingJobRepository.findExpiredLeases(any())).thenReturn(List.of(job));
+        when(videoRepository.findById(VIDEO_IDX)).thenReturn(Optional.of(video));
+
+        // when
+        int recovered = encodingJobService.recoverExpiredLeases();
+
+        // then
+        assertThat(recovered).isEqualTo(1);
+        assertThat(job.getStatus()).isEqualTo(EncodingJobStatus.PENDING);
+        assertThat(job.getAttempts()).isEqualTo(2);
+        assertThat(job.getLeaseOwner()).isNull();
+        verify(video).updateVideoStatus(VideoStatus.ENCODING_PENDING);
+    }
+
+    @Test
+    @DisplayName(value = "lease 를 잃은 워커의 완료 보고는 무시한다")
+    public void completeFromLostLease() {
+        // given
+        EncodingJob job = job(EncodingJobStatus.RUNNING, 2, "worker-b");
+        when(encodingJobRepository.findById(JOB_IDX)).thenReturn(Optional.of(job));
+
+        // when
+        encodingJobService.complete(JOB_IDX, OWNER);
+
+        // then
+        assertThat(job.getStatus()).isEqualTo(EncodingJobStatus.RUNNING);
+        assertThat(job.getLeaseOwner()).isEqualTo("worker-b");
+    }
+
+    @Test
+    @DisplayName(value = "이미 성공한 작업은 다시 등록해도 재실행하지 않고, 실패한 작업만 다시 대기열에 올린다")
+    public void enqueueOnlyRequeuesFailedJob() {
+        // given
+        EncodingJob succeeded = job(EncodingJobStatus.SUCCEEDED, 1, null);
+        EncodingJob failed = job(EncodingJobStatus.FAILED, 3, null);
+        when(encodingJobRepository.findByVideoIdx(VIDEO_IDX)).thenReturn(Optional.of(succeeded), Optional.of(failed));
+
+        // when
+        encodingJobService.enqueue(VIDEO_IDX);
+        encodingJobService.enqueue(VIDEO_IDX);
+
+        // then
+        assertThat(succeeded.getStatus()).isEqualTo(EncodingJobStatus.SUCCEEDED);
+        assertThat(failed.getStatus()).isEqualTo(EncodingJobStatus.PENDING);
+        assertThat(failed.getAttempts()).isZero();
+        verify(encodingJobRepository, never()).save(any());
+    }
+
+    private EncodingJob job(EncodingJobStatus status, int attempts, String leaseOwner) {
+        EncodingJob job = EncodingJob.builder()
+                .videoIdx(VIDEO_IDX)
+                .maxAttempts(3)
+                .build();
+        ReflectionTestUtils.setField(job, "idx", JOB_IDX);
+        ReflectionTestUtils.setField(job, "status", status);
+        ReflectionTestUtils.setField(job, "attempts", attempts);
+        ReflectionTestUtils.setField(job, "leaseOwner", leaseOwner);
+        return job;
+    }
+}
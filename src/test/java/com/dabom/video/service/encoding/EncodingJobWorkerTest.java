@@ -0,0 +1,86 @@
+package com.dabom.video.service.encoding;
+
+import com.dabom.video.model.EncodingJob;
+import com.dabom.video.service.VideoEncodingService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class EncodingJobWorkerTest {
+    @InjectMocks
+    private EncodingJobWorker encodingJobWorker;
+
+    @Mock
+    private EncodingJobService encodingJobService;
+    @Mock
+    private VideoEncodingService videoEncodingService;
+    @Mock
+    private ThreadPoolTaskExecutor ffmpegExecutor;
+    @Mock
+    private EncodingProgressTracker encodingProgressTracker;
+
+    private String workerId;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(encodingJobWorker, "workers", 2);
+        workerId = (String) ReflectionTestUtils.getField(encodingJobWorker, "workerId");
+    }
+
+    @Test
+    @DisplayName(value = "다른 워커가 먼저 가져간 작업은 실행하지 않는다")
+    public void skipLostClaim() {
+        // given
+        when(encodingJobService.findRunnableJobIds(2)).thenReturn(List.of(1L));
+        when(encodingJobService.claim(1L, workerId)).thenReturn(Optional.empty());
+
+        // when
+        encodingJobWorker.poll();
+
+        // then
+        verify(ffmpegExecutor, never()).execute(any(Runnable.class));
+        assertThat(runningJobs()).isEmpty();
+    }
+
+    @Test
+    @DisplayName(value = "실행 풀이 가득 차서 거절되면 잡은 작업을 시도 횟수 차감 없이 반납한다")
+    public void releaseRejectedJob() {
+        // given
+        EncodingJob job = EncodingJob.builder().videoIdx(10).maxAttempts(3).build();
+        ReflectionTestUtils.setField(job, "idx", 1L);
+        when(encodingJobService.findRunnableJobIds(2)).thenReturn(List.of(1L));
+        when(encodingJobService.claim(1L, workerId)).thenReturn(Optional.of(job));
+        doThrow(new TaskRejectedException("full")).when(ffmpegExecutor).execute(any(Runnable.class));
+
+        // when
+        encodingJobWorker.poll();
+
+        // then
+        verify(encodingJobService).release(1L, workerId);
+        assertThat(runningJobs()).isEmpty();
+    }
+
+    @SuppressWarnings("unchecked")
+    private Set<Long> runningJobs() {
+        return (Set<Long>) ReflectionTestUtils.getField(encodingJobWorker, "runningJobs");
+    }
+}
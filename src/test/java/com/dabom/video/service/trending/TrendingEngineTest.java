@@ -0,0 +1,101 @@
+package com.dabom.video.service.trending;
+
+import com.dabom.video.model.VideoTag;
+import com.dabom.video.repository.TrendingSnapshotRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.offset;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class TrendingEngineTest {
+    @InjectMocks
+    private TrendingEngine trendingEngine;
+
+    @Mock
+    private TrendingSnapshotRepository trendingSnapshotRepository;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(trendingEngine, "halfLifeHours", 6.0);
+        ReflectionTestUtils.setField(trendingEngine, "topK", 3);
+        ReflectionTestUtils.setField(trendingEngine, "minScore", 0.05);
+        ReflectionTestUtils.setField(trendingEngine, "viewWeight", 1.0);
+        ReflectionTestUtils.setField(trendingEngine, "scoreWeight", 3.0);
+        ReflectionTestUtils.setField(trendingEngine, "commentWeight", 5.0);
+        when(trendingSnapshotRepository.findAll()).thenReturn(List.of());
+        trendingEngine.init();
+    }
+
+    @Test
+    @DisplayName(value = "이벤트 순서와 상관없이 점수 상위 K 개를 정확히 유지한다")
+    public void topK() {
+        // given - 영상 n 은 n 번 조회된다. 이벤트는 섞어서 넣는다
+        List<Integer> views = new ArrayList<>(IntStream.rangeClosed(1, 20)
+                .boxed()
+                .flatMap(videoIdx -> IntStream.range(0, videoIdx).mapToObj(i -> videoIdx))
+                .toList());
+        Collections.shuffle(views, new Random(42));
+
+        // when
+        views.forEach(videoIdx -> trendingEngine.record(videoIdx, VideoTag.GAMING, TrendingEventType.VIEW));
+
+        // then
+        assertThat(trendingEngine.top(null, 10))
+                .extracting(TrendingEntry::videoIdx)
+                .containsExactly(20, 19, 18);
+        assertThat(trendingEngine.top(VideoTag.GAMING, 10))
+                .extracting(TrendingEntry::videoIdx)
+                .containsExactly(20, 19, 18);
+        assertThat(trendingEngine.top(VideoTag.MUSIC, 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName(value = "태그가 바뀐 영상은 이전 태그 순위에서 빠진다")
+    public void tagChanged() {
+        // given
+        trendingEngine.record(1, VideoTag.GAMING, TrendingEventType.COMMENT);
+        trendingEngine.record(2, VideoTag.GAMING, TrendingEventType.VIEW);
+
+        // when
+        trendingEngine.record(1, VideoTag.MUSIC, TrendingEventType.VIEW);
+
+        // then
+        assertThat(trendingEngine.top(VideoTag.GAMING, 10))
+                .extracting(TrendingEntry::videoIdx)
+                .containsExactly(2);
+        assertThat(trendingEngine.top(VideoTag.MUSIC, 10))
+                .extracting(TrendingEntry::videoIdx)
+                .containsExactly(1);
+    }
+
+    @Test
+    @DisplayName(value = "스냅샷 후에도 점수와 순위가 유지된다")
+    public void snapshot() {
+        // given
+        trendingEngine.record(1, VideoTag.NEWS, TrendingEventType.SCORE, 1.0);
+        trendingEngine.record(2, VideoTag.NEWS, TrendingEventType.VIEW);
+
+        // when
+        trendingEngine.snapshot();
+
+        // then
+        List<TrendingEntry> ranking = trendingEngine.top(null, 10);
+        assertThat(ranking).extracting(TrendingEntry::videoIdx).containsExactly(1, 2);
+        assertThat(ranking.get(0).score()).isCloseTo(3.0, offset(0.01));
+    }
+}
@@ -0,0 +1,151 @@
+package com.dabom.video.service.utils;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class ChunkedFfmpegEncoderTest {
+
+    @Test
+    @DisplayName(value = "목표 지점에 가장 가까운 키프레임에서 청크를 나눈다")
+    public void planChunks() {
+        // given
+        List<Double> keyframes = List.of(58.0, 62.0, 119.0, 124.0, 181.0);
+        List<Double> targets = List.of(60.0, 120.0, 180.0);
+
+        // when
+        List<EncodingChunk> chunks = ChunkedFfmpegEncoder.planChunks(keyframes, targets, 230.0);
+
+        // then
+        assertThat(chunks).extracting(EncodingChunk::startSeconds).containsExactly(0.0, 58.0, 119.0, 181.0);
+        assertThat(chunks.get(chunks.size() - 1).endSeconds()).isEqualTo(230.0);
+    }
+
+    @Test
+    @DisplayName(value = "키프레임이 없으면 청크를 나누지 않는다")
+    public void planChunksWithoutKeyframes() {
+        // when
+        List<EncodingChunk> chunks = ChunkedFfmpegEncoder.planChunks(List.of(), List.of(60.0, 120.0), 150.0);
+
+        // then
+        assertThat(chunks).isEmpty();
+    }
+
+    // FFMPEG_BENCHMARK=true ./gradlew test --tests '*ChunkedFfmpegEncoderTest*' -i
+    // lavfi 로 만든 합성 영상을 단일 프로세스 / 청크 병렬로 각각 인코딩해 걸린 시간을 비교한다
+    @Test
+    @EnabledIfEnvironmentVariable(named = "FFMPEG_BENCHMARK", matches = "true")
+    @DisplayName(value = "청크 병렬 인코딩 벤치마크")
+    public void benchmark(@TempDir Path tempDir) throws Exception {
+        // given
+        int seconds = Integer.parseInt(System.getenv().getOrDefault("FFMPEG_BENCHMARK_SECONDS", "240"));
+        String source = createSyntheticClip(tempDir, seconds);
+
+        ThreadPoolTaskExecutor outputExecutor = executor(16);
+        ThreadPoolTaskExecutor chunkExecutor = executor(4);
+        FfmpegEncoder ffmpegEncoder = ffmpegEncoder(outputExecutor);
+        FfprobeClient ffprobeClient = ffprobeClient();
+        ChunkedFfmpegEncoder chunkedEncoder = chunkedEncoder(ffmpegEncoder, ffprobeClient, chunkExecutor);
+
+        // when
+        long singleStart = System.nanoTime();
+        HlsOutput single = ffmpegEncoder.encode(source);
+        long singleMillis = (System.nanoTime() - singleStart) / 1_000_000;
+
+        long chunkedStart = System.nanoTime();
+        EncodingPlan plan = ffmpegEncoder.defaultPlan();
+        List<EncodingChunk> chunks = chunkedEncoder.plan(source, plan, ffprobeClient.inspect(source));
+        HlsOutput chunked = chunkedEncoder.encode(source, plan, chunks, FfmpegProgressListener.NONE);
+        long chunkedMillis = (System.nanoTime() - chunkedStart) / 1_000_000;
+
+        // then
+        System.out.printf("[benchmark] %ds 1080p 원본 - 단일 프로세스: %dms, 청크 %d개 병렬: %dms (x%.2f)%n",
+                seconds, singleMillis, chunks.size(), chunkedMillis, (double) singleMillis / chunkedMillis);
+
+        assertThat(chunks).hasSizeGreaterThan(1);
+        assertThat(playlistSeconds(Paths.get(chunked.directory(), "720p.m3u8")))
+                .isCloseTo(playlistSeconds(Paths.get(single.directory(), "720p.m3u8")), within(1.0));
+
+        deleteDirectory(Paths.get(single.directory()));
+        deleteDirectory(Paths.get(chunked.directory()));
+        outputExecutor.shutdown();
+        chunkExecutor.shutdown();
+    }
+
+    // ===== ===== //
+    private String createSyntheticClip(Path tempDir, int seconds) throws Exception {
+        Path clip = tempDir.resolve("source.mp4");
+        Process process = new ProcessBuilder(
+                "ffmpeg", "-hide_banner", "-loglevel", "error",
+                "-f", "lavfi", "-i", "testsrc2=size=1920x1080:rate=30:duration=" + seconds,
+                "-f", "lavfi", "-i", "sine=frequency=440:duration=" + seconds,
+                "-c:v", "libx264", "-preset", "ultrafast", "-g", "60",
+                "-c:a", "aac", "-movflags", "+faststart",
+                "-y", clip.toString()
+        ).inheritIO().start();
+        assertThat(process.waitFor()).isZero();
+        return clip.toString();
+    }
+
+    private FfmpegEncoder ffmpegEncoder(ThreadPoolTaskExecutor outputExecutor) {
+        FfmpegEncoder encoder = new FfmpegEncoder(outputExecutor);
+        ReflectionTestUtils.setField(encoder, "ffmpegPath", "ffmpeg");
+        ReflectionTestUtils.setField(encoder, "hlsSegmentDuration", 6);
+        ReflectionTestUtils.setField(encoder, "hlsLadder", "720:2800:128,360:800:64");
+        ReflectionTestUtils.setField(encoder, "x264Preset", "veryfast");
+        ReflectionTestUtils.setField(encoder, "remuxCompatible", false);
+        return encoder;
+    }
+
+    private FfprobeClient ffprobeClient() {
+        FfprobeClient ffprobeClient = new FfprobeClient(new ObjectMapper());
+        ReflectionTestUtils.setField(ffprobeClient, "ffprobePath", "ffprobe");
+        return ffprobeClient;
+    }
+
+    private ChunkedFfmpegEncoder chunkedEncoder(FfmpegEncoder ffmpegEncoder, FfprobeClient ffprobeClient,
+                                                ThreadPoolTaskExecutor chunkExecutor) {
+        ChunkedFfmpegEncoder encoder = new ChunkedFfmpegEncoder(ffmpegEncoder, ffprobeClient, chunkExecutor);
+        ReflectionTestUtils.setField(encoder, "enabled", true);
+        ReflectionTestUtils.setField(encoder, "minDurationSeconds", 0.0);
+        ReflectionTestUtils.setField(encoder, "targetSeconds", 60.0);
+        ReflectionTestUtils.setField(encoder, "parallelism", 4);
+        return encoder;
+    }
+
+    private ThreadPoolTaskExecutor executor(int size) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(size);
+        executor.setMaxPoolSize(size);
+        executor.initialize();
+        return executor;
+    }
+
+    private double playlistSeconds(Path playlist) throws IOException {
+        return Files.readAllLines(playlist).stream()
+                .filter(line -> line.startsWith("#EXTINF:"))
+                .mapToDouble(line -> Double.parseDouble(line.substring(8, line.indexOf(','))))
+                .sum();
+    }
+
+    private void deleteDirectory(Path directory) throws IOException {
+        try (Stream<Path> files = Files.walk(directory)) {
+            files.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package com.dabom.video.service.utils;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class FfmpegOutputReaderTest {
+
+    @Test
+    @DisplayName(value = "ffmpeg 출력에 섞인 presigned URL 의 서명 파라미터를 가린다")
+    public void redactPresignedUrl() {
+        // given
+        String line = "[in#0 @ 0x1] Error opening input: https://bucket.s3.amazonaws.com/videos/a.mp4"
+                + "?X-Amz-Algorithm=AWS4-HMAC-SHA256&X-Amz-Credential=AKIA%2F20260101&X-Amz-Signature=abc123 "
+                + "Server returned 403 Forbidden";
+
+        // when
+        String redacted = FfmpegOutputReader.redact(line);
+
+        // then
+        assertThat(redacted)
+                .doesNotContain("AKIA", "abc123", "AWS4-HMAC-SHA256")
+                .contains("X-Amz-Signature=***", "videos/a.mp4", "403 Forbidden");
+    }
+}
@@ -0,0 +1,61 @@
+package com.dabom.video.service.view;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.withinPercentage;
+
+class HyperLogLogTest {
+
+    @Test
+    @DisplayName(value = "고유 시청자 수를 오차 5% 이내로 추정한다")
+    public void estimate() {
+        // given
+        HyperLogLog sketch = new HyperLogLog();
+
+        // when
+        for (int i = 0; i < 100_000; i++) {
+            sketch.offer("m:" + i);
+        }
+
+        // then
+        assertThat(sketch.estimate()).isCloseTo(100_000L, withinPercentage(5));
+    }
+
+    @Test
+    @DisplayName(value = "같은 시청자가 여러 번 봐도 한 명으로 센다")
+    public void duplicatedViewer() {
+        // given
+        HyperLogLog sketch = new HyperLogLog();
+
+        // when
+        for (int i = 0; i < 1_000; i++) {
+            sketch.offer("m:" + (i % 10));
+        }
+
+        // then
+        assertThat(sketch.estimate()).isEqualTo(10L);
+    }
+
+    @Test
+    @DisplayName(value = "두 스케치를 합치면 합집합의 크기를 추정한다")
+    public void merge() {
+        // given
+        HyperLogLog first = new HyperLogLog();
+        HyperLogLog second = new HyperLogLog();
+        for (int i = 0; i < 30_000; i++) {
+            first.offer("a:" + i);
+        }
+        for (int i = 20_000; i < 50_000; i++) {
+            second.offer("a:" + i);
+        }
+
+        // when
+        first.merge(second);
+
+        // then
+        assertThat(first.estimate()).isCloseTo(50_000L, withinPercentage(5));
+        assertThat(HyperLogLog.fromBytes(first.toBytes())).isEqualTo(first);
+    }
+}